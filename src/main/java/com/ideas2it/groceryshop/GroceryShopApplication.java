@@ -3,6 +3,7 @@ package com.ideas2it.groceryshop;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * <p>
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * </p>
  */
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class GroceryShopApplication {
 	public static void main(String[] args) {
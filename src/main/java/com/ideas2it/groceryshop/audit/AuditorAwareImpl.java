@@ -37,8 +37,9 @@ public class AuditorAwareImpl implements AuditorAware<Integer> {
     @Override
     public Optional<Integer> getCurrentAuditor() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null) {
-            return Optional.of(((CustomUserDetails) authentication.getPrincipal()).getUser().getId());
+        if (authentication != null
+                && authentication.getPrincipal() instanceof CustomUserDetails) {
+            return Optional.of(((CustomUserDetails) authentication.getPrincipal()).getUserId());
         }
         return Optional.empty();
     }
@@ -0,0 +1,32 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <p>
+ *     Immutable copy of lines and totals of a cart taken at one point, so
+ *     totals always match lines. Total price is in minor units (paise).
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Getter
+@AllArgsConstructor
+public final class CartContents {
+
+    private final List<CartLine> lines;
+
+    private final long totalPrice;
+
+    private final int totalQuantity;
+}
@@ -0,0 +1,159 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ *     Append-only journal of cart changes not yet saved, kept as numbered
+ *     segment files in a directory. Changes are appended to current
+ *     segment, segment is rotated when a flush starts and rotated segments
+ *     are deleted once flush has saved all their changes. Segments left by
+ *     a crash are replayed when application starts.
+ * </p>
+ *
+ * <p>
+ *     Each record is flushed to operating system when appended, so records
+ *     survive a crash of application but not of host.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class CartJournal {
+
+    private static final String PREFIX = "cart-journal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private long sequence;
+    private BufferedWriter writer;
+
+    /**
+     * <p>
+     *     Opens journal in given directory and starts a new segment after
+     *     segments already in it.
+     * </p>
+     *
+     * @param directory    - Directory of segment files, created if missing.
+     * @throws IOException - If directory or segment cannot be created.
+     */
+    public CartJournal(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+        TreeMap<Long, Path> segments = getSegments();
+        this.sequence = segments.isEmpty() ? 0 : segments.lastKey();
+        openSegment();
+    }
+
+    /**
+     * <p>
+     *     Appends records to current segment with a single flush.
+     * </p>
+     *
+     * @param records      - Single line records.
+     * @throws IOException - If records cannot be written.
+     */
+    public synchronized void append(List<String> records) throws IOException {
+        for (String record : records) {
+            writer.write(record);
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
+    /**
+     * <p>
+     *     Closes current segment and starts a new one. Records appended
+     *     before rotate are in segments deleted by {@link #deleteRotated()}.
+     * </p>
+     *
+     * @throws IOException - If new segment cannot be created.
+     */
+    public synchronized void rotate() throws IOException {
+        writer.close();
+        openSegment();
+    }
+
+    /**
+     * <p>
+     *     Reads records of all segments before current one, oldest first.
+     * </p>
+     *
+     * @return             - Records in the order they were appended.
+     * @throws IOException - If a segment cannot be read.
+     */
+    public synchronized List<String> readRotated() throws IOException {
+        List<String> records = new ArrayList<>();
+        for (Path segment : getSegments().headMap(sequence).values()) {
+            for (String record : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                if (!record.isEmpty()) {
+                    records.add(record);
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * <p>
+     *     Deletes all segments before current one.
+     * </p>
+     *
+     * @throws IOException - If a segment cannot be deleted.
+     */
+    public synchronized void deleteRotated() throws IOException {
+        for (Path segment : getSegments().headMap(sequence).values()) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    /**
+     * <p>
+     *     Closes current segment.
+     * </p>
+     *
+     * @throws IOException - If segment cannot be closed.
+     */
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    private void openSegment() throws IOException {
+        sequence++;
+        writer = Files.newBufferedWriter(directory.resolve(PREFIX + sequence + SUFFIX),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    private TreeMap<Long, Path> getSegments() throws IOException {
+        TreeMap<Long, Path> segments = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    segments.put(Long.parseLong(name.substring(PREFIX.length(),
+                            name.length() - SUFFIX.length())), file);
+                } catch (NumberFormatException numberFormatException) {
+                    // not a segment of this journal
+                }
+            }
+        }
+        return segments;
+    }
+}
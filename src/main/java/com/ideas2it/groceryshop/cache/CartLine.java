@@ -0,0 +1,54 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <p>
+ *     Immutable line of a cart held in cart store. Unit price is price of
+ *     product when line was last changed and price is price of line as
+ *     saved, both in minor units (paise) so totals of a cart are exact.
+ *     Names are kept so cart can be shown without loading products.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Getter
+@AllArgsConstructor
+public final class CartLine {
+
+    private final int productId;
+
+    private final String productName;
+
+    private final String subCategoryName;
+
+    private final String categoryName;
+
+    private final long unitPrice;
+
+    private final int quantity;
+
+    private final long price;
+
+    /**
+     * <p>
+     *     Gets line with given quantity and unit price.
+     * </p>
+     *
+     * @param newQuantity  - Quantity of product.
+     * @param newUnitPrice - Current price of product in minor units.
+     * @return             - New line.
+     */
+    public CartLine withQuantity(int newQuantity, long newUnitPrice) {
+        return new CartLine(productId, productName, subCategoryName, categoryName,
+                newUnitPrice, newQuantity, newUnitPrice * newQuantity);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <p>
+ *     Immutable change of a cart applied by cart store. Add fails if
+ *     product is in cart, update and remove fail if it is not, merge adds a
+ *     line or adds its quantity to line of product and clear removes all
+ *     lines.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CartOperation {
+
+    public enum Type { ADD, MERGE, UPDATE, REMOVE, CLEAR }
+
+    private final Type type;
+
+    private final CartLine line;
+
+    private final int productId;
+
+    private final int quantity;
+
+    private final Long unitPrice;
+
+    public static CartOperation add(CartLine line) {
+        return new CartOperation(Type.ADD, line, line.getProductId(), line.getQuantity(), null);
+    }
+
+    public static CartOperation merge(CartLine line) {
+        return new CartOperation(Type.MERGE, line, line.getProductId(), line.getQuantity(),
+                                 null);
+    }
+
+    /**
+     * <p>
+     *     Gets operation changing quantity of a product in cart.
+     * </p>
+     *
+     * @param productId - Product in cart.
+     * @param quantity  - New quantity.
+     * @param unitPrice - Current price of product in minor units, null to
+     *                    keep price of line.
+     * @return          - Update operation.
+     */
+    public static CartOperation update(int productId, int quantity, Long unitPrice) {
+        return new CartOperation(Type.UPDATE, null, productId, quantity, unitPrice);
+    }
+
+    public static CartOperation remove(int productId) {
+        return new CartOperation(Type.REMOVE, null, productId, 0, null);
+    }
+
+    public static CartOperation clear() {
+        return new CartOperation(Type.CLEAR, null, 0, 0, null);
+    }
+}
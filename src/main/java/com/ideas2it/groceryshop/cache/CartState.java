@@ -0,0 +1,285 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>
+ *     Active cart of a user held in cart store. Lines are indexed by
+ *     product id in the order they were added and total price and quantity
+ *     are adjusted by each change, so a change costs one map lookup however
+ *     many lines cart has. Prices are exact sums of minor units. Cart id and
+ *     created date are those of saved cart, null until cart is first saved.
+ *     Dirty cart has changes not yet saved.
+ * </p>
+ *
+ * <p>
+ *     All methods lock the cart, so a change and its check are atomic.
+ *     Saves of cart hold a separate save lock, so cart can be changed
+ *     while it is saved and saves of a cart do not overtake each other.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class CartState {
+
+    private final int userId;
+    private final Map<Integer, CartLine> lines = new LinkedHashMap<>();
+    private final ReentrantLock saveLock = new ReentrantLock();
+    private Integer cartId;
+    private Date createdAt;
+    private long totalPrice;
+    private int totalQuantity;
+    private boolean dirty;
+
+    public CartState(int userId, Integer cartId, Date createdAt, List<CartLine> lines) {
+        this.userId = userId;
+        this.cartId = cartId;
+        this.createdAt = createdAt;
+        for (CartLine line : lines) {
+            replaceLine(this.lines.put(line.getProductId(), line), line);
+        }
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public synchronized Integer getCartId() {
+        return cartId;
+    }
+
+    public synchronized Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public synchronized boolean isEmpty() {
+        return lines.isEmpty();
+    }
+
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * <p>
+     *     Gets line of given product.
+     * </p>
+     *
+     * @param productId - Product in cart.
+     * @return          - Line, null if product is not in cart.
+     */
+    public synchronized CartLine getLine(int productId) {
+        return lines.get(productId);
+    }
+
+    /**
+     * <p>
+     *     Gets total price of all lines.
+     * </p>
+     *
+     * @return - Total price in minor units.
+     */
+    public synchronized long getTotalPrice() {
+        return totalPrice;
+    }
+
+    /**
+     * <p>
+     *     Gets total quantity of all lines.
+     * </p>
+     *
+     * @return - Total quantity.
+     */
+    public synchronized int getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    /**
+     * <p>
+     *     Gets copy of lines in the order they were added with their totals.
+     * </p>
+     *
+     * @return - Contents of cart.
+     */
+    public synchronized CartContents getContents() {
+        return new CartContents(new ArrayList<>(lines.values()), totalPrice, totalQuantity);
+    }
+
+    /**
+     * <p>
+     *     Adds line of a product not in cart.
+     * </p>
+     *
+     * @param line - Line to add.
+     * @return     - false if product is already in cart.
+     */
+    synchronized boolean addLine(CartLine line) {
+        if (lines.containsKey(line.getProductId())) {
+            return false;
+        }
+        replaceLine(lines.put(line.getProductId(), line), line);
+        dirty = true;
+        return true;
+    }
+
+    /**
+     * <p>
+     *     Changes quantity of a product in cart.
+     * </p>
+     *
+     * @param productId - Product in cart.
+     * @param quantity  - New quantity.
+     * @param unitPrice - Current price of product in minor units, null to
+     *                    keep price of line.
+     * @return          - Changed line, null if product is not in cart.
+     */
+    synchronized CartLine updateLine(int productId, int quantity, Long unitPrice) {
+        CartLine line = lines.get(productId);
+        if (line == null) {
+            return null;
+        }
+        CartLine updatedLine = line.withQuantity(quantity,
+                unitPrice == null ? line.getUnitPrice() : unitPrice);
+        lines.put(productId, updatedLine);
+        replaceLine(line, updatedLine);
+        dirty = true;
+        return updatedLine;
+    }
+
+    /**
+     * <p>
+     *     Adds line of a product, or adds its quantity to line of product
+     *     already in cart at unit price of given line.
+     * </p>
+     *
+     * @param line - Line to merge.
+     * @return     - Line of product in cart after merge.
+     */
+    synchronized CartLine mergeLine(CartLine line) {
+        CartLine oldLine = lines.get(line.getProductId());
+        CartLine mergedLine = oldLine == null ? line : oldLine.withQuantity(
+                Math.addExact(oldLine.getQuantity(), line.getQuantity()), line.getUnitPrice());
+        lines.put(mergedLine.getProductId(), mergedLine);
+        replaceLine(oldLine, mergedLine);
+        dirty = true;
+        return mergedLine;
+    }
+
+    /**
+     * <p>
+     *     Adds or replaces line of a product, used to replay journal.
+     * </p>
+     *
+     * @param line - Line to put.
+     */
+    synchronized void putLine(CartLine line) {
+        replaceLine(lines.put(line.getProductId(), line), line);
+        dirty = true;
+    }
+
+    /**
+     * <p>
+     *     Removes a product from cart.
+     * </p>
+     *
+     * @param productId - Product in cart.
+     * @return          - false if product is not in cart.
+     */
+    synchronized boolean removeLine(int productId) {
+        CartLine line = lines.remove(productId);
+        if (line == null) {
+            return false;
+        }
+        replaceLine(line, null);
+        dirty = true;
+        return true;
+    }
+
+    /**
+     * <p>
+     *     Removes all products from cart.
+     * </p>
+     */
+    synchronized void clear() {
+        lines.clear();
+        totalPrice = 0;
+        totalQuantity = 0;
+        dirty = true;
+    }
+
+    /**
+     * <p>
+     *     Takes lines of a dirty cart to save and marks cart clean. Cart is
+     *     marked dirty again if save fails.
+     * </p>
+     *
+     * @return - Contents to save, null if cart is not dirty.
+     */
+    synchronized CartContents takeChanges() {
+        if (!dirty) {
+            return null;
+        }
+        dirty = false;
+        return getContents();
+    }
+
+    /**
+     * <p>
+     *     Gets lock held while changes of cart are taken and saved.
+     * </p>
+     *
+     * @return - Save lock of cart.
+     */
+    ReentrantLock getSaveLock() {
+        return saveLock;
+    }
+
+    synchronized void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * <p>
+     *     Sets id and created date of saved cart, cleared when saved cart
+     *     had no lines and was deactivated.
+     * </p>
+     *
+     * @param savedCartId    - Id of saved cart, null if it was deactivated.
+     * @param savedCreatedAt - Created date of saved cart.
+     */
+    synchronized void setSaved(Integer savedCartId, Date savedCreatedAt) {
+        this.cartId = savedCartId;
+        this.createdAt = savedCreatedAt;
+    }
+
+    /**
+     * <p>
+     *     Adjusts totals for a line replaced by another.
+     * </p>
+     *
+     * @param oldLine - Line taken out, null if there was none.
+     * @param newLine - Line put in, null if there is none.
+     */
+    private void replaceLine(CartLine oldLine, CartLine newLine) {
+        if (oldLine != null) {
+            totalPrice -= oldLine.getPrice();
+            totalQuantity -= oldLine.getQuantity();
+        }
+        if (newLine != null) {
+            totalPrice += newLine.getPrice();
+            totalQuantity += newLine.getQuantity();
+        }
+    }
+}
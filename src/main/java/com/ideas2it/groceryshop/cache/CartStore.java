@@ -0,0 +1,624 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ideas2it.groceryshop.model.Cart;
+import com.ideas2it.groceryshop.service.CartStateService;
+
+/**
+ * <p>
+ *     Write-behind store of active carts by user id. Cart is loaded once,
+ *     changed in memory and every change is appended to a journal on local
+ *     disk. Changed carts are saved in batches on a schedule, so many
+ *     changes of a cart between two flushes cost one save. Cart of a user
+ *     is saved at once before an order is placed from it, and when it is
+ *     evicted from a full store.
+ * </p>
+ *
+ * <p>
+ *     Journal segments are deleted only after all carts changed in them
+ *     are saved, segments left by a crash are replayed on start. Lines of
+ *     a cart that cannot be saved are journaled again in current segment,
+ *     so a cart failing to save does not keep older segments. When store
+ *     is disabled every change is saved at once and no cart is kept.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Component
+public class CartStore {
+
+    private static final char SEPARATOR = '\t';
+    private static final String PUT = "P";
+    private static final String REMOVE = "R";
+    private static final String CLEAR = "C";
+
+    private final CartStateService cartStateService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Cache<Integer, CartState> carts;
+    private final Set<Integer> dirtyUserIds = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, CartState> unsavedEvictions = new ConcurrentHashMap<>();
+    private final CartJournal journal;
+    private final Timer flushTimer;
+    private final Logger logger = LogManager.getLogger(CartStore.class);
+
+    public CartStore(CartStateService cartStateService,
+                     @Value("${cart.store.enabled:false}") boolean enabled,
+                     @Value("${cart.store.max-size:100000}") long maxSize,
+                     @Value("${cart.store.batch-size:100}") int batchSize,
+                     @Value("${cart.store.journal-dir:cart-journal}") String journalDir,
+                     MeterRegistry meterRegistry) {
+        this.cartStateService = cartStateService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.carts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .evictionListener(this::onEviction)
+                .build();
+        try {
+            this.journal = enabled ? new CartJournal(Paths.get(journalDir)) : null;
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+        this.flushTimer = meterRegistry.timer("cart.store.flush");
+        meterRegistry.gaugeCollectionSize("cart.store.dirty", Tags.empty(), dirtyUserIds);
+    }
+
+    /**
+     * <p>
+     *     Gets active cart of given user, loads it on first use.
+     * </p>
+     *
+     * @param userId - To get cart.
+     * @return       - Cart of user, without lines if user has no active cart.
+     */
+    public CartState getCart(Integer userId) {
+        if (!enabled) {
+            return cartStateService.loadCart(userId);
+        }
+        CartState evicted = unsavedEvictions.remove(userId);
+        if (evicted != null) {
+            carts.asMap().putIfAbsent(userId, evicted);
+        }
+        return carts.get(userId, cartStateService::loadCart);
+    }
+
+    /**
+     * <p>
+     *     Applies operations to cart in the given order. All changes are
+     *     journaled with one write, and saved with one save when store is
+     *     disabled.
+     * </p>
+     *
+     * @param cart       - Cart of user.
+     * @param operations - Operations to apply.
+     * @return           - Whether each operation was applied.
+     */
+    public boolean[] apply(CartState cart, List<CartOperation> operations) {
+        boolean[] applied = new boolean[operations.size()];
+        boolean detached;
+        synchronized (cart) {
+            List<String> records = new ArrayList<>();
+            for (int index = 0; index < operations.size(); index++) {
+                String record = applyOperation(cart, operations.get(index));
+                if (record != null) {
+                    records.add(record);
+                    applied[index] = true;
+                }
+            }
+            if (records.isEmpty()) {
+                return applied;
+            }
+            detached = !journal(cart, records);
+        }
+        if (detached) {
+            saveChanges(cart, true);
+        }
+        return applied;
+    }
+
+    /**
+     * <p>
+     *     Adds line of a product not in cart.
+     * </p>
+     *
+     * @param cart - Cart of user.
+     * @param line - Line to add.
+     * @return     - false if product is already in cart.
+     */
+    public boolean addLine(CartState cart, CartLine line) {
+        return apply(cart, List.of(CartOperation.add(line)))[0];
+    }
+
+    /**
+     * <p>
+     *     Changes quantity of a product in cart.
+     * </p>
+     *
+     * @param cart      - Cart of user.
+     * @param productId - Product in cart.
+     * @param quantity  - New quantity.
+     * @param unitPrice - Current price of product in minor units, null to
+     *                    keep price of line.
+     * @return          - false if product is not in cart.
+     */
+    public boolean updateLine(CartState cart, int productId, int quantity, Long unitPrice) {
+        return apply(cart, List.of(CartOperation.update(productId, quantity, unitPrice)))[0];
+    }
+
+    /**
+     * <p>
+     *     Removes a product from cart.
+     * </p>
+     *
+     * @param cart      - Cart of user.
+     * @param productId - Product in cart.
+     * @return          - false if product is not in cart.
+     */
+    public boolean removeLine(CartState cart, int productId) {
+        return apply(cart, List.of(CartOperation.remove(productId)))[0];
+    }
+
+    /**
+     * <p>
+     *     Removes all products from cart, cart is deactivated when saved.
+     * </p>
+     *
+     * @param cart - Cart of user.
+     */
+    public void clear(CartState cart) {
+        apply(cart, List.of(CartOperation.clear()));
+    }
+
+    /**
+     * <p>
+     *     Saves cart of given user at once if it has unsaved changes. Only
+     *     this cart is locked, so it waits for a scheduled flush only when
+     *     that flush is saving this cart.
+     * </p>
+     *
+     * @param userId - To save cart.
+     */
+    public void flush(Integer userId) {
+        if (!enabled) {
+            return;
+        }
+        CartState cart = carts.getIfPresent(userId);
+        boolean detached = cart == null;
+        if (detached) {
+            cart = unsavedEvictions.remove(userId);
+        }
+        if (cart != null) {
+            saveChanges(cart, detached);
+        }
+    }
+
+    /**
+     * <p>
+     *     Drops cart of given user, used after cart is ordered. Cart is
+     *     journaled as cleared, so changes of ordered cart still in journal
+     *     are not replayed into a new cart after a crash.
+     * </p>
+     *
+     * @param userId - To drop cart.
+     */
+    public void evict(Integer userId) {
+        if (!enabled) {
+            return;
+        }
+        CartState cart = carts.getIfPresent(userId);
+        if (cart == null) {
+            drop(userId);
+            return;
+        }
+        synchronized (cart) {
+            drop(userId);
+        }
+    }
+
+    /**
+     * <p>
+     *     Saves all changed carts in batches and deletes journal segments
+     *     whose changes are saved. Carts of a batch are locked only while
+     *     the batch is saved. A batch that fails is saved again cart by
+     *     cart, and carts still failing are journaled again in current
+     *     segment. Segments are kept only if a failed cart cannot be
+     *     journaled, so changes are not lost by a crash before next flush.
+     * </p>
+     */
+    @Scheduled(initialDelayString = "${cart.store.flush-interval-ms:1000}",
+               fixedDelayString = "${cart.store.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (!enabled) {
+            return;
+        }
+        flushTimer.record(() -> {
+            List<Integer> userIds;
+            synchronized (journal) {
+                try {
+                    journal.rotate();
+                } catch (IOException ioException) {
+                    logger.error("Cart journal could not be rotated", ioException);
+                    return;
+                }
+                userIds = new ArrayList<>(dirtyUserIds);
+                dirtyUserIds.removeAll(userIds);
+            }
+            userIds.addAll(unsavedEvictions.keySet());
+            boolean saved = true;
+            Map<Integer, CartContents> batch = new LinkedHashMap<>();
+            Map<Integer, CartState> batchCarts = new LinkedHashMap<>();
+            Map<Integer, CartState> detachedCarts = new LinkedHashMap<>();
+            for (Integer userId : userIds) {
+                CartState cart = carts.getIfPresent(userId);
+                if (cart == null) {
+                    cart = unsavedEvictions.remove(userId);
+                    if (cart != null) {
+                        detachedCarts.put(userId, cart);
+                    }
+                }
+                if (cart == null) {
+                    continue;
+                }
+                cart.getSaveLock().lock();
+                CartContents contents = cart.takeChanges();
+                if (contents == null) {
+                    cart.getSaveLock().unlock();
+                    continue;
+                }
+                batch.put(userId, contents);
+                batchCarts.put(userId, cart);
+                if (batch.size() == batchSize) {
+                    saved &= saveLocked(batch, batchCarts, detachedCarts);
+                    batch = new LinkedHashMap<>();
+                    batchCarts = new LinkedHashMap<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                saved &= saveLocked(batch, batchCarts, detachedCarts);
+            }
+            if (saved) {
+                try {
+                    journal.deleteRotated();
+                } catch (IOException ioException) {
+                    logger.error("Cart journal could not be deleted", ioException);
+                }
+            }
+        });
+    }
+
+    /**
+     * <p>
+     *     Replays journal segments left by last run on top of saved carts
+     *     and saves them.
+     * </p>
+     */
+    @PostConstruct
+    public void recover() {
+        if (!enabled) {
+            return;
+        }
+        List<String> records;
+        try {
+            records = journal.readRotated();
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+        for (String record : records) {
+            replay(record);
+        }
+        if (!records.isEmpty()) {
+            logger.info("Replayed " + records.size() + " cart journal records");
+        }
+        flush();
+    }
+
+    /**
+     * <p>
+     *     Saves all changed carts and closes journal.
+     * </p>
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        if (enabled) {
+            flush();
+            journal.close();
+        }
+    }
+
+    /**
+     * <p>
+     *     Applies single operation to cart.
+     * </p>
+     *
+     * @param cart      - Cart of user, locked by caller.
+     * @param operation - Operation to apply.
+     * @return          - Journal record of change, null if it was not applied.
+     */
+    private static String applyOperation(CartState cart, CartOperation operation) {
+        int userId = cart.getUserId();
+        switch (operation.getType()) {
+            case ADD:
+                return cart.addLine(operation.getLine())
+                        ? putRecord(userId, operation.getLine()) : null;
+            case MERGE:
+                return putRecord(userId, cart.mergeLine(operation.getLine()));
+            case UPDATE:
+                CartLine line = cart.updateLine(operation.getProductId(),
+                        operation.getQuantity(), operation.getUnitPrice());
+                return line == null ? null : putRecord(userId, line);
+            case REMOVE:
+                return cart.removeLine(operation.getProductId())
+                        ? REMOVE + SEPARATOR + userId + SEPARATOR + operation.getProductId()
+                        : null;
+            default:
+                cart.clear();
+                return CLEAR + SEPARATOR + userId;
+        }
+    }
+
+    /**
+     * <p>
+     *     Records changes applied to cart. Changes are journaled and cart
+     *     marked dirty together while cart is locked, so journal has changes
+     *     of a cart in the order they were applied and a flush saves every
+     *     change whose journal segment it deletes.
+     * </p>
+     *
+     * @param cart    - Changed cart, locked by caller.
+     * @param records - Journal records of changes.
+     * @return        - false if cart must be saved at once, because it was
+     *                  dropped from store while it was changed or store is
+     *                  disabled.
+     */
+    private boolean journal(CartState cart, List<String> records) {
+        if (!enabled) {
+            return false;
+        }
+        synchronized (journal) {
+            try {
+                journal.append(records);
+            } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+            dirtyUserIds.add(cart.getUserId());
+        }
+        return carts.getIfPresent(cart.getUserId()) == cart;
+    }
+
+    /**
+     * <p>
+     *     Saves single cart if it has unsaved changes.
+     * </p>
+     *
+     * @param cart     - Cart to save.
+     * @param detached - true if cart is no longer held by store.
+     */
+    private void saveChanges(CartState cart, boolean detached) {
+        cart.getSaveLock().lock();
+        try {
+            CartContents contents = cart.takeChanges();
+            if (contents != null) {
+                Map<Integer, CartState> cartsByUserId = Map.of(cart.getUserId(), cart);
+                save(Map.of(cart.getUserId(), contents), cartsByUserId,
+                        detached ? cartsByUserId : Map.of());
+            }
+        } finally {
+            cart.getSaveLock().unlock();
+        }
+    }
+
+    /**
+     * <p>
+     *     Saves a batch of carts locked by caller and unlocks them.
+     * </p>
+     *
+     * @param contentsByUserId - Contents taken from carts.
+     * @param cartsByUserId    - Carts whose contents are saved.
+     * @param detachedCarts    - Carts no longer held by store, kept until saved.
+     * @return                 - true if carts are saved or carried over.
+     */
+    private boolean saveLocked(Map<Integer, CartContents> contentsByUserId,
+                               Map<Integer, CartState> cartsByUserId,
+                               Map<Integer, CartState> detachedCarts) {
+        try {
+            return save(contentsByUserId, cartsByUserId, detachedCarts);
+        } finally {
+            for (CartState cart : cartsByUserId.values()) {
+                cart.getSaveLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     *     Saves contents of carts. If a batch of carts fails, each cart is
+     *     saved on its own, so one cart that cannot be saved does not fail
+     *     the others. Cart that fails is marked dirty again and carried over
+     *     to current journal segment.
+     * </p>
+     *
+     * @param contentsByUserId - Contents taken from carts.
+     * @param cartsByUserId    - Carts whose contents are saved.
+     * @param detachedCarts    - Carts no longer held by store, kept until saved.
+     * @return                 - true if carts are saved or carried over.
+     */
+    private boolean save(Map<Integer, CartContents> contentsByUserId,
+                         Map<Integer, CartState> cartsByUserId,
+                         Map<Integer, CartState> detachedCarts) {
+        Map<Integer, Cart> savedCarts;
+        try {
+            savedCarts = cartStateService.saveCarts(contentsByUserId);
+        } catch (RuntimeException exception) {
+            if (!enabled) {
+                throw exception;
+            }
+            if (contentsByUserId.size() > 1) {
+                logger.error("Carts could not be saved, saving them one by one", exception);
+                boolean saved = true;
+                for (Map.Entry<Integer, CartContents> entry : contentsByUserId.entrySet()) {
+                    Integer userId = entry.getKey();
+                    Map<Integer, CartState> cartByUserId =
+                            Map.of(userId, cartsByUserId.get(userId));
+                    saved &= save(Map.of(userId, entry.getValue()), cartByUserId,
+                            detachedCarts.containsKey(userId) ? cartByUserId : Map.of());
+                }
+                return saved;
+            }
+            logger.error("Cart could not be saved", exception);
+            boolean carriedOver = true;
+            for (CartState cart : cartsByUserId.values()) {
+                cart.markDirty();
+                if (detachedCarts.containsKey(cart.getUserId())) {
+                    unsavedEvictions.putIfAbsent(cart.getUserId(), cart);
+                }
+                carriedOver &= carryOver(cart);
+            }
+            return carriedOver;
+        }
+        for (CartState cart : cartsByUserId.values()) {
+            Cart savedCart = savedCarts.get(cart.getUserId());
+            if (savedCart == null || !savedCart.getIsActive()) {
+                cart.setSaved(null, null);
+            } else {
+                cart.setSaved(savedCart.getId(), savedCart.getCreatedAt());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>
+     *     Journals all lines of a cart that could not be saved as a clear
+     *     followed by its lines and marks it dirty. Journal then has the
+     *     whole cart after the segments being flushed, so they can be
+     *     deleted while cart is retried on next flush.
+     * </p>
+     *
+     * @param cart - Cart that could not be saved.
+     * @return     - false if cart could not be journaled.
+     */
+    private boolean carryOver(CartState cart) {
+        int userId = cart.getUserId();
+        synchronized (cart) {
+            List<String> records = new ArrayList<>();
+            records.add(CLEAR + SEPARATOR + userId);
+            for (CartLine line : cart.getContents().getLines()) {
+                records.add(putRecord(userId, line));
+            }
+            synchronized (journal) {
+                dirtyUserIds.add(userId);
+                try {
+                    journal.append(records);
+                } catch (IOException ioException) {
+                    logger.error("Unsaved cart could not be journaled", ioException);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>
+     *     Drops cart from store and journals it as cleared.
+     * </p>
+     *
+     * @param userId - To drop cart.
+     */
+    private void drop(Integer userId) {
+        carts.invalidate(userId);
+        unsavedEvictions.remove(userId);
+        synchronized (journal) {
+            try {
+                journal.append(List.of(CLEAR + SEPARATOR + userId));
+            } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     *     Saves a dirty cart evicted from full store, keeps it to retry on
+     *     next flush if save fails. Cart is kept before it is saved, so a
+     *     flush running meanwhile finds it and waits for its save.
+     * </p>
+     */
+    private void onEviction(Integer userId, CartState cart, RemovalCause cause) {
+        if (cart != null) {
+            unsavedEvictions.putIfAbsent(userId, cart);
+            saveChanges(cart, true);
+            if (!cart.isDirty()) {
+                unsavedEvictions.remove(userId, cart);
+            }
+        }
+    }
+
+    private void replay(String record) {
+        String[] fields = record.split(String.valueOf(SEPARATOR), -1);
+        CartState cart = getCart(Integer.parseInt(fields[1]));
+        switch (fields[0]) {
+            case PUT:
+                cart.putLine(new CartLine(Integer.parseInt(fields[2]), fields[5], fields[6],
+                        fields[7], Long.parseLong(fields[4]), Integer.parseInt(fields[3]),
+                        Long.parseLong(fields[8])));
+                break;
+            case REMOVE:
+                cart.removeLine(Integer.parseInt(fields[2]));
+                break;
+            case CLEAR:
+                cart.clear();
+                break;
+            default:
+                logger.error("Unknown cart journal record " + record);
+                return;
+        }
+        cart.markDirty();
+        dirtyUserIds.add(cart.getUserId());
+    }
+
+    private static String putRecord(int userId, CartLine line) {
+        return PUT + SEPARATOR + userId + SEPARATOR + line.getProductId() + SEPARATOR
+                + line.getQuantity() + SEPARATOR + line.getUnitPrice() + SEPARATOR
+                + clean(line.getProductName()) + SEPARATOR + clean(line.getSubCategoryName())
+                + SEPARATOR + clean(line.getCategoryName()) + SEPARATOR + line.getPrice();
+    }
+
+    private static String clean(String name) {
+        return name == null ? "" : name.replace('\t', ' ').replace('\n', ' ')
+                .replace('\r', ' ');
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <p>
+ *     Immutable view of an active product with its sub category and
+ *     category, held in product catalog snapshot and shared by readers.
+ *     Price is in minor units (paise).
+ * </p>
+ *
+ * @author RUBAN
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Getter
+@AllArgsConstructor
+public final class CatalogProduct {
+
+    private final int id;
+
+    private final String name;
+
+    private final long price;
+
+    private final String unit;
+
+    private final int perHead;
+
+    private final String image;
+
+    private final int subCategoryId;
+
+    private final String subCategoryName;
+
+    private final int categoryId;
+
+    private final String categoryName;
+}
@@ -0,0 +1,172 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ *     Immutable type-ahead suggester of catalog. Holds a suggestion trie
+ *     built from whole catalog and products changed after it was built.
+ *     Trie entries of changed or removed products are skipped and changed
+ *     products are matched by scanning them, so a product change costs a
+ *     small copy instead of building trie again. Trie keeps only its best
+ *     {@link SuggestionTrie#TOP_K} suggestions of a prefix, when skipped
+ *     entries leave fewer than asked for all names of trie are scanned
+ *     instead. Catalog builds a new trie once changes reach
+ *     {@link #MAX_CHANGES}.
+ * </p>
+ *
+ * @author RUBAN
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class CatalogSuggester {
+
+    static final int MAX_CHANGES = 256;
+
+    private static final Comparator<Match> RANKING = Comparator
+            .comparing((Match match) -> !match.fromStart)
+            .thenComparingInt(match -> match.name.length())
+            .thenComparing(match -> match.name)
+            .thenComparing(match -> match.suggestion.getType())
+            .thenComparingInt(match -> match.suggestion.getId());
+
+    private final SuggestionTrie trie;
+    private final Set<Integer> changedProductIds;
+    private final Map<Integer, Suggestion> changedProducts;
+
+    /**
+     * <p>
+     *     Builds suggester of given products.
+     * </p>
+     *
+     * @param products - Active products of catalog.
+     */
+    public CatalogSuggester(List<CatalogProduct> products) {
+        this(new SuggestionTrie(products), Collections.emptySet(), Collections.emptyMap());
+    }
+
+    private CatalogSuggester(SuggestionTrie trie, Set<Integer> changedProductIds,
+                             Map<Integer, Suggestion> changedProducts) {
+        this.trie = trie;
+        this.changedProductIds = changedProductIds;
+        this.changedProducts = changedProducts;
+    }
+
+    /**
+     * <p>
+     *     Gets best suggestions whose name, or a word of name onwards,
+     *     starts with typed text.
+     * </p>
+     *
+     * @param query - Text typed by user.
+     * @param limit - Maximum suggestions.
+     * @return      - Suggestions best first, empty if nothing matches.
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        if (changedProductIds.isEmpty()) {
+            return trie.suggest(query, limit);
+        }
+        String prefix = SuggestionTrie.normalize(query);
+        if (prefix.isEmpty() || limit < 1) {
+            return Collections.emptyList();
+        }
+        List<Match> matches = new ArrayList<>();
+        List<Suggestion> trieSuggestions = trie.suggest(query, SuggestionTrie.TOP_K);
+        for (Suggestion suggestion : trieSuggestions) {
+            if (!Suggestion.PRODUCT.equals(suggestion.getType())
+                    || !changedProductIds.contains(suggestion.getId())) {
+                matches.add(new Match(suggestion, prefix));
+            }
+        }
+        if (trieSuggestions.size() == SuggestionTrie.TOP_K && matches.size() < limit
+                && matches.size() < trieSuggestions.size()) {
+            matches.clear();
+            for (Suggestion suggestion : trie.scan(query, limit, changedProductIds)) {
+                matches.add(new Match(suggestion, prefix));
+            }
+        }
+        for (Suggestion suggestion : changedProducts.values()) {
+            Match match = new Match(suggestion, prefix);
+            if (match.fromStart || (" " + match.name).contains(" " + prefix)) {
+                matches.add(match);
+            }
+        }
+        matches.sort(RANKING);
+        List<Suggestion> result = new ArrayList<>();
+        for (int index = 0; index < matches.size() && index < limit; index++) {
+            result.add(matches.get(index).suggestion);
+        }
+        return result;
+    }
+
+    /**
+     * <p>
+     *     Gets suggester with given product added or replaced.
+     * </p>
+     *
+     * @param product - Active product.
+     * @return        - New suggester.
+     */
+    public CatalogSuggester withProduct(CatalogProduct product) {
+        Map<Integer, Suggestion> products = new HashMap<>(changedProducts);
+        products.put(product.getId(), new Suggestion(product.getId(), product.getName(),
+                Suggestion.PRODUCT));
+        return withChange(product.getId(), products);
+    }
+
+    /**
+     * <p>
+     *     Gets suggester with given product removed.
+     * </p>
+     *
+     * @param productId - Removed product.
+     * @return          - New suggester.
+     */
+    public CatalogSuggester withoutProduct(Integer productId) {
+        Map<Integer, Suggestion> products = new HashMap<>(changedProducts);
+        products.remove(productId);
+        return withChange(productId, products);
+    }
+
+    /**
+     * <p>
+     *     Gets number of products changed after trie was built.
+     * </p>
+     *
+     * @return - Changed product count.
+     */
+    public int getChangeCount() {
+        return changedProductIds.size();
+    }
+
+    private CatalogSuggester withChange(Integer productId, Map<Integer, Suggestion> products) {
+        Set<Integer> productIds = new HashSet<>(changedProductIds);
+        productIds.add(productId);
+        return new CatalogSuggester(trie, Set.copyOf(productIds), Map.copyOf(products));
+    }
+
+    private static final class Match {
+
+        private final Suggestion suggestion;
+        private final String name;
+        private final boolean fromStart;
+
+        private Match(Suggestion suggestion, String prefix) {
+            this.suggestion = suggestion;
+            this.name = SuggestionTrie.normalize(suggestion.getName());
+            this.fromStart = !prefix.isEmpty() && name.startsWith(prefix);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <p>
+ *     Immutable node of category tree. Parent id is 0 and parent name is
+ *     null for a category, a sub category has its parent category's id and
+ *     name. Child ids are active sub categories of a node ordered by id.
+ * </p>
+ *
+ * @author RUBAN
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Getter
+@AllArgsConstructor
+public final class CategoryNode {
+
+    private final int id;
+
+    private final String name;
+
+    private final int parentId;
+
+    private final String parentName;
+
+    private final List<Integer> childIds;
+
+    /**
+     * <p>
+     *     Checks if node is a sub category.
+     * </p>
+     *
+     * @return - true if node has a parent category.
+     */
+    public boolean isSubCategory() {
+        return parentId != 0;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ideas2it.groceryshop.model.Category;
+import com.ideas2it.groceryshop.repository.CategoryRepository;
+
+/**
+ * <p>
+ *     Holds immutable tree of active categories and sub categories indexed
+ *     by id, with parent and child links resolved when tree is loaded.
+ *     Whole tree is loaded with single query on first use, again whenever
+ *     a category is added, updated or deleted and periodically.
+ * </p>
+ *
+ * @author RUBAN
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Component
+public class CategoryTree {
+
+    private final CategoryRepository categoryRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final Logger logger = LogManager.getLogger(CategoryTree.class);
+
+    public CategoryTree(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    /**
+     * <p>
+     *     Gets active category or sub category by id.
+     * </p>
+     *
+     * @param categoryId - To get node.
+     * @return           - Node, null if it is not active.
+     */
+    public CategoryNode getNode(Integer categoryId) {
+        return getSnapshot().nodesById.get(categoryId);
+    }
+
+    /**
+     * <p>
+     *     Gets all active categories ordered by id.
+     * </p>
+     *
+     * @return - Categories without parent.
+     */
+    public List<CategoryNode> getCategories() {
+        return getSnapshot().categories;
+    }
+
+    /**
+     * <p>
+     *     Gets all active sub categories ordered by id.
+     * </p>
+     *
+     * @return - Sub categories of active categories.
+     */
+    public List<CategoryNode> getSubCategories() {
+        return getSnapshot().subCategories;
+    }
+
+    /**
+     * <p>
+     *     Loads all active categories with their activeById in a single
+     *     query and replaces tree.
+     * </p>
+     */
+    @Scheduled(initialDelayString = "${catalog.refresh-interval-ms:3600000}",
+               fixedDelayString = "${catalog.refresh-interval-ms:3600000}")
+    public synchronized void refresh() {
+        logger.debug("Loading category tree");
+        snapshot.set(new Snapshot(categoryRepository.findAllActiveWithParents()));
+        logger.debug("Loaded category tree");
+    }
+
+    /**
+     * <p>
+     *     Gets current snapshot, loads tree on first use.
+     * </p>
+     *
+     * @return - Current snapshot.
+     */
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot.get() == null) {
+                    refresh();
+                }
+                current = snapshot.get();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * <p>
+     *     Immutable tree, never changed after it is built. A sub category
+     *     whose parent is not active is left out.
+     * </p>
+     */
+    private static final class Snapshot {
+
+        private final Map<Integer, CategoryNode> nodesById;
+        private final List<CategoryNode> categories;
+        private final List<CategoryNode> subCategories;
+
+        private Snapshot(List<Category> activeCategories) {
+            List<Category> sortedCategories = new ArrayList<>(activeCategories);
+            sortedCategories.sort(Comparator.comparingInt(Category::getId));
+            Map<Integer, Category> activeById = new HashMap<>();
+            Map<Integer, List<Integer>> childIds = new HashMap<>();
+            for (Category category : sortedCategories) {
+                activeById.put(category.getId(), category);
+            }
+            for (Category category : sortedCategories) {
+                Category parent = category.getCategory();
+                if (parent != null && activeById.containsKey(parent.getId())) {
+                    childIds.computeIfAbsent(parent.getId(), id -> new ArrayList<>())
+                            .add(category.getId());
+                }
+            }
+            Map<Integer, CategoryNode> byId = new HashMap<>();
+            List<CategoryNode> categoryNodes = new ArrayList<>();
+            List<CategoryNode> subCategoryNodes = new ArrayList<>();
+            for (Category category : sortedCategories) {
+                Category parent = category.getCategory();
+                if (parent == null) {
+                    CategoryNode node = new CategoryNode(category.getId(), category.getName(),
+                            0, null, List.copyOf(childIds.getOrDefault(category.getId(),
+                            Collections.emptyList())));
+                    byId.put(node.getId(), node);
+                    categoryNodes.add(node);
+                } else if (activeById.containsKey(parent.getId())) {
+                    CategoryNode node = new CategoryNode(category.getId(), category.getName(),
+                            parent.getId(), activeById.get(parent.getId()).getName(),
+                            List.copyOf(childIds.getOrDefault(category.getId(),
+                            Collections.emptyList())));
+                    byId.put(node.getId(), node);
+                    subCategoryNodes.add(node);
+                }
+            }
+            this.nodesById = Map.copyOf(byId);
+            this.categories = List.copyOf(categoryNodes);
+            this.subCategories = List.copyOf(subCategoryNodes);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ideas2it.groceryshop.dto.SuccessResponseDto;
+
+/**
+ * <p>
+ *     Holds responses of requests sent with an idempotency key for a
+ *     bounded time, keyed by user id and idempotency key. A key is claimed
+ *     with an incomplete response before the request is handled, so that
+ *     a retry sent while the first request is running is not handled again.
+ *     Fingerprint of the request is stored with the key, so that a key
+ *     reused for a different request is not answered with an earlier response.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Component
+public class IdempotencyStore {
+
+    private final Cache<String, StoredRequest> responses;
+    private final Logger logger = LogManager.getLogger(IdempotencyStore.class);
+
+    public IdempotencyStore(@Value("${order.idempotency.max-size:100000}") long maxSize,
+                            @Value("${order.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                            MeterRegistry meterRegistry) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "idempotency");
+    }
+
+    /**
+     * <p>
+     *     Claims key for a new request.
+     * </p>
+     *
+     * @param userId      - User sending request.
+     * @param key         - Idempotency key of request.
+     * @param fingerprint - Method, path and body hash of request.
+     * @return            - Null if key is claimed by this call, else earlier
+     *                      request whose response is not complete if it is
+     *                      running.
+     */
+    public StoredRequest claim(Integer userId, String key, String fingerprint) {
+        return responses.asMap().putIfAbsent(toKey(userId, key),
+                new StoredRequest(fingerprint, new CompletableFuture<>()));
+    }
+
+    /**
+     * <p>
+     *     Stores response of request handled for claimed key.
+     * </p>
+     *
+     * @param userId   - User sending request.
+     * @param key      - Idempotency key of request.
+     * @param response - Response to replay for retries.
+     */
+    public void complete(Integer userId, String key, SuccessResponseDto response) {
+        StoredRequest claimed = responses.getIfPresent(toKey(userId, key));
+        if (claimed != null) {
+            claimed.response.complete(response);
+        }
+    }
+
+    /**
+     * <p>
+     *     Releases claimed key whose request failed without a response,
+     *     so that a retry is handled again.
+     * </p>
+     *
+     * @param userId - User sending request.
+     * @param key    - Idempotency key of request.
+     */
+    public void release(Integer userId, String key) {
+        logger.debug("Releasing idempotency key of failed request");
+        responses.asMap().computeIfPresent(toKey(userId, key),
+                (claimedKey, claimed) -> claimed.response.isDone() ? claimed : null);
+    }
+
+    private String toKey(Integer userId, String key) {
+        return userId + ":" + key;
+    }
+
+    /**
+     * <p>
+     *     Fingerprint and response of request claiming a key.
+     * </p>
+     */
+    public static final class StoredRequest {
+        private final String fingerprint;
+        private final CompletableFuture<SuccessResponseDto> response;
+
+        private StoredRequest(String fingerprint,
+                              CompletableFuture<SuccessResponseDto> response) {
+            this.fingerprint = fingerprint;
+            this.response = response;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public CompletableFuture<SuccessResponseDto> getResponse() {
+            return response;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.ideas2it.groceryshop.configuration.CustomUserDetails;
+
+/**
+ * <p>
+ *     Holds authenticated principals by username for a bounded time, so that
+ *     every authenticated request does not load the user from database.
+ *     Entries are evicted when user or role details are changed.
+ * </p>
+ *
+ * @version 1.0
+ * @author Rohit A P
+ * @since 17-10-2026
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, UserDetails> principals;
+    private final Logger logger = LogManager.getLogger(PrincipalCache.class);
+
+    public PrincipalCache(@Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                          MeterRegistry meterRegistry) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
+    /**
+     * <p>
+     *     Gets principal of given username, loads it using given loader
+     *     if it is not cached or expired.
+     * </p>
+     *
+     * @param username - To get principal.
+     * @param loader   - To load principal if it is not cached.
+     * @return         - Principal of given username.
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return principals.get(username, loader);
+    }
+
+    /**
+     * <p>
+     *     Removes principal of given username.
+     * </p>
+     *
+     * @param username - To remove principal.
+     */
+    public void evict(String username) {
+        logger.debug("Evicting principal by username");
+        principals.invalidate(username);
+    }
+
+    /**
+     * <p>
+     *     Removes principal of given user id.
+     * </p>
+     *
+     * @param userId - To remove principal.
+     */
+    public void evictByUserId(Integer userId) {
+        logger.debug("Evicting principal by user id");
+        principals.asMap().values().removeIf(principal ->
+                principal instanceof CustomUserDetails
+                && userId.equals(((CustomUserDetails) principal).getUserId()));
+    }
+
+    /**
+     * <p>
+     *     Removes all principals, used when role details are changed.
+     * </p>
+     */
+    public void evictAll() {
+        logger.debug("Evicting all principals");
+        principals.invalidateAll();
+    }
+}
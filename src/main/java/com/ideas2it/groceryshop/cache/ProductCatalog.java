@@ -0,0 +1,287 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ideas2it.groceryshop.mapper.ProductMapper;
+import com.ideas2it.groceryshop.model.Product;
+import com.ideas2it.groceryshop.repository.ProductRepository;
+
+/**
+ * <p>
+ *     Holds immutable snapshot of active products indexed by id, sub category
+ *     and category. Readers get current snapshot without locking, writers
+ *     build a new snapshot with changed products and swap it in.
+ *     Search index is built with each loaded snapshot before it is swapped
+ *     in and then patched by product changes, it is built again by the
+ *     writer once it has too many changes. Suggester is built on first use
+ *     and then patched by product changes until it has too many changes.
+ *     Names of sub category and category are taken from category tree.
+ *     Whole catalog is loaded again on category changes and periodically.
+ * </p>
+ *
+ * @author RUBAN
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Component
+public class ProductCatalog {
+
+    private final ProductRepository productRepository;
+    private final CategoryTree categoryTree;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final Logger logger = LogManager.getLogger(ProductCatalog.class);
+
+    public ProductCatalog(ProductRepository productRepository, CategoryTree categoryTree) {
+        this.productRepository = productRepository;
+        this.categoryTree = categoryTree;
+    }
+
+    /**
+     * <p>
+     *     Gets all active products ordered by id.
+     * </p>
+     *
+     * @return - Active products.
+     */
+    public List<CatalogProduct> getProducts() {
+        return getSnapshot().products;
+    }
+
+    /**
+     * <p>
+     *     Gets active product by id.
+     * </p>
+     *
+     * @param productId - To get product.
+     * @return          - Product, null if it is not active.
+     */
+    public CatalogProduct getProductById(Integer productId) {
+        return getSnapshot().productsById.get(productId);
+    }
+
+    /**
+     * <p>
+     *     Gets active products of given category.
+     * </p>
+     *
+     * @param categoryId - Parent category id.
+     * @return           - Products ordered by id.
+     */
+    public List<CatalogProduct> getProductsByCategoryId(Integer categoryId) {
+        return getSnapshot().productsByCategoryId.getOrDefault(categoryId,
+                Collections.emptyList());
+    }
+
+    /**
+     * <p>
+     *     Gets active products of given sub category.
+     * </p>
+     *
+     * @param subCategoryId - Sub category id.
+     * @return              - Products ordered by id.
+     */
+    public List<CatalogProduct> getProductsBySubCategoryId(Integer subCategoryId) {
+        return getSnapshot().productsBySubCategoryId.getOrDefault(subCategoryId,
+                Collections.emptyList());
+    }
+
+    /**
+     * <p>
+     *     Searches active products by words of their name, a word of
+     *     query matches a name word starting with it.
+     * </p>
+     *
+     * @param query  - Words typed by user.
+     * @param offset - Number of ranked products to skip.
+     * @param limit  - Maximum number of products to return.
+     * @return       - Ranked products, empty if nothing matches.
+     */
+    public List<CatalogProduct> search(String query, int offset, int limit) {
+        return getSnapshot().searchIndex.search(query, offset, limit);
+    }
+
+    /**
+     * <p>
+     *     Suggests products and sub categories whose name, or a word of
+     *     name onwards, starts with typed text.
+     * </p>
+     *
+     * @param query - Text typed by user.
+     * @param limit - Maximum number of suggestions.
+     * @return      - Suggestions best first, empty if nothing matches.
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        return getSnapshot().getSuggester().suggest(query, limit);
+    }
+
+    /**
+     * <p>
+     *     Adds or replaces product in catalog, product is removed if it or
+     *     its sub category is not active.
+     * </p>
+     *
+     * @param product - Saved product.
+     */
+    public synchronized void put(Product product) {
+        logger.debug("Patching product in catalog");
+        Snapshot current = getSnapshot();
+        Map<Integer, CatalogProduct> products = new HashMap<>(current.productsById);
+        ProductSearchIndex searchIndex;
+        CatalogSuggester suggester = current.suggester;
+        CategoryNode subCategory = categoryTree.getNode(product.getSubCategory().getId());
+        if (product.isActive() && subCategory != null) {
+            CatalogProduct catalogProduct = ProductMapper.toCatalogProduct(product, subCategory);
+            products.put(product.getId(), catalogProduct);
+            searchIndex = current.searchIndex.withProduct(catalogProduct);
+            suggester = (suggester == null) ? null : suggester.withProduct(catalogProduct);
+        } else {
+            products.remove(product.getId());
+            searchIndex = current.searchIndex.withoutProduct(product.getId());
+            suggester = (suggester == null) ? null : suggester.withoutProduct(product.getId());
+        }
+        snapshot.set(new Snapshot(products.values(), searchIndex, suggester));
+    }
+
+    /**
+     * <p>
+     *     Removes product from catalog.
+     * </p>
+     *
+     * @param productId - To remove product.
+     */
+    public synchronized void remove(Integer productId) {
+        logger.debug("Removing product from catalog");
+        Snapshot current = getSnapshot();
+        Map<Integer, CatalogProduct> products = new HashMap<>(current.productsById);
+        if (products.remove(productId) != null) {
+            snapshot.set(new Snapshot(products.values(),
+                    current.searchIndex.withoutProduct(productId),
+                    (current.suggester == null) ? null
+                            : current.suggester.withoutProduct(productId)));
+        }
+    }
+
+    /**
+     * <p>
+     *     Loads all active products in a single query and replaces
+     *     snapshot with its search index built, products of inactive sub
+     *     categories are left out.
+     * </p>
+     */
+    @Scheduled(initialDelayString = "${catalog.refresh-interval-ms:3600000}",
+               fixedDelayString = "${catalog.refresh-interval-ms:3600000}")
+    public synchronized void refresh() {
+        logger.debug("Loading product catalog");
+        List<CatalogProduct> products = new ArrayList<>();
+        for (Product product : productRepository.findAllAndIsActive(true)) {
+            CategoryNode subCategory = categoryTree.getNode(product.getSubCategory().getId());
+            if (subCategory != null) {
+                products.add(ProductMapper.toCatalogProduct(product, subCategory));
+            }
+        }
+        snapshot.set(new Snapshot(products, null, null));
+        logger.debug("Loaded product catalog");
+    }
+
+    /**
+     * <p>
+     *     Gets current snapshot, loads catalog on first use.
+     * </p>
+     *
+     * @return - Current snapshot.
+     */
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot.get() == null) {
+                    refresh();
+                }
+                current = snapshot.get();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * <p>
+     *     Immutable catalog indexes, never changed after it is built other
+     *     than building suggester on first use.
+     * </p>
+     */
+    private static final class Snapshot {
+
+        private final List<CatalogProduct> products;
+        private final Map<Integer, CatalogProduct> productsById;
+        private final Map<Integer, List<CatalogProduct>> productsBySubCategoryId;
+        private final Map<Integer, List<CatalogProduct>> productsByCategoryId;
+        private final ProductSearchIndex searchIndex;
+        private volatile CatalogSuggester suggester;
+
+        private Snapshot(Collection<CatalogProduct> catalogProducts,
+                         ProductSearchIndex searchIndex, CatalogSuggester suggester) {
+            List<CatalogProduct> sortedProducts = new ArrayList<>(catalogProducts);
+            sortedProducts.sort(Comparator.comparingInt(CatalogProduct::getId));
+            Map<Integer, CatalogProduct> byId = new HashMap<>();
+            Map<Integer, List<CatalogProduct>> bySubCategoryId = new HashMap<>();
+            Map<Integer, List<CatalogProduct>> byCategoryId = new HashMap<>();
+            for (CatalogProduct product : sortedProducts) {
+                byId.put(product.getId(), product);
+                bySubCategoryId.computeIfAbsent(product.getSubCategoryId(),
+                        id -> new ArrayList<>()).add(product);
+                byCategoryId.computeIfAbsent(product.getCategoryId(),
+                        id -> new ArrayList<>()).add(product);
+            }
+            this.products = List.copyOf(sortedProducts);
+            this.productsById = Map.copyOf(byId);
+            this.productsBySubCategoryId = freeze(bySubCategoryId);
+            this.productsByCategoryId = freeze(byCategoryId);
+            if (searchIndex != null
+                    && searchIndex.getChangeCount() < ProductSearchIndex.MAX_CHANGES) {
+                this.searchIndex = searchIndex;
+            } else {
+                this.searchIndex = new ProductSearchIndex(this.products);
+            }
+            if (suggester != null && suggester.getChangeCount() < CatalogSuggester.MAX_CHANGES) {
+                this.suggester = suggester;
+            }
+        }
+
+        private CatalogSuggester getSuggester() {
+            CatalogSuggester current = suggester;
+            if (current == null) {
+                synchronized (this) {
+                    if (suggester == null) {
+                        suggester = new CatalogSuggester(products);
+                    }
+                    current = suggester;
+                }
+            }
+            return current;
+        }
+
+        private static Map<Integer, List<CatalogProduct>> freeze(
+                Map<Integer, List<CatalogProduct>> index) {
+            Map<Integer, List<CatalogProduct>> frozen = new HashMap<>();
+            index.forEach((id, products) -> frozen.put(id, List.copyOf(products)));
+            return Map.copyOf(frozen);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * <p>
+ *     Immutable inverted index over product names. Names are split into
+ *     lower cased words and every prefix of a word, up to {@link #MAX_GRAM}
+ *     characters, is mapped to sorted positions of products having it, so
+ *     a partly typed word is looked up with a single map access.
+ *     Products matching all words of a query are ranked by exact word
+ *     matches, then by name starting with the first word, then by shorter
+ *     name. Only best offset + limit products are kept while ranking.
+ * </p>
+ * <p>
+ *     Products changed after index was built are held aside, their postings
+ *     are skipped and they are matched by scanning them, so a product change
+ *     costs a small copy instead of building postings again. Catalog builds
+ *     a new index once changes reach {@link #MAX_CHANGES}.
+ * </p>
+ *
+ * @author RUBAN
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class ProductSearchIndex {
+
+    static final int MAX_GRAM = 10;
+    static final int MAX_CHANGES = 256;
+
+    private static final int EXACT_WORD_SCORE = 3;
+    private static final int PREFIX_WORD_SCORE = 1;
+    private static final int LEADING_WORD_SCORE = 2;
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final CatalogProduct[] products;
+    private final String[][] words;
+    private final Map<String, int[]> postings;
+    private final Set<Integer> changedProductIds;
+    private final Map<Integer, CatalogProduct> changedProducts;
+    private final Map<Integer, String[]> changedWords;
+
+    /**
+     * <p>
+     *     Builds index of given products.
+     * </p>
+     *
+     * @param catalogProducts - Products to index, in any order.
+     */
+    public ProductSearchIndex(List<CatalogProduct> catalogProducts) {
+        products = catalogProducts.toArray(new CatalogProduct[0]);
+        words = new String[products.length][];
+        Map<String, PositionList> grams = new HashMap<>();
+        for (int position = 0; position < products.length; position++) {
+            words[position] = tokenize(products[position].getName());
+            Set<String> productGrams = new HashSet<>();
+            for (String word : words[position]) {
+                for (int length = 1; length <= Math.min(word.length(), MAX_GRAM); length++) {
+                    productGrams.add(word.substring(0, length));
+                }
+            }
+            for (String gram : productGrams) {
+                grams.computeIfAbsent(gram, key -> new PositionList()).add(position);
+            }
+        }
+        Map<String, int[]> index = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, positions) -> index.put(gram, positions.toArray()));
+        postings = index;
+        changedProductIds = Collections.emptySet();
+        changedProducts = Collections.emptyMap();
+        changedWords = Collections.emptyMap();
+    }
+
+    private ProductSearchIndex(ProductSearchIndex base, Set<Integer> changedProductIds,
+                               Map<Integer, CatalogProduct> changedProducts) {
+        this.products = base.products;
+        this.words = base.words;
+        this.postings = base.postings;
+        this.changedProductIds = changedProductIds;
+        this.changedProducts = changedProducts;
+        Map<Integer, String[]> productWords = new HashMap<>();
+        changedProducts.forEach((id, product) -> productWords.put(id,
+                tokenize(product.getName())));
+        this.changedWords = Map.copyOf(productWords);
+    }
+
+    /**
+     * <p>
+     *     Gets products whose name has a word starting with each word of
+     *     query, best ranked first.
+     * </p>
+     *
+     * @param query  - Words typed by user.
+     * @param offset - Number of ranked products to skip.
+     * @param limit  - Maximum number of products to return.
+     * @return       - Ranked products, empty if nothing matches.
+     */
+    public List<CatalogProduct> search(String query, int offset, int limit) {
+        String[] queryWords = tokenize(query);
+        if (queryWords.length == 0 || limit < 1 || offset < 0) {
+            return Collections.emptyList();
+        }
+        int[] candidates = null;
+        for (String queryWord : queryWords) {
+            int[] positions = postings.getOrDefault(queryWord.length() > MAX_GRAM
+                    ? queryWord.substring(0, MAX_GRAM) : queryWord, NO_POSITIONS);
+            candidates = (candidates == null) ? positions : intersect(candidates, positions);
+            if (candidates.length == 0) {
+                break;
+            }
+        }
+        int wanted = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        Comparator<Match> ranking = Comparator.comparingInt((Match match) -> match.score)
+                .thenComparing(match -> -match.product.getName().length())
+                .thenComparing(match -> -match.product.getId());
+        PriorityQueue<Match> best = new PriorityQueue<>(ranking);
+        for (int position : candidates) {
+            if (!changedProductIds.contains(products[position].getId())) {
+                rank(best, wanted, ranking, products[position], words[position], queryWords);
+            }
+        }
+        changedProducts.forEach((id, product) -> rank(best, wanted, ranking, product,
+                changedWords.get(id), queryWords));
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(ranking.reversed());
+        List<CatalogProduct> page = new ArrayList<>();
+        for (int index = offset; index < ranked.size(); index++) {
+            page.add(ranked.get(index).product);
+        }
+        return page;
+    }
+
+    /**
+     * <p>
+     *     Gets index with given product added or replaced.
+     * </p>
+     *
+     * @param product - Active product.
+     * @return        - New index.
+     */
+    public ProductSearchIndex withProduct(CatalogProduct product) {
+        Map<Integer, CatalogProduct> products = new HashMap<>(changedProducts);
+        products.put(product.getId(), product);
+        return withChange(product.getId(), products);
+    }
+
+    /**
+     * <p>
+     *     Gets index with given product removed.
+     * </p>
+     *
+     * @param productId - Removed product.
+     * @return          - New index.
+     */
+    public ProductSearchIndex withoutProduct(Integer productId) {
+        Map<Integer, CatalogProduct> products = new HashMap<>(changedProducts);
+        products.remove(productId);
+        return withChange(productId, products);
+    }
+
+    /**
+     * <p>
+     *     Gets number of products changed after postings were built.
+     * </p>
+     *
+     * @return - Changed product count.
+     */
+    public int getChangeCount() {
+        return changedProductIds.size();
+    }
+
+    private ProductSearchIndex withChange(Integer productId,
+                                          Map<Integer, CatalogProduct> products) {
+        Set<Integer> productIds = new HashSet<>(changedProductIds);
+        productIds.add(productId);
+        return new ProductSearchIndex(this, Set.copyOf(productIds), Map.copyOf(products));
+    }
+
+    /**
+     * <p>
+     *     Keeps product among best offset + limit matches if it matches
+     *     every word of query.
+     * </p>
+     */
+    private static void rank(PriorityQueue<Match> best, int wanted, Comparator<Match> ranking,
+                             CatalogProduct product, String[] productWords,
+                             String[] queryWords) {
+        if (productWords.length == 0) {
+            return;
+        }
+        int score = score(productWords, queryWords);
+        if (score < 0) {
+            return;
+        }
+        Match match = new Match(product, score);
+        if (best.size() < wanted) {
+            best.add(match);
+        } else if (ranking.compare(match, best.peek()) > 0) {
+            best.poll();
+            best.add(match);
+        }
+    }
+
+    /**
+     * <p>
+     *     Splits text into lower cased words of letters and digits.
+     * </p>
+     *
+     * @param text - Name or query.
+     * @return     - Words in order of appearance.
+     */
+    static String[] tokenize(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int index = 0; index <= text.length(); index++) {
+            boolean letterOrDigit = index < text.length()
+                    && Character.isLetterOrDigit(text.charAt(index));
+            if (letterOrDigit && start < 0) {
+                start = index;
+            } else if (!letterOrDigit && start >= 0) {
+                tokens.add(text.substring(start, index).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    /**
+     * <p>
+     *     Scores product words against query words. Query words longer
+     *     than indexed prefixes are checked here against whole words.
+     * </p>
+     *
+     * @param productWords - Words of product name.
+     * @param queryWords   - Words of query.
+     * @return             - Score, negative if a query word is not matched.
+     */
+    private static int score(String[] productWords, String[] queryWords) {
+        int score = 0;
+        for (String queryWord : queryWords) {
+            int wordScore = -1;
+            for (String productWord : productWords) {
+                if (productWord.equals(queryWord)) {
+                    wordScore = EXACT_WORD_SCORE;
+                    break;
+                }
+                if (productWord.startsWith(queryWord)) {
+                    wordScore = PREFIX_WORD_SCORE;
+                }
+            }
+            if (wordScore < 0) {
+                return -1;
+            }
+            score += wordScore;
+        }
+        if (productWords[0].startsWith(queryWords[0])) {
+            score += LEADING_WORD_SCORE;
+        }
+        return score;
+    }
+
+    private static int[] intersect(int[] first, int[] second) {
+        int[] common = new int[Math.min(first.length, second.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                common[size++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(common, size);
+    }
+
+    private static final class Match {
+
+        private final CatalogProduct product;
+        private final int score;
+
+        private Match(CatalogProduct product, int score) {
+            this.product = product;
+            this.score = score;
+        }
+    }
+
+    /**
+     * <p>
+     *     Growable list of product positions, added in increasing order.
+     * </p>
+     */
+    private static final class PositionList {
+
+        private int[] positions = new int[4];
+        private int size;
+
+        private void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
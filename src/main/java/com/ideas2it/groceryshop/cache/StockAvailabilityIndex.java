@@ -0,0 +1,146 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ideas2it.groceryshop.repository.StockRepository;
+
+/**
+ * <p>
+ *     Keeps for each store location a bitset of product ids having available
+ *     stock, so that listing pages do not query stock rows. Bitset of a
+ *     location is loaded on first use and is never changed after it is
+ *     published, stock changes publish a new bitset with changed bits.
+ *     Index is cleared periodically to pick changes made by other instances.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@Component
+public class StockAvailabilityIndex {
+
+    private final StockRepository stockRepository;
+    private final Map<Integer, LocationStock> locations = new ConcurrentHashMap<>();
+    private final Logger logger = LogManager.getLogger(StockAvailabilityIndex.class);
+
+    public StockAvailabilityIndex(StockRepository stockRepository) {
+        this.stockRepository = stockRepository;
+    }
+
+    /**
+     * <p>
+     *     Checks if product has available stock at location.
+     * </p>
+     *
+     * @param locationId - To check stock for given location
+     * @param productId  - To check stock for given product
+     * @return true if product has available stock
+     */
+    public boolean isInStock(Integer locationId, Integer productId) {
+        return getLocation(locationId).inStock.get(productId);
+    }
+
+    /**
+     * <p>
+     *     Gets ids of all products having available stock at location.
+     * </p>
+     *
+     * @param locationId - To get products for given location
+     * @return bitset of product ids, copy which can be changed by caller
+     */
+    public BitSet getProductIdsInStock(Integer locationId) {
+        return (BitSet) getLocation(locationId).inStock.clone();
+    }
+
+    /**
+     * <p>
+     *     Reloads availability of given products at location after their
+     *     stock is changed. Nothing is done if location is not loaded yet.
+     * </p>
+     *
+     * @param locationId - Location of changed stock
+     * @param productIds - Products of changed stock
+     */
+    public void refresh(Integer locationId, Collection<Integer> productIds) {
+        LocationStock location = locations.get(locationId);
+        if (location == null || productIds.isEmpty()) {
+            return;
+        }
+        logger.debug("Refreshing stock availability of location");
+        synchronized (location) {
+            Set<Integer> productIdsInStock = new HashSet<>(stockRepository.
+                    findProductIdsByLocationAndProductIdsAndAvailableStockGreaterThan(
+                            locationId, productIds, 0));
+            BitSet inStock = (BitSet) location.inStock.clone();
+            for (Integer productId : productIds) {
+                inStock.set(productId, productIdsInStock.contains(productId));
+            }
+            location.inStock = inStock;
+        }
+    }
+
+    /**
+     * <p>
+     *     Clears index of all locations, they are loaded again on next use.
+     * </p>
+     */
+    @Scheduled(initialDelayString = "${stock.availability.refresh-interval-ms:600000}",
+               fixedDelayString = "${stock.availability.refresh-interval-ms:600000}")
+    public void clear() {
+        logger.debug("Clearing stock availability index");
+        locations.clear();
+    }
+
+    /**
+     * <p>
+     *     Gets stock of location, loads it with single query on first use.
+     * </p>
+     *
+     * @param locationId - Location to get
+     * @return stock of location
+     */
+    private LocationStock getLocation(Integer locationId) {
+        return locations.computeIfAbsent(locationId, id -> {
+            logger.debug("Loading stock availability of location");
+            List<Integer> productIds = stockRepository.
+                    findProductIdsByLocationAndAvailableStockGreaterThan(id, 0);
+            BitSet inStock = new BitSet();
+            for (Integer productId : productIds) {
+                inStock.set(productId);
+            }
+            return new LocationStock(inStock);
+        });
+    }
+
+    /**
+     * <p>
+     *     Holds current bitset of a location, bitset is replaced and
+     *     never changed once it is set.
+     * </p>
+     */
+    private static final class LocationStock {
+
+        private volatile BitSet inStock;
+
+        private LocationStock(BitSet inStock) {
+            this.inStock = inStock;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ideas2it.groceryshop.model.Stock;
+import com.ideas2it.groceryshop.repository.StockRepository;
+
+/**
+ * <p>
+ *     Keeps available stock of each product at each location in atomic
+ *     counters, so that orders of sold out products are rejected without
+ *     reaching database. Counters are loaded from database on first use and
+ *     removed whenever stock is changed outside of reservation.
+ *     Database stays the source of truth, its guarded decrement is applied
+ *     after counters are reserved.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@Component
+public class StockCounters {
+
+    private final boolean isEnabled;
+    private final BiFunction<Integer, Integer, Integer> stockLoader;
+    private final Map<Long, AtomicInteger> counters = new ConcurrentHashMap<>();
+    private final Logger logger = LogManager.getLogger(StockCounters.class);
+
+    @Autowired
+    public StockCounters(@Value("${stock.counters.enabled:false}") boolean isEnabled,
+                         StockRepository stockRepository) {
+        this(isEnabled, (locationId, productId) -> {
+            Stock stock = stockRepository.findByProductIdAndStoreLocationId(productId,
+                                                                            locationId);
+            return stock == null ? 0 : stock.getAvailableStock();
+        });
+    }
+
+    public StockCounters(boolean isEnabled,
+                         BiFunction<Integer, Integer, Integer> stockLoader) {
+        this.isEnabled = isEnabled;
+        this.stockLoader = stockLoader;
+    }
+
+    /**
+     * <p>
+     *     Checks if counters are used.
+     * </p>
+     *
+     * @return true if counters are enabled
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * <p>
+     *     Reserves quantity of all given products at location. Either all
+     *     products are reserved or none, counters are taken in ascending
+     *     product id order.
+     * </p>
+     *
+     * @param locationId        - To reserve stock for given location
+     * @param quantityByProduct - Quantity to reserve for each product id
+     * @return ids of products which cannot be reserved, empty if reserved
+     */
+    public List<Integer> tryReserve(Integer locationId, Map<Integer, Integer> quantityByProduct) {
+        Map<Integer, Integer> reserved = new TreeMap<>();
+        List<Integer> unavailableProductIds = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> entry : new TreeMap<>(quantityByProduct).entrySet()) {
+            if (decrement(getCounter(locationId, entry.getKey()), entry.getValue())) {
+                reserved.put(entry.getKey(), entry.getValue());
+            } else {
+                unavailableProductIds.add(entry.getKey());
+            }
+        }
+        if (!unavailableProductIds.isEmpty()) {
+            logger.debug("Stock not available in counters");
+            release(locationId, reserved);
+        }
+        return unavailableProductIds;
+    }
+
+    /**
+     * <p>
+     *     Gives back reserved quantity of given products at location.
+     * </p>
+     *
+     * @param locationId        - Location of reserved stock
+     * @param quantityByProduct - Reserved quantity of each product id
+     */
+    public void release(Integer locationId, Map<Integer, Integer> quantityByProduct) {
+        for (Map.Entry<Integer, Integer> entry : quantityByProduct.entrySet()) {
+            AtomicInteger counter = counters.get(key(locationId, entry.getKey()));
+            if (counter != null) {
+                counter.addAndGet(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * <p>
+     *     Removes counters of given products at location, they are loaded
+     *     again from database on next reservation.
+     * </p>
+     *
+     * @param locationId - Location of changed stock
+     * @param productIds - Products of changed stock
+     */
+    public void evict(Integer locationId, Collection<Integer> productIds) {
+        for (Integer productId : productIds) {
+            counters.remove(key(locationId, productId));
+        }
+    }
+
+    /**
+     * <p>
+     *     Decreases counter by quantity if it is not less than quantity.
+     * </p>
+     *
+     * @param counter  - Counter of product at location
+     * @param quantity - Quantity to reserve
+     * @return true if quantity is reserved
+     */
+    private boolean decrement(AtomicInteger counter, int quantity) {
+        int available = counter.get();
+        while (available >= quantity) {
+            if (counter.compareAndSet(available, available - quantity)) {
+                return true;
+            }
+            available = counter.get();
+        }
+        return false;
+    }
+
+    private AtomicInteger getCounter(Integer locationId, Integer productId) {
+        return counters.computeIfAbsent(key(locationId, productId),
+                key -> new AtomicInteger(stockLoader.apply(locationId, productId)));
+    }
+
+    private static long key(Integer locationId, Integer productId) {
+        return ((long) locationId << 32) | (productId & 0xFFFFFFFFL);
+    }
+}
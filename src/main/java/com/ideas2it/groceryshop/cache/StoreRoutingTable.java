@@ -0,0 +1,158 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ideas2it.groceryshop.model.StoreLocation;
+import com.ideas2it.groceryshop.repository.StoreRepository;
+
+/**
+ * <p>
+ *     Routes a pin code to the active store serving it, so that orders and
+ *     cancellations do not query stores. Holds pin codes of active stores
+ *     as a sorted array with store ids at same positions, which is never
+ *     changed after it is published. Table is loaded on first use, again
+ *     whenever a store is added, updated or removed and periodically to
+ *     pick changes made by other instances.
+ * </p>
+ * <p>
+ *     A pin code without a store of its own is routed to store of nearest
+ *     pin code, as digits of pin code narrow down region from left to right,
+ *     numerically close pin codes are close to each other. On a tie, store
+ *     of lower pin code is chosen. A pin code farther than maximum distance
+ *     from every store is not routed, so that orders are not sent to a
+ *     store in a distant region.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@Component
+public class StoreRoutingTable {
+
+    public static final int NO_STORE = 0;
+
+    private final StoreRepository storeRepository;
+    private final int maxDistance;
+    private final AtomicReference<Routes> routes = new AtomicReference<>();
+    private final Logger logger = LogManager.getLogger(StoreRoutingTable.class);
+
+    public StoreRoutingTable(StoreRepository storeRepository,
+                             @Value("${store.routing.max-distance:1000}") int maxDistance) {
+        this.storeRepository = storeRepository;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * <p>
+     *     Gets store serving given pin code, or nearest store within
+     *     maximum distance if no store has the pin code.
+     * </p>
+     *
+     * @param pinCode - To find store for given pin code
+     * @return store id, {@link #NO_STORE} if there is no active store
+     *         within maximum distance
+     */
+    public int getStoreId(int pinCode) {
+        return getRoutes().route(pinCode, maxDistance);
+    }
+
+    /**
+     * <p>
+     *     Loads all active stores and replaces routing table.
+     * </p>
+     */
+    @Scheduled(initialDelayString = "${store.routing.refresh-interval-ms:600000}",
+               fixedDelayString = "${store.routing.refresh-interval-ms:600000}")
+    public synchronized void refresh() {
+        logger.debug("Loading store routing table");
+        routes.set(new Routes(storeRepository.findByIsActive(true)));
+        logger.debug("Loaded store routing table");
+    }
+
+    /**
+     * <p>
+     *     Gets current table, loads it on first use.
+     * </p>
+     *
+     * @return - Current routes.
+     */
+    private Routes getRoutes() {
+        Routes current = routes.get();
+        if (current == null) {
+            synchronized (this) {
+                if (routes.get() == null) {
+                    refresh();
+                }
+                current = routes.get();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * <p>
+     *     Immutable table of pin codes in ascending order and their store
+     *     ids. If stores share a pin code, store of lowest id is kept.
+     * </p>
+     */
+    private static final class Routes {
+
+        private final int[] pinCodes;
+        private final int[] storeIds;
+
+        private Routes(List<StoreLocation> stores) {
+            long[] entries = new long[stores.size()];
+            for (int index = 0; index < entries.length; index++) {
+                StoreLocation store = stores.get(index);
+                entries[index] = ((long) store.getPinCode() << 32) | store.getId();
+            }
+            Arrays.sort(entries);
+            int[] sortedPinCodes = new int[entries.length];
+            int[] sortedStoreIds = new int[entries.length];
+            int size = 0;
+            for (long entry : entries) {
+                int pinCode = (int) (entry >> 32);
+                if (size == 0 || sortedPinCodes[size - 1] != pinCode) {
+                    sortedPinCodes[size] = pinCode;
+                    sortedStoreIds[size] = (int) entry;
+                    size++;
+                }
+            }
+            this.pinCodes = Arrays.copyOf(sortedPinCodes, size);
+            this.storeIds = Arrays.copyOf(sortedStoreIds, size);
+        }
+
+        private int route(int pinCode, int maxDistance) {
+            if (pinCodes.length == 0) {
+                return NO_STORE;
+            }
+            int index = Arrays.binarySearch(pinCodes, pinCode);
+            if (index >= 0) {
+                return storeIds[index];
+            }
+            int above = -index - 1;
+            long distanceAbove = above == pinCodes.length ? Long.MAX_VALUE
+                    : (long) pinCodes[above] - pinCode;
+            long distanceBelow = above == 0 ? Long.MAX_VALUE
+                    : (long) pinCode - pinCodes[above - 1];
+            if (Math.min(distanceAbove, distanceBelow) > maxDistance) {
+                return NO_STORE;
+            }
+            return distanceAbove < distanceBelow ? storeIds[above] : storeIds[above - 1];
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <p>
+ *     Immutable type-ahead suggestion of a product or a sub category,
+ *     held in suggestion trie and shared by readers.
+ * </p>
+ *
+ * @author RUBAN
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Getter
+@AllArgsConstructor
+public final class Suggestion {
+
+    public static final String PRODUCT = "PRODUCT";
+    public static final String SUB_CATEGORY = "SUB_CATEGORY";
+
+    private final int id;
+
+    private final String name;
+
+    private final String type;
+}
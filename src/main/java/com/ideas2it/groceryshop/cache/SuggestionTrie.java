@@ -0,0 +1,417 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ *     Immutable radix trie of product and sub category names for type-ahead.
+ *     Every name is inserted from its start and from start of each of its
+ *     words, so "apple" suggests "Green Apple" too. Edge labels are not
+ *     copied, a node refers to a range of characters of a normalized name,
+ *     and nodes are held in parallel int arrays with children of a node
+ *     stored next to each other and sorted by first character.
+ *     Best {@link #TOP_K} suggestions of every node are computed when trie
+ *     is built, so a lookup walks the typed characters and returns a
+ *     precomputed list. Names matched from their start rank before names
+ *     matched from a later word, then shorter names rank first.
+ * </p>
+ *
+ * @author RUBAN
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class SuggestionTrie {
+
+    static final int TOP_K = 10;
+
+    private final Suggestion[] suggestions;
+    private final String[] names;
+
+    private final int[] entrySuggestion;
+    private final int[] entryOffset;
+
+    private int nodeCount;
+    private int[] labelEntry;
+    private int[] labelFrom;
+    private int[] labelTo;
+    private int[] firstChild;
+    private int[] childCount;
+    private final int[] topStart;
+    private final int[] top;
+
+    /**
+     * <p>
+     *     Builds trie of given products and of their sub categories.
+     * </p>
+     *
+     * @param products - Active products of catalog.
+     */
+    public SuggestionTrie(List<CatalogProduct> products) {
+        List<Suggestion> allSuggestions = new ArrayList<>();
+        Set<Integer> subCategoryIds = new HashSet<>();
+        for (CatalogProduct product : products) {
+            allSuggestions.add(new Suggestion(product.getId(), product.getName(),
+                    Suggestion.PRODUCT));
+            if (subCategoryIds.add(product.getSubCategoryId())) {
+                allSuggestions.add(new Suggestion(product.getSubCategoryId(),
+                        product.getSubCategoryName(), Suggestion.SUB_CATEGORY));
+            }
+        }
+        List<EntryKey> keys = new ArrayList<>(allSuggestions.size());
+        for (int index = 0; index < allSuggestions.size(); index++) {
+            String name = normalize(allSuggestions.get(index).getName());
+            if (!name.isEmpty()) {
+                keys.add(new EntryKey(name, index));
+            }
+        }
+        keys.sort(Comparator.comparingInt((EntryKey key) -> key.text.length())
+                .thenComparing(Comparator.naturalOrder())
+                .thenComparing(key -> allSuggestions.get(key.entry).getType())
+                .thenComparingInt(key -> allSuggestions.get(key.entry).getId()));
+        suggestions = new Suggestion[keys.size()];
+        names = new String[keys.size()];
+        for (int index = 0; index < keys.size(); index++) {
+            suggestions[index] = allSuggestions.get(keys.get(index).entry);
+            names[index] = keys.get(index).text;
+        }
+        int entries = 0;
+        for (int index = 0; index < suggestions.length; index++) {
+            entries += wordStarts(names[index]);
+        }
+        entrySuggestion = new int[entries];
+        entryOffset = new int[entries];
+        int entry = 0;
+        for (int index = 0; index < names.length; index++) {
+            for (int offset = 0; offset < names[index].length(); offset++) {
+                if (offset == 0 || names[index].charAt(offset - 1) == ' ') {
+                    entrySuggestion[entry] = index;
+                    entryOffset[entry++] = offset;
+                }
+            }
+        }
+        int[] sorted = sortEntries();
+        int[][] ownRanges = build(sorted);
+        int[][] nodeTops = rank(sorted, ownRanges[0], ownRanges[1]);
+        topStart = new int[nodeCount + 1];
+        int size = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            topStart[node] = size;
+            size += nodeTops[node].length;
+        }
+        topStart[nodeCount] = size;
+        top = new int[size];
+        for (int node = 0; node < nodeCount; node++) {
+            System.arraycopy(nodeTops[node], 0, top, topStart[node], nodeTops[node].length);
+        }
+    }
+
+    /**
+     * <p>
+     *     Gets best suggestions whose name, or a word of name onwards,
+     *     starts with typed text.
+     * </p>
+     *
+     * @param query - Text typed by user.
+     * @param limit - Maximum suggestions, at most {@link #TOP_K} are kept.
+     * @return      - Suggestions best first, empty if nothing matches.
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || nodeCount == 0 || limit < 1) {
+            return Collections.emptyList();
+        }
+        int node = 0;
+        int position = 0;
+        while (true) {
+            String label = names[entrySuggestion[labelEntry[node]]];
+            int labelOffset = entryOffset[labelEntry[node]];
+            for (int depth = labelFrom[node]; depth < labelTo[node]; depth++) {
+                if (position == prefix.length()) {
+                    return topOf(node, limit);
+                }
+                if (label.charAt(labelOffset + depth) != prefix.charAt(position++)) {
+                    return Collections.emptyList();
+                }
+            }
+            if (position == prefix.length()) {
+                return topOf(node, limit);
+            }
+            node = findChild(node, prefix.charAt(position));
+            if (node < 0) {
+                return Collections.emptyList();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     *     Gets best suggestions matching typed text like
+     *     {@link #suggest(String, int)} by scanning all names, leaving out
+     *     given products. Used when precomputed suggestions are not enough
+     *     because some of them are left out.
+     * </p>
+     *
+     * @param query              - Text typed by user.
+     * @param limit              - Maximum suggestions.
+     * @param skippedProductIds  - Products to leave out.
+     * @return                   - Suggestions best first, empty if nothing
+     *                             matches.
+     */
+    List<Suggestion> scan(String query, int limit, Set<Integer> skippedProductIds) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit < 1) {
+            return Collections.emptyList();
+        }
+        List<Suggestion> result = new ArrayList<>();
+        List<Suggestion> wordMatches = new ArrayList<>();
+        String wordPrefix = " " + prefix;
+        for (int index = 0; index < suggestions.length && result.size() < limit; index++) {
+            Suggestion suggestion = suggestions[index];
+            if (Suggestion.PRODUCT.equals(suggestion.getType())
+                    && skippedProductIds.contains(suggestion.getId())) {
+                continue;
+            }
+            if (names[index].startsWith(prefix)) {
+                result.add(suggestion);
+            } else if (wordMatches.size() < limit && names[index].contains(wordPrefix)) {
+                wordMatches.add(suggestion);
+            }
+        }
+        for (int index = 0; index < wordMatches.size() && result.size() < limit; index++) {
+            result.add(wordMatches.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * <p>
+     *     Gets number of trie nodes.
+     * </p>
+     *
+     * @return - Node count.
+     */
+    int size() {
+        return nodeCount;
+    }
+
+    /**
+     * <p>
+     *     Joins lower cased words of text by single spaces.
+     * </p>
+     *
+     * @param text - Name or typed text.
+     * @return     - Normalized text.
+     */
+    static String normalize(String text) {
+        return String.join(" ", ProductSearchIndex.tokenize(text));
+    }
+
+    private static int wordStarts(String name) {
+        int starts = name.isEmpty() ? 0 : 1;
+        for (int index = 0; index < name.length(); index++) {
+            if (name.charAt(index) == ' ') {
+                starts++;
+            }
+        }
+        return starts;
+    }
+
+    private List<Suggestion> topOf(int node, int limit) {
+        int end = Math.min(topStart[node + 1], topStart[node] + limit);
+        List<Suggestion> result = new ArrayList<>(end - topStart[node]);
+        for (int index = topStart[node]; index < end; index++) {
+            result.add(suggestions[top[index]]);
+        }
+        return result;
+    }
+
+    private int findChild(int node, char character) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            char first = charAt(labelEntry[middle], labelFrom[middle]);
+            if (first < character) {
+                low = middle + 1;
+            } else if (first > character) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private int keyLength(int entry) {
+        return names[entrySuggestion[entry]].length() - entryOffset[entry];
+    }
+
+    private char charAt(int entry, int depth) {
+        return names[entrySuggestion[entry]].charAt(entryOffset[entry] + depth);
+    }
+
+    private int[] sortEntries() {
+        EntryKey[] keys = new EntryKey[entrySuggestion.length];
+        for (int entry = 0; entry < keys.length; entry++) {
+            keys[entry] = new EntryKey(names[entrySuggestion[entry]].substring(
+                    entryOffset[entry]), entry);
+        }
+        Arrays.sort(keys);
+        int[] sorted = new int[keys.length];
+        for (int index = 0; index < keys.length; index++) {
+            sorted[index] = keys[index].entry;
+        }
+        return sorted;
+    }
+
+    private int commonLength(int first, int second, int from) {
+        int length = Math.min(keyLength(first), keyLength(second));
+        int depth = from;
+        while (depth < length && charAt(first, depth) == charAt(second, depth)) {
+            depth++;
+        }
+        return depth;
+    }
+
+    /**
+     * <p>
+     *     Creates nodes breadth first from sorted entries, so children of
+     *     every node get consecutive indexes. A node covers a range of
+     *     sorted entries sharing its path, its label runs up to longest
+     *     prefix shared by first and last entry of the range.
+     * </p>
+     */
+    private int[][] build(int[] sorted) {
+        int capacity = Math.max(2 * sorted.length, 1);
+        labelEntry = new int[capacity];
+        labelFrom = new int[capacity];
+        labelTo = new int[capacity];
+        firstChild = new int[capacity];
+        childCount = new int[capacity];
+        int[] rangeStart = new int[capacity];
+        int[] rangeEnd = new int[capacity];
+        int[] ownEnd = new int[capacity];
+        nodeCount = sorted.length == 0 ? 0 : 1;
+        rangeEnd[0] = sorted.length;
+        for (int node = 0; node < nodeCount; node++) {
+            int start = rangeStart[node];
+            int end = rangeEnd[node];
+            int depth = commonLength(sorted[start], sorted[end - 1], labelFrom[node]);
+            labelEntry[node] = sorted[start];
+            labelTo[node] = depth;
+            firstChild[node] = nodeCount;
+            int child = start;
+            while (child < end && keyLength(sorted[child]) == depth) {
+                child++;
+            }
+            ownEnd[node] = child;
+            while (child < end) {
+                char character = charAt(sorted[child], depth);
+                int childEnd = child + 1;
+                while (childEnd < end && charAt(sorted[childEnd], depth) == character) {
+                    childEnd++;
+                }
+                labelFrom[nodeCount] = depth;
+                rangeStart[nodeCount] = child;
+                rangeEnd[nodeCount++] = childEnd;
+                child = childEnd;
+            }
+            childCount[node] = nodeCount - firstChild[node];
+        }
+        labelEntry = Arrays.copyOf(labelEntry, nodeCount);
+        labelFrom = Arrays.copyOf(labelFrom, nodeCount);
+        labelTo = Arrays.copyOf(labelTo, nodeCount);
+        firstChild = Arrays.copyOf(firstChild, nodeCount);
+        childCount = Arrays.copyOf(childCount, nodeCount);
+        return new int[][] {rangeStart, ownEnd};
+    }
+
+    /**
+     * <p>
+     *     Computes best suggestions of every node from entries ending at it
+     *     and best suggestions of its children, children are done first
+     *     since they have higher indexes. Rank of an entry is index of its
+     *     suggestion, moved after all names matched from start when entry
+     *     starts at a later word.
+     * </p>
+     */
+    private int[][] rank(int[] sorted, int[] ownStart, int[] ownEnd) {
+        int[][] nodeRanks = new int[nodeCount][];
+        for (int node = nodeCount - 1; node >= 0; node--) {
+            int lastChild = firstChild[node] + childCount[node];
+            int candidates = ownEnd[node] - ownStart[node];
+            for (int child = firstChild[node]; child < lastChild; child++) {
+                candidates += nodeRanks[child].length;
+            }
+            int[] ranks = new int[candidates];
+            int size = 0;
+            for (int index = ownStart[node]; index < ownEnd[node]; index++) {
+                int entry = sorted[index];
+                ranks[size++] = entrySuggestion[entry]
+                        + (entryOffset[entry] == 0 ? 0 : suggestions.length);
+            }
+            for (int child = firstChild[node]; child < lastChild; child++) {
+                for (int childRank : nodeRanks[child]) {
+                    ranks[size++] = childRank;
+                }
+            }
+            Arrays.sort(ranks);
+            int[] best = new int[Math.min(TOP_K, ranks.length)];
+            int count = 0;
+            for (int index = 0; index < ranks.length && count < best.length; index++) {
+                if (!containsSuggestion(best, count, ranks[index])) {
+                    best[count++] = ranks[index];
+                }
+            }
+            nodeRanks[node] = Arrays.copyOf(best, count);
+        }
+        for (int[] ranks : nodeRanks) {
+            for (int index = 0; index < ranks.length; index++) {
+                ranks[index] %= suggestions.length;
+            }
+        }
+        return nodeRanks;
+    }
+
+    private boolean containsSuggestion(int[] ranks, int count, int rank) {
+        for (int index = 0; index < count; index++) {
+            if (ranks[index] % suggestions.length == rank % suggestions.length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     *     Text used only while trie is built to sort entries or names,
+     *     with index of what it belongs to.
+     * </p>
+     */
+    private static final class EntryKey implements Comparable<EntryKey> {
+
+        private final String text;
+        private final int entry;
+
+        private EntryKey(String text, int entry) {
+            this.text = text;
+            this.entry = entry;
+        }
+
+        @Override
+        public int compareTo(EntryKey other) {
+            return text.compareTo(other.text);
+        }
+    }
+}
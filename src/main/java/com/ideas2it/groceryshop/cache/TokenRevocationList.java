@@ -0,0 +1,176 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ideas2it.groceryshop.repository.UserRepository;
+
+/**
+ * <p>
+ *     Keeps token versions of recently revoked users in memory. Tokens carry
+ *     the version of their user at the time they are issued, tokens issued
+ *     before user is revoked or role of user is changed are rejected.
+ *     Versions are stored with users, so revoked tokens stay revoked after
+ *     restart.
+ * </p>
+ * <p>
+ *     Only revocations made within token expiry are kept, older tokens are
+ *     expired anyway. Versions are used in stateless mode only, revocations
+ *     are loaded on first use and then only those made since last load, so
+ *     another instance may accept a revoked token until its next reload.
+ * </p>
+ *
+ * @version 1.0
+ * @author Rohit A P
+ * @since 17-10-2026
+ */
+@Component
+public class TokenRevocationList {
+
+    private final UserRepository userRepository;
+    private final boolean isStateless;
+    private final long expiryMillis;
+    private final long refreshIntervalMs;
+    private final Map<Integer, Revocation> revocations = new ConcurrentHashMap<>();
+    private volatile long loadedAt;
+    private volatile boolean loaded;
+    private final Logger logger = LogManager.getLogger(TokenRevocationList.class);
+
+    @Autowired
+    public TokenRevocationList(UserRepository userRepository,
+                               @Value("${jwt.stateless:false}") boolean isStateless,
+                               @Value("${jwt.expiry-seconds:36000}") long expirySeconds,
+                               @Value("${jwt.revocation.refresh-interval-ms:60000}")
+                               long refreshIntervalMs) {
+        this.userRepository = userRepository;
+        this.isStateless = isStateless;
+        this.expiryMillis = expirySeconds * 1000;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    /**
+     * <p>
+     *     Gets token version of user known from revocations within token
+     *     expiry, zero if user is not revoked in that time.
+     * </p>
+     *
+     * @param userId - To get version.
+     * @return       - Known version of user.
+     */
+    public int getUserVersion(Integer userId) {
+        if (!isStateless) {
+            return 0;
+        }
+        if (!loaded) {
+            load();
+        }
+        Revocation revocation = revocations.get(userId);
+        return revocation == null ? 0 : revocation.version;
+    }
+
+    /**
+     * <p>
+     *     Revokes all tokens issued to user so far.
+     * </p>
+     *
+     * @param userId - To revoke tokens.
+     */
+    public void revokeUser(Integer userId) {
+        logger.debug("Revoking tokens of user");
+        Date now = new Date();
+        userRepository.incrementTokenVersionById(userId, now);
+        if (isStateless) {
+            Integer version = userRepository.findTokenVersionById(userId);
+            if (version != null) {
+                revocations.merge(userId, new Revocation(version, now.getTime()),
+                        Revocation::latest);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     *     Revokes all tokens issued so far to users holding role, used when
+     *     role is renamed or deleted.
+     * </p>
+     *
+     * @param roleId - To revoke tokens of users holding role.
+     */
+    public void revokeRole(Integer roleId) {
+        logger.debug("Revoking tokens of role");
+        userRepository.incrementTokenVersionsByRoleId(roleId, new Date());
+        if (isStateless) {
+            refresh();
+        }
+    }
+
+    /**
+     * <p>
+     *     Checks if token issued with given version is revoked.
+     * </p>
+     *
+     * @param userId      - Id of user token is issued to.
+     * @param userVersion - User version carried by token.
+     * @return            - If token is revoked true or-else false.
+     */
+    public boolean isRevoked(Integer userId, int userVersion) {
+        return userVersion < getUserVersion(userId);
+    }
+
+    /**
+     * <p>
+     *     Loads revocations made since last load, or within token expiry on
+     *     first load, and drops revocations older than token expiry. Loads
+     *     overlap by refresh interval to pick revocations committed late,
+     *     version of a user never goes back, so a reload does not undo a
+     *     newer revocation.
+     * </p>
+     */
+    public void refresh() {
+        if (!isStateless) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long since = loaded ? loadedAt - refreshIntervalMs : now - expiryMillis;
+        logger.debug("Loading token versions");
+        for (Object[] userVersion : userRepository.findTokenVersionsUpdatedSince(new Date(since))) {
+            revocations.merge((Integer) userVersion[0], new Revocation((Integer) userVersion[1],
+                    ((Date) userVersion[2]).getTime()), Revocation::latest);
+        }
+        revocations.values().removeIf(revocation -> revocation.revokedAt < now - expiryMillis);
+        loadedAt = now;
+        loaded = true;
+    }
+
+    private synchronized void load() {
+        if (!loaded) {
+            refresh();
+        }
+    }
+
+    private static final class Revocation {
+        private final int version;
+        private final long revokedAt;
+
+        private Revocation(int version, long revokedAt) {
+            this.version = version;
+            this.revokedAt = revokedAt;
+        }
+
+        private static Revocation latest(Revocation current, Revocation loaded) {
+            return loaded.version > current.version ? loaded : current;
+        }
+    }
+}
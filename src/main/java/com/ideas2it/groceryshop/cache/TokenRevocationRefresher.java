@@ -0,0 +1,45 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>
+ *     Periodically loads revocations made by other instances into token
+ *     revocation list. Created in stateless mode only, token versions are
+ *     not read otherwise.
+ * </p>
+ *
+ * @version 1.0
+ * @author Rohit A P
+ * @since 17-10-2026
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.stateless", havingValue = "true")
+public class TokenRevocationRefresher {
+
+    private final TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    public TokenRevocationRefresher(TokenRevocationList tokenRevocationList) {
+        this.tokenRevocationList = tokenRevocationList;
+    }
+
+    /**
+     * <p>
+     *     Loads revocations made since last load.
+     * </p>
+     */
+    @Scheduled(initialDelayString = "${jwt.revocation.refresh-interval-ms:60000}",
+               fixedDelayString = "${jwt.revocation.refresh-interval-ms:60000}")
+    public void refresh() {
+        tokenRevocationList.refresh();
+    }
+}
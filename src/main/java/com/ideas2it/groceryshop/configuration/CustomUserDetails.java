@@ -19,6 +19,8 @@ import com.ideas2it.groceryshop.model.User;
 /**
  * <p>
  *    It holds login credentials of user.
+ *    In stateless mode it is built from token claims and
+ *    does not hold the user entity.
  * </p>
  *
  * @version 1.0
@@ -29,24 +31,36 @@ import com.ideas2it.groceryshop.model.User;
 public class CustomUserDetails implements UserDetails {
 
     private User user;
+    private Integer userId;
+    private String username;
+    private String roleName;
 
     public CustomUserDetails(User user) {
         this.user = user;
+        this.userId = user.getId();
+        this.username = user.getUserName();
+        this.roleName = user.getRole().getName();
+    }
+
+    public CustomUserDetails(Integer userId, String username, String roleName) {
+        this.userId = userId;
+        this.username = username;
+        this.roleName = roleName;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(user.getRole().getName()));
+        return List.of(new SimpleGrantedAuthority(roleName));
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return user == null ? null : user.getPassword();
     }
 
     @Override
     public String getUsername() {
-        return user.getUserName();
+        return username;
     }
 
     @Override
@@ -66,6 +80,6 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return user.getIsActive();
+        return user == null || user.getIsActive();
     }
 }
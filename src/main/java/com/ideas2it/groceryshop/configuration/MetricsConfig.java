@@ -0,0 +1,41 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p>
+ *     Provides the meter registry used to record cache and
+ *     request pipeline metrics.
+ * </p>
+ *
+ * @version 1.0
+ * @author Rohit A P
+ * @since 17-10-2026
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * <p>
+     *     Creates an in-memory meter registry when no other registry
+     *     (for example from actuator) is configured.
+     * </p>
+     *
+     * @return MeterRegistry - Registry to record metrics.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
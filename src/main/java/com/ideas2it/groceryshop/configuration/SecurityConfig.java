@@ -9,13 +9,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -35,46 +31,13 @@ import com.ideas2it.groceryshop.filter.CustomSecurityFilter;
 @EnableWebSecurity
 public class SecurityConfig {
 
-    private final UserDetailsService userDetailsService;
     private final CustomSecurityFilter customSecurityFilter;
 
     @Autowired
-    public SecurityConfig(UserDetailsService userDetailsService,
-                          CustomSecurityFilter customSecurityFilter) {
-        this.userDetailsService = userDetailsService;
+    public SecurityConfig(CustomSecurityFilter customSecurityFilter) {
         this.customSecurityFilter = customSecurityFilter;
     }
 
-    /**
-     * <p>
-     *     Creates bean for BCryptPasswordEncoder.
-     * </p>
-     *
-     * @return BCryptPasswordEncoder - Password encoder.
-     */
-    @Bean
-    public BCryptPasswordEncoder getPasswordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
-    /**
-     * <p>
-     *     Creates bean for DaoAuthenticationProvider T.
-     * </p>
-     *
-     * @return authenticationProvider  - Authenticate user based on username and password.
-     * @throws AuthenticationException - Contains invalid credentials message.
-     */
-    @Bean
-    public DaoAuthenticationProvider getAuthenticationProvider()
-                                             throws AuthenticationException {
-        DaoAuthenticationProvider daoAuthenticationProvider =
-                                             new DaoAuthenticationProvider();
-        daoAuthenticationProvider.setUserDetailsService(userDetailsService);
-        daoAuthenticationProvider.setPasswordEncoder(getPasswordEncoder());
-        return daoAuthenticationProvider;
-    }
-
     /**
      * <p>
      *     Restricts users from accessing all api.
@@ -99,7 +62,8 @@ public class SecurityConfig {
                         "/api/v1/user/orders/cancelledOrders",
                         "/api/v1/user/orders/*/*",
                         "/api/v1/user/orders/date/*/user/*",
-                        "/api/v1/user/orders/date/*", "/api/v1/stocks/products/*",
+                        "/api/v1/user/orders/date/*", "/api/v1/user/orders/dates",
+                        "/api/v1/stocks/products/*",
                         "/api/v1/stocks/location/*/products/*", "/api/v1/stores",
                         "/api/v1/user/orders/products/*",
                         "/api/v1/users/*/role")
@@ -126,7 +90,9 @@ public class SecurityConfig {
                         "/api/v1/user/orders/*/cancelOrder")
                 .hasRole("CUSTOMER")
                 .antMatchers(HttpMethod.POST , "/api/v1/user/orders/*",
-                        "/api/v1/user/carts")
+                        "/api/v1/user/carts",
+                        "/api/v1/user/carts/lines",
+                        "/api/v1/user/carts/reorder/*")
                 .hasRole("CUSTOMER")
                 .antMatchers(HttpMethod.GET, "/api/v1/user/orders/*",
                         "/api/v1/user/carts",
@@ -0,0 +1,77 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.configuration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * <p>
+ *     Counts SQL statements prepared by Hibernate on current thread while
+ *     counting is started, used to record statements run per order.
+ *     Statements sent outside Hibernate are added with count method.
+ *     Registered with hibernate.session_factory.statement_inspector property.
+ * </p>
+ *
+ * @version 1.0
+ * @author Dhanalakshmi M
+ * @since 17-10-2026
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> STATEMENTS = new ThreadLocal<>();
+
+    /**
+     * <p>
+     *     Counts given statement if counting is started, statement is
+     *     returned without change.
+     * </p>
+     *
+     * @param sql - Statement to be prepared.
+     * @return    - Same statement.
+     */
+    @Override
+    public String inspect(String sql) {
+        count(1);
+        return sql;
+    }
+
+    /**
+     * <p>
+     *     Starts counting statements on current thread.
+     * </p>
+     */
+    public static void start() {
+        STATEMENTS.set(new int[1]);
+    }
+
+    /**
+     * <p>
+     *     Adds statements sent outside Hibernate, ignored if counting
+     *     is not started.
+     * </p>
+     *
+     * @param statements - Number of statements sent.
+     */
+    public static void count(int statements) {
+        int[] counter = STATEMENTS.get();
+        if (counter != null) {
+            counter[0] += statements;
+        }
+    }
+
+    /**
+     * <p>
+     *     Stops counting statements on current thread.
+     * </p>
+     *
+     * @return - Statements counted since start.
+     */
+    public static int stop() {
+        int[] counter = STATEMENTS.get();
+        STATEMENTS.remove();
+        return counter == null ? 0 : counter[0];
+    }
+}
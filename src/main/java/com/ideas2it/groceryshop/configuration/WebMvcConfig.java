@@ -0,0 +1,52 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.configuration;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.ideas2it.groceryshop.filter.CachedBodyFilter;
+import com.ideas2it.groceryshop.interceptor.IdempotencyInterceptor;
+
+/**
+ * <p>
+ *     Registers interceptors of order placing apis and the filter keeping
+ *     their bodies for idempotency fingerprints.
+ * </p>
+ *
+ * @version 1.0
+ * @author Dhanalakshmi M
+ * @since 17-10-2026
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private static final String[] ORDER_PLACING_PATHS = {"/api/v1/user/orders/placeOrder",
+            "/api/v1/user/orders/buyNow"};
+
+    private final IdempotencyInterceptor idempotencyInterceptor;
+
+    public WebMvcConfig(IdempotencyInterceptor idempotencyInterceptor) {
+        this.idempotencyInterceptor = idempotencyInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(idempotencyInterceptor)
+                .addPathPatterns(ORDER_PLACING_PATHS);
+    }
+
+    @Bean
+    public FilterRegistrationBean<CachedBodyFilter> cachedBodyFilter() {
+        FilterRegistrationBean<CachedBodyFilter> registration =
+                new FilterRegistrationBean<>(new CachedBodyFilter());
+        registration.addUrlPatterns(ORDER_PLACING_PATHS);
+        return registration;
+    }
+}
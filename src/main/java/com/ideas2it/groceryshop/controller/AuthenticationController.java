@@ -13,24 +13,29 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ideas2it.groceryshop.configuration.CustomUserDetails;
 import com.ideas2it.groceryshop.dto.LoginRequestDto;
 import com.ideas2it.groceryshop.dto.LoginResponseDto;
+import com.ideas2it.groceryshop.model.User;
+import com.ideas2it.groceryshop.service.PasswordHashingService;
 import com.ideas2it.groceryshop.service.UserService;
 import com.ideas2it.groceryshop.util.SecurityUtil;
 
 /**
  * <p>
  *     Provides API to log-in user.
+ *     User is loaded once by username or mobile number, password is
+ *     verified against loaded user and token is created from it. Password
+ *     of unknown user is verified against a dummy hash, so that response
+ *     time does not tell which users exist.
  * </p>
  *
  * @version 1.0
@@ -41,21 +46,22 @@ import com.ideas2it.groceryshop.util.SecurityUtil;
 @RequestMapping("api/v1/login")
 public class AuthenticationController {
 
-    private final DaoAuthenticationProvider authenticationProvider;
     private final SecurityUtil jwtTokenUtil;
-    private final UserDetailsService userDetailsService;
     private final UserService userService;
+    private final PasswordHashingService passwordHashingService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
     private final Logger logger = LogManager.getLogger(AuthenticationController.class);
+    private volatile String unknownUserPassword;
 
     @Autowired
-    public AuthenticationController(DaoAuthenticationProvider authenticationProvider,
-                                    SecurityUtil jwtTokenUtil,
-                                    UserDetailsService userDetailsService,
-                                    UserService userService) {
-        this.authenticationProvider = authenticationProvider;
+    public AuthenticationController(SecurityUtil jwtTokenUtil,
+                                    UserService userService,
+                                    PasswordHashingService passwordHashingService,
+                                    UserDetailsPasswordService userDetailsPasswordService) {
         this.jwtTokenUtil = jwtTokenUtil;
-        this.userDetailsService = userDetailsService;
         this.userService = userService;
+        this.passwordHashingService = passwordHashingService;
+        this.userDetailsPasswordService = userDetailsPasswordService;
     }
 
     /**
@@ -75,10 +81,16 @@ public class AuthenticationController {
                      throws BadCredentialsException {
         logger.debug("Entered createAuthenticationToken");
         SecurityContextHolder.clearContext();
-        String userName = userService.getUserNameByMobileNumber
+        Optional<User> user = userService.getUserByUserNameOrMobileNumber
                 (loginRequestDto.get().getUserNameOrMobileNumber());
-        authenticate(userName, loginRequestDto.get().getPassword());
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userName);
+        if (user.isEmpty()) {
+            logger.debug("User not found");
+            passwordHashingService.matches(loginRequestDto.get().getPassword(),
+                                           getUnknownUserPassword());
+            throw new BadCredentialsException("INVALID_CREDENTIALS");
+        }
+        UserDetails userDetails = authenticate(new CustomUserDetails(user.get()),
+                loginRequestDto.get().getPassword());
         String token = jwtTokenUtil.generateToken(userDetails);
         logger.debug("Logged in successfully");
         return new LoginResponseDto(token, "Logged in successfully",
@@ -87,21 +99,41 @@ public class AuthenticationController {
 
     /**
      * <p>
-     *     Authenticates user by username and password.
+     *     Authenticates loaded user by password. Password is hashed again
+     *     and stored if it was hashed with lower cost than configured.
      * </p>
      *
-     * @param username - To authenticate username
-     * @param password - To authenticate password
+     * @param userDetails - Loaded user to authenticate
+     * @param password    - To authenticate password
+     * @return            - Authenticated user
      * @throws BadCredentialsException - If credentials are false
      */
-    private void authenticate(String username, String password)
+    private UserDetails authenticate(UserDetails userDetails, String password)
             throws BadCredentialsException {
         logger.debug("Entered authenticate method");
-        try {
-            authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken
-                    (username, password));
-        } catch (BadCredentialsException badCredentialsException) {
-            throw new BadCredentialsException("INVALID_CREDENTIALS", badCredentialsException);
+        if (!passwordHashingService.matches(password, userDetails.getPassword())) {
+            throw new BadCredentialsException("INVALID_CREDENTIALS");
+        }
+        if (passwordHashingService.upgradeEncoding(userDetails.getPassword())) {
+            logger.debug("Upgrading password encoding");
+            return userDetailsPasswordService.updatePassword(userDetails,
+                    passwordHashingService.encode(password));
+        }
+        return userDetails;
+    }
+
+    /**
+     * <p>
+     *     Gets dummy hash verified for unknown user, hashed once with
+     *     configured cost so that it takes as long as a real password.
+     * </p>
+     *
+     * @return - Hash of dummy password
+     */
+    private String getUnknownUserPassword() {
+        if (unknownUserPassword == null) {
+            unknownUserPassword = passwordHashingService.encode("unknownUserPassword");
         }
+        return unknownUserPassword;
     }
-}
\ No newline at end of file
+}
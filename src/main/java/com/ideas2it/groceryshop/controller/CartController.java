@@ -21,6 +21,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
 
+import com.ideas2it.groceryshop.dto.BulkCartRequestDto;
+import com.ideas2it.groceryshop.dto.BulkCartResponseDto;
 import com.ideas2it.groceryshop.dto.CartRequestDto;
 import com.ideas2it.groceryshop.dto.CartResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
@@ -94,6 +96,37 @@ public class CartController {
         return cartService.updateCart(cartRequest);
     }
 
+    /**
+     * <p>
+     *     Adds, updates and removes many products of cart of currently
+     *     logged-in user in a single request
+     * </p>
+     *
+     * @param bulkCartRequest - Contains operation, product id and quantity of each line
+     * @return                - Status code and message of each line and updated cart
+     */
+    @PostMapping("/lines")
+    public BulkCartResponseDto updateCartLines(@Valid @RequestBody BulkCartRequestDto
+                                               bulkCartRequest) {
+        logger.debug("Entered updateCartLines method in CartController");
+        return cartService.updateCartLines(bulkCartRequest);
+    }
+
+    /**
+     * <p>
+     *     Adds products of a past order of currently logged-in user to cart
+     * </p>
+     *
+     * @param orderId            - Order to add products from
+     * @return                   - Status code and message of each product and updated cart
+     * @throws NotFoundException - If order not found
+     */
+    @PostMapping("/reorder/{orderId}")
+    public BulkCartResponseDto reorder(@PathVariable Integer orderId) throws NotFoundException {
+        logger.debug("Entered reorder method in CartController");
+        return cartService.reorder(orderId);
+    }
+
     /**
      * <p>
      *     Removes all products from cartDetails and to delete cart
@@ -6,8 +6,8 @@
 package com.ideas2it.groceryshop.controller;
 
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 import lombok.RequiredArgsConstructor;
@@ -20,13 +20,16 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.GetMapping;
 
 import com.ideas2it.groceryshop.dto.OrderDetailResponseDto;
+import com.ideas2it.groceryshop.dto.OrderPageResponseDto;
 import com.ideas2it.groceryshop.dto.OrderRequestDto;
 import com.ideas2it.groceryshop.dto.OrderResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
 import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
 import com.ideas2it.groceryshop.service.OrderService;
 import com.ideas2it.groceryshop.service.impl.UserServiceImpl;
 
@@ -45,6 +48,8 @@ import com.ideas2it.groceryshop.service.impl.UserServiceImpl;
 @RequestMapping("/api/v1/user/orders")
 public class OrderController {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
     private final OrderService orderService;
     private final UserServiceImpl userService;
     private final Logger logger = LogManager.getLogger(OrderController.class);
@@ -57,10 +62,11 @@ public class OrderController {
      * @param orderRequest       - Contains addressId, which aids in order placement
      * @return                   - Success message and Status code
      * @throws NotFoundException - If cart not found.
+     * @throws OutOfStockException - If ordered quantity is not available in stock.
      */
     @PostMapping("/placeOrder")
     public SuccessResponseDto placeOrder(@RequestBody OrderRequestDto orderRequest)
-                                         throws NotFoundException {
+                                         throws NotFoundException, OutOfStockException {
         logger.debug("Entered placeOrder method in OrderController");
         return orderService.placeOrder(orderRequest);
     }
@@ -73,43 +79,56 @@ public class OrderController {
      * @param orderRequest        - quantity, productId, addressId
      * @return                    - Success message and Status code
      * @throws NotFoundException  - If Address not found.
+     * @throws OutOfStockException - If ordered quantity is not available in stock.
      */
     @PostMapping("/buyNow")
-    public SuccessResponseDto buyNow(@RequestBody OrderRequestDto orderRequest) throws NotFoundException {
+    public SuccessResponseDto buyNow(@RequestBody OrderRequestDto orderRequest)
+                                     throws NotFoundException, OutOfStockException {
         logger.debug("Entered buyNow method in OrderController");
         return orderService.buyNow(orderRequest);
     }
 
     /**
      * <p>
-     *     Gets list of active orders
+     *     Gets page of active orders, newest first
      * </p>
      *
-     * @return                   - List of active orders which contains userId,
+     * @param cursor             - Cursor of page, null for first page
+     * @param size               - Number of orders in page
+     * @return                   - Page of active orders which contains userId,
      *                             orderedDate, expectedDeliveryDate, totalPrice,
      *                             totalQuantity, orderDetails, isDelivered
      * @throws NotFoundException - If order not found.
+     * @throws ParseException    - If cursor is invalid
      */
     @GetMapping("/activeOrders")
-    public List<OrderResponseDto> viewAllActiveOrders() throws NotFoundException {
+    public OrderPageResponseDto viewAllActiveOrders(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer size)
+                                                    throws NotFoundException, ParseException {
         logger.debug("Entered viewAllActiveOrders method in OrderController");
-       return orderService.viewAllActiveOrders();
+       return orderService.viewAllActiveOrders(cursor, size);
     }
 
     /**
      * <p>
-     *     Gets list of cancelled orders
+     *     Gets page of cancelled orders, newest first
      * </p>
      *
-     * @return                   - List of cancelled orders which contains userId,
+     * @param cursor             - Cursor of page, null for first page
+     * @param size               - Number of orders in page
+     * @return                   - Page of cancelled orders which contains userId,
      *                             orderedDate, expectedDeliveryDate, totalPrice,
      *                             totalQuantity, orderDetails, isDelivered
      * @throws NotFoundException - If cancelled orders not found.
+     * @throws ParseException    - If cursor is invalid
      */
     @GetMapping("/cancelledOrders")
-    public List<OrderResponseDto> viewAllCancelledOrders() throws NotFoundException {
+    public OrderPageResponseDto viewAllCancelledOrders(
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(required = false) Integer size)
+                                    throws NotFoundException, ParseException {
         logger.debug("Entered viewAllCancelledOrders method in OrderController");
-        return orderService.viewAllCancelledOrders();
+        return orderService.viewAllCancelledOrders(cursor, size);
     }
 
     /**
@@ -130,19 +149,24 @@ public class OrderController {
 
     /**
      * <p>
-     *     Gets list of orders of specific user
+     *     Gets page of orders of current user, newest first
      * </p>
      *
-     * @return                   - Contains list of orders which contains
+     * @param cursor             - Cursor of page, null for first page
+     * @param size               - Number of orders in page
+     * @return                   - Contains page of orders which contains
      *                             userId, orderedDate, expectedDeliveryDate,
      *                             totalPrice, totalQuantity, orderDetails, isDelivered
      * @throws NotFoundException - If order not found.
+     * @throws ParseException    - If cursor is invalid
      */
     @GetMapping
-    public List<OrderResponseDto> viewOrderByUserId() throws NotFoundException {
+    public OrderPageResponseDto viewOrderByUserId(@RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer size)
+                                                  throws NotFoundException, ParseException {
         Integer userId = userService.getCurrentUser().getId();
         logger.debug("Entered viewOrderByUserId method in OrderController");
-        return orderService.viewOrderByUserId(userId);
+        return orderService.viewOrderByUserId(userId, cursor, size);
     }
 
     /**
@@ -180,23 +204,52 @@ public class OrderController {
 
     /**
      * <p>
-     *     Gets list of orders by orderedDate
+     *     Gets page of orders by orderedDate, newest first
      * </p>
      *
      * @param orderedDate        - To get orders of particular date
-     * @return OrderResponseDto  - List of orders which contains userId,
+     * @param cursor             - Cursor of page, null for first page
+     * @param size               - Number of orders in page
+     * @return OrderResponseDto  - Page of orders which contains userId,
      *                             orderedDate, expectedDeliveryDate, totalPrice,
      *                             totalQuantity, orderDetails, isDelivered
      * @throws NotFoundException - If order not found
-     * @throws ParseException    - If date format is invalid
+     * @throws ParseException    - If cursor is invalid
      */
     @GetMapping("/date/{orderedDate}")
-    public List<OrderResponseDto> viewOrdersByDate(@PathVariable String orderedDate)
-                                                   throws NotFoundException, ParseException {
+    public OrderPageResponseDto viewOrdersByDate(@PathVariable String orderedDate,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(required = false) Integer size)
+                                                 throws NotFoundException, ParseException {
         logger.debug("Entered viewOrdersByDate method in OrderController");
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd");
-        Date date = simpleDateFormat.parse(orderedDate);
-        return orderService.viewOrdersByDate(date);
+        LocalDate date = LocalDate.parse(orderedDate, DATE_FORMATTER);
+        return orderService.viewOrdersByDate(date, cursor, size);
+    }
+
+    /**
+     * <p>
+     *     Gets page of orders placed between two dates, both dates included
+     * </p>
+     *
+     * @param from               - First date of orders, yyyy-MM-dd
+     * @param to                 - Last date of orders, yyyy-MM-dd
+     * @param cursor             - Cursor of page, null for first page
+     * @param size               - Number of orders in page
+     * @return                   - Page of orders which contains userId,
+     *                             orderedDate, expectedDeliveryDate, totalPrice,
+     *                             totalQuantity, orderDetails, isDelivered
+     * @throws NotFoundException - If order not found
+     * @throws ParseException    - If cursor is invalid or from date is after to date
+     */
+    @GetMapping("/dates")
+    public OrderPageResponseDto viewOrdersByDateRange(@RequestParam String from,
+                                                      @RequestParam String to,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer size)
+                                                      throws NotFoundException, ParseException {
+        logger.debug("Entered viewOrdersByDateRange method in OrderController");
+        return orderService.viewOrdersByDateRange(LocalDate.parse(from, DATE_FORMATTER),
+                LocalDate.parse(to, DATE_FORMATTER), cursor, size);
     }
 
     /**
@@ -207,19 +260,22 @@ public class OrderController {
      *
      * @param orderedDate        - To get order of particular date
      * @param userId             - To get order of particular user
-     * @return                   - List of order which contains userId,
+     * @param cursor             - Cursor of page, null for first page
+     * @param size               - Number of orders in page
+     * @return                   - Page of order which contains userId,
      *                             orderedDate, expectedDeliveryDate, totalPrice,
      *                             totalQuantity, orderDetails, isDelivered
      * @throws NotFoundException - If order not found
-     * @throws ParseException    - If date format is invalid
+     * @throws ParseException    - If cursor is invalid
      */
     @GetMapping("/date/{orderedDate}/user/{userId}")
-    public List<OrderResponseDto> viewOrdersByIdAndDate(@PathVariable String orderedDate,
-                                                        @PathVariable Integer userId)
-                                                        throws NotFoundException, ParseException {
+    public OrderPageResponseDto viewOrdersByIdAndDate(@PathVariable String orderedDate,
+                                                      @PathVariable Integer userId,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer size)
+                                                      throws NotFoundException, ParseException {
         logger.debug("Entered viewOrdersByIdAndDate method in OrderController");
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd");
-        Date date = simpleDateFormat.parse(orderedDate);
-        return orderService.viewOrdersByIdAndDate(date, userId);
+        LocalDate date = LocalDate.parse(orderedDate, DATE_FORMATTER);
+        return orderService.viewOrdersByIdAndDate(date, userId, cursor, size);
     }
 }
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
@@ -22,6 +23,7 @@ import java.util.List;
 import com.ideas2it.groceryshop.dto.ProductRequestDto;
 import com.ideas2it.groceryshop.dto.ProductResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
+import com.ideas2it.groceryshop.dto.SuggestionResponseDto;
 import com.ideas2it.groceryshop.exception.ExistedException;
 import com.ideas2it.groceryshop.exception.NotFoundException;
 import com.ideas2it.groceryshop.service.ProductService;
@@ -72,14 +74,35 @@ public class ProductController {
      * </p>
      *
      * @param name               - Contains keywords.
+     * @param page               - Page of ranked products, starts from 0.
+     * @param size               - Products per page.
      * @return                   - list of matched products.
      * @throws NotFoundException - If products not found.
      */
     @GetMapping("/search/{name}")
-    public List<ProductResponseDto> getProductBySearch(@Valid @PathVariable("name") String name)
+    public List<ProductResponseDto> getProductBySearch(@Valid @PathVariable("name") String name,
+                                                       @RequestParam(required = false) Integer page,
+                                                       @RequestParam(required = false) Integer size)
                                                        throws NotFoundException {
         logger.debug("Entered into searchProduct method in product controller");
-        return productService.getProductsBySearch(name);
+        return productService.getProductsBySearch(name, page, size);
+    }
+
+    /**
+     * <p>
+     *     Suggests products and sub categories while user types,
+     *     called on every keystroke.
+     * </p>
+     *
+     * @param query - Text typed so far.
+     * @param limit - Maximum number of suggestions.
+     * @return      - Ids, names and types of suggestions, best first.
+     */
+    @GetMapping("/suggest")
+    public List<SuggestionResponseDto> getSuggestions(@RequestParam("q") String query,
+                                                      @RequestParam(required = false)
+                                                      Integer limit) {
+        return productService.getSuggestions(query, limit);
     }
 
     /**
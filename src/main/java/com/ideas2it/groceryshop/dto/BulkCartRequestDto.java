@@ -0,0 +1,38 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * <p>
+ *     It holds line operations applied to cart of currently logged-in user
+ *     in the given order with a single load and save of cart
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class BulkCartRequestDto {
+
+    @NotEmpty(message = "Cart lines cannot be empty")
+    @Size(max = 500, message = "At most 500 cart lines can be sent")
+    @Valid
+    private List<CartLineRequestDto> cartLines;
+}
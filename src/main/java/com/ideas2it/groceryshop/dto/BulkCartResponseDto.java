@@ -0,0 +1,34 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * <p>
+ *     It holds results of line operations in request order and cart after
+ *     they are applied, cart is null when it has no products
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class BulkCartResponseDto {
+
+    private List<CartLineResponseDto> cartLines;
+
+    private CartResponseDto cart;
+}
@@ -5,6 +5,8 @@
  */
 package com.ideas2it.groceryshop.dto;
 
+import com.ideas2it.groceryshop.model.Money;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -34,5 +36,5 @@ public class CartDetailResponseDto {
 
     private Integer quantity;
 
-    private Float price;
+    private Money price;
 }
@@ -0,0 +1,42 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+
+/**
+ * <p>
+ *     It holds a single line operation of bulk cart request, operation is
+ *     ADD, UPDATE or REMOVE and quantity is not needed to remove a product
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CartLineRequestDto {
+
+    @NotNull(message = "Operation cannot not be empty")
+    @Pattern(regexp = "ADD|UPDATE|REMOVE", message = "Operation must be ADD, UPDATE or REMOVE")
+    private String operation;
+
+    @NotNull(message = "Product id cannot not be empty")
+    private Integer productId;
+
+    @Positive(message = "Quantity must be greater than zero")
+    private Integer quantity;
+}
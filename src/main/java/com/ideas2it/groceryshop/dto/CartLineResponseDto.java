@@ -0,0 +1,36 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <p>
+ *     It holds result of a single line operation of bulk cart request
+ *     with status code and message as for a single cart request
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CartLineResponseDto {
+
+    private String operation;
+
+    private Integer productId;
+
+    private Integer statusCode;
+
+    private String message;
+}
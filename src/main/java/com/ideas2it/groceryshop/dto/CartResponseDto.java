@@ -6,6 +6,8 @@
 package com.ideas2it.groceryshop.dto;
 
 
+import com.ideas2it.groceryshop.model.Money;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -34,7 +36,7 @@ public class CartResponseDto {
 
     private Integer id;
 
-    private Float totalPrice;
+    private Money totalPrice;
 
     private List<CartDetailResponseDto> cartDetails;
 }
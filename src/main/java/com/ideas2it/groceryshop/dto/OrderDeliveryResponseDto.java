@@ -5,6 +5,8 @@
  */
 package com.ideas2it.groceryshop.dto;
 
+import com.ideas2it.groceryshop.model.Money;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -31,7 +33,7 @@ public class OrderDeliveryResponseDto {
 
     private Integer orderId;
 
-    private Float totalPrice;
+    private Money totalPrice;
 
     private Integer totalQuantity;
 
@@ -5,6 +5,8 @@
  */
 package com.ideas2it.groceryshop.dto;
 
+import com.ideas2it.groceryshop.model.Money;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -35,5 +37,5 @@ public class OrderDetailResponseDto {
 
     private Integer quantity;
 
-    private Float price;
+    private Money price;
 }
@@ -0,0 +1,34 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * <p>
+ *      It holds a page of orders and cursor of next page, cursor is
+ *      null when there is no next page.
+ * </p>
+ *
+ * @author   Dhanalakshmi M
+ * @version  1.0
+ * @since    17-10-2026
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class OrderPageResponseDto {
+
+    private List<OrderResponseDto> orders;
+
+    private String nextCursor;
+}
@@ -5,6 +5,8 @@
  */
 package com.ideas2it.groceryshop.dto;
 
+import com.ideas2it.groceryshop.model.Money;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,7 +19,7 @@ import java.util.List;
  * <p>
  *      It holds the OrderDeliveryResponseDto information(like userId, orderedDate,
  *      expectedDeliveryDate, totalPrice, totalQuantity, orderStatus, orderDetails,
- *      isDelivered) and also it is used to view order as response to user.
+ *      isDelivered, isRejected) and also it is used to view order as response to user.
  * </p>
  *
  * @author   Dhanalakshmi M
@@ -36,7 +38,7 @@ public class OrderResponseDto {
 
     private Date expectedDeliveryDate;
 
-    private Float totalPrice;
+    private Money totalPrice;
 
     private Integer totalQuantity;
 
@@ -45,4 +47,6 @@ public class OrderResponseDto {
     private List<OrderDetailResponseDto> orderDetails;
 
     private Boolean isDelivered;
+
+    private Boolean isRejected;
 }
@@ -5,11 +5,14 @@
  */
 package com.ideas2it.groceryshop.dto;
 
+import com.ideas2it.groceryshop.model.Money;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
 
 /**
  * <p>
@@ -32,7 +35,8 @@ public class ProductRequestDto {
     @NotBlank(message = "Name cannot be Empty")
     private String name;
 
-    private float price;
+    @NotNull(message = "Price cannot be Empty")
+    private Money price;
 
     private String unit;
 
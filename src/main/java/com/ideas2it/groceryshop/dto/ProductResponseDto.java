@@ -5,6 +5,8 @@
  */
 package com.ideas2it.groceryshop.dto;
 
+import com.ideas2it.groceryshop.model.Money;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -28,7 +30,7 @@ public class ProductResponseDto {
 
     private String name;
 
-    private float price;
+    private Money price;
 
     private String unit;
 
@@ -0,0 +1,34 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <p>
+ *      It holds id, name and type of a product or sub category
+ *      suggested while user types.
+ * </p>
+ *
+ * @author   RUBAN
+ * @version  1.0
+ * @since    17-10-2026
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class SuggestionResponseDto {
+
+    private Integer id;
+
+    private String name;
+
+    private String type;
+}
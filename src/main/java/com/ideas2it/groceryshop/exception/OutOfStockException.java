@@ -0,0 +1,32 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.exception;
+
+import java.util.List;
+
+/**
+ * <p>
+ *     Implemented to throw an exception when ordered quantity of one or
+ *     more products is not available in stock.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public class OutOfStockException extends Exception {
+
+    private final List<Integer> productIds;
+
+    public OutOfStockException(List<Integer> productIds) {
+        super("Stock not available for products " + productIds);
+        this.productIds = List.copyOf(productIds);
+    }
+
+    public List<Integer> getProductIds() {
+        return productIds;
+    }
+}
@@ -19,12 +19,15 @@ import org.springframework.web.client.HttpClientErrorException;
 
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.text.ParseException;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import com.ideas2it.groceryshop.dto.ErrorResponseDto;
 import com.ideas2it.groceryshop.exception.ExistedException;
 import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
 
 import javax.validation.UnexpectedTypeException;
 
@@ -68,7 +71,7 @@ public class ApplicationExceptionHandler {
      */
     @ResponseStatus(HttpStatus.CONFLICT)
     @ExceptionHandler({ExistedException.class,
-                       ParseException.class,
+                       OutOfStockException.class,
                        SQLIntegrityConstraintViolationException.class})
     public ErrorResponseDto handleAlReadyExistsException(Exception exception) {
         ErrorResponseDto error = new ErrorResponseDto();
@@ -77,6 +80,25 @@ public class ApplicationExceptionHandler {
         return error;
     }
 
+    /**
+     * <p>
+     *     It is implemented to handle ParseException or DateTimeParseException
+     *     thrown when a date, date range or page cursor of request is invalid.
+     * </p>
+     *
+     * @param exception - Contains error message.
+     * @return errorDto - Contains error message and error status code.
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler({ParseException.class,
+                       DateTimeParseException.class})
+    public ErrorResponseDto handleParseException(Exception exception) {
+        ErrorResponseDto errorDto = new ErrorResponseDto();
+        errorDto.setErrorMessage(exception.getMessage());
+        errorDto.setStatusCode(400);
+        return errorDto;
+    }
+
     /**
      * <p>
      *     It is implemented to handle BadCredentialsException or
@@ -190,4 +212,23 @@ public class ApplicationExceptionHandler {
         errorDto.setStatusCode(400);
         return errorDto;
     }
-}
\ No newline at end of file
+
+    /**
+     * <p>
+     *     It is implemented to handle RejectedExecutionException thrown
+     *     when password hashing queue is full.
+     * </p>
+     *
+     * @param rejectedExecutionException - Contains error message.
+     * @return errorDto                  - Contains error message and error code.
+     */
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ErrorResponseDto handleRejectedExecutionException
+                              (RejectedExecutionException rejectedExecutionException) {
+        ErrorResponseDto errorDto = new ErrorResponseDto();
+        errorDto.setErrorMessage("Server is busy, try again later");
+        errorDto.setStatusCode(503);
+        return errorDto;
+    }
+}
@@ -12,7 +12,13 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,11 +26,14 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.ideas2it.groceryshop.cache.PrincipalCache;
 import com.ideas2it.groceryshop.util.SecurityUtil;
 
 /**
  * <p>
  *     Check if bearer token is valid or not and give authentication.
+ *     In stateless mode principal is built from token claims
+ *     without loading user from database.
  * </p>
  *
  * @version 1.0
@@ -35,12 +44,19 @@ import com.ideas2it.groceryshop.util.SecurityUtil;
 public class CustomSecurityFilter extends OncePerRequestFilter {
     private final UserDetailsService userDetailsService;
     private final SecurityUtil securityUtil;
+    private final PrincipalCache principalCache;
+    private final boolean isStateless;
+    private final Logger logger = LogManager.getLogger(CustomSecurityFilter.class);
 
     @Autowired
     public CustomSecurityFilter(UserDetailsService userDetailsService,
-                                SecurityUtil securityUtil) {
+                                SecurityUtil securityUtil,
+                                PrincipalCache principalCache,
+                                @Value("${jwt.stateless:false}") boolean isStateless) {
         this.userDetailsService = userDetailsService;
         this.securityUtil = securityUtil;
+        this.principalCache = principalCache;
+        this.isStateless = isStateless;
     }
 
     /**
@@ -63,17 +79,21 @@ public class CustomSecurityFilter extends OncePerRequestFilter {
         final String requestTokenHeader = httpServletRequest.getHeader("Authorization");
         String username = null;
         String jwtToken = null;
+        Claims claims = null;
         if (requestTokenHeader != null) {
                 jwtToken = requestTokenHeader.substring(7);
                 try {
-                    username = securityUtil.getUsernameFromToken(jwtToken);
+                    claims = securityUtil.parseToken(jwtToken);
+                    username = claims.getSubject();
                 } catch (IllegalArgumentException illegalArgumentException) {
                     throw new IllegalArgumentException("Unable to get JWT Token");
+                } catch (JwtException jwtException) {
+                    logger.debug("Invalid or expired JWT Token");
                 }
             if (username != null &&
                     SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-                if (securityUtil.validateToken(jwtToken, userDetails)) {
+                UserDetails userDetails = getPrincipal(username, claims);
+                if (userDetails != null && securityUtil.validateToken(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken
                             usernamePasswordAuthenticationToken =
                             new UsernamePasswordAuthenticationToken
@@ -85,4 +105,21 @@ public class CustomSecurityFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(httpServletRequest, httpServletResponse);
     }
+
+    /**
+     * <p>
+     *     Gets principal of token. In stateless mode principal is built from
+     *     claims, tokens issued before stateless mode are loaded by username.
+     * </p>
+     *
+     * @param username - Subject of token.
+     * @param claims   - Claims of token.
+     * @return         - Principal, null if token is revoked.
+     */
+    private UserDetails getPrincipal(String username, Claims claims) {
+        if (isStateless && securityUtil.hasPrincipalClaims(claims)) {
+            return securityUtil.getPrincipalFromClaims(claims);
+        }
+        return principalCache.get(username, userDetailsService::loadUserByUsername);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.interceptor;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import com.ideas2it.groceryshop.cache.IdempotencyStore;
+import com.ideas2it.groceryshop.configuration.CustomUserDetails;
+import com.ideas2it.groceryshop.dto.SuccessResponseDto;
+import com.ideas2it.groceryshop.exception.ExistedException;
+import com.ideas2it.groceryshop.filter.CachedBodyFilter;
+
+/**
+ * <p>
+ *     Handles Idempotency-Key header of order requests. First request of
+ *     a key is handled and its response is stored, a retry with the same
+ *     key gets the stored response without placing the order again.
+ *     A key reused with a different method, path or body is refused.
+ *     Request without the header is handled as usual.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Component
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    static final String CLAIMED_KEY = IdempotencyInterceptor.class.getName() + ".claimedKey";
+    static final String USER_ID = IdempotencyInterceptor.class.getName() + ".userId";
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Logger logger = LogManager.getLogger(IdempotencyInterceptor.class);
+
+    public IdempotencyInterceptor(IdempotencyStore idempotencyStore, ObjectMapper objectMapper) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * <p>
+     *     Claims idempotency key of request or replays stored response.
+     * </p>
+     *
+     * @throws ExistedException - If request with same key is still running.
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                             Object handler) throws Exception {
+        String key = request.getHeader(IDEMPOTENCY_KEY);
+        Integer userId = getCurrentUserId();
+        if (key == null || key.isBlank() || userId == null) {
+            return true;
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Idempotency key is too long");
+            return false;
+        }
+        String fingerprint = getFingerprint(request);
+        IdempotencyStore.StoredRequest earlier = idempotencyStore.claim(userId, key, fingerprint);
+        if (earlier == null) {
+            request.setAttribute(CLAIMED_KEY, key);
+            request.setAttribute(USER_ID, userId);
+            return true;
+        }
+        if (!earlier.getFingerprint().equals(fingerprint)) {
+            logger.debug("Idempotency key is reused for a different request");
+            response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                    "Idempotency key is already used for a different request");
+            return false;
+        }
+        CompletableFuture<SuccessResponseDto> earlierResponse = earlier.getResponse();
+        if (!earlierResponse.isDone()) {
+            logger.debug("Request with same idempotency key is running");
+            throw new ExistedException("Request with same idempotency key is in progress");
+        }
+        logger.debug("Replaying response of idempotency key");
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        objectMapper.writeValue(response.getOutputStream(), earlierResponse.join());
+        return false;
+    }
+
+    /**
+     * <p>
+     *     Releases claimed key if request ended without a stored response.
+     * </p>
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception exception) {
+        String key = (String) request.getAttribute(CLAIMED_KEY);
+        if (key != null) {
+            idempotencyStore.release((Integer) request.getAttribute(USER_ID), key);
+        }
+    }
+
+    /**
+     * <p>
+     *     Builds fingerprint of request from its method, path and hash of
+     *     its body kept by cached body filter.
+     * </p>
+     *
+     * @param request - To get fingerprint.
+     * @return        - Fingerprint of request.
+     */
+    private String getFingerprint(HttpServletRequest request) throws NoSuchAlgorithmException {
+        byte[] body = new byte[0];
+        CachedBodyFilter.CachedBodyRequest cachedBodyRequest = WebUtils.getNativeRequest(
+                request, CachedBodyFilter.CachedBodyRequest.class);
+        if (cachedBodyRequest != null) {
+            body = cachedBodyRequest.getBody();
+        }
+        byte[] bodyHash = MessageDigest.getInstance("SHA-256").digest(body);
+        return request.getMethod() + " " + request.getRequestURI() + " "
+                + Base64.getEncoder().encodeToString(bodyHash);
+    }
+
+    private Integer getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof CustomUserDetails) {
+            return ((CustomUserDetails) authentication.getPrincipal()).getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.interceptor;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.ideas2it.groceryshop.cache.IdempotencyStore;
+import com.ideas2it.groceryshop.dto.SuccessResponseDto;
+
+/**
+ * <p>
+ *     Stores success response of request whose idempotency key is
+ *     claimed by idempotency interceptor, so that retries replay it.
+ *     Error responses are not stored and the key is released.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@ControllerAdvice
+public class IdempotentResponseAdvice implements ResponseBodyAdvice<SuccessResponseDto> {
+
+    private final IdempotencyStore idempotencyStore;
+
+    public IdempotentResponseAdvice(IdempotencyStore idempotencyStore) {
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return SuccessResponseDto.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public SuccessResponseDto beforeBodyWrite(SuccessResponseDto body, MethodParameter returnType,
+                                              MediaType selectedContentType,
+                                              Class<? extends HttpMessageConverter<?>> converterType,
+                                              ServerHttpRequest request,
+                                              ServerHttpResponse response) {
+        if (body != null && request instanceof ServletServerHttpRequest) {
+            HttpServletRequest servletRequest = ((ServletServerHttpRequest) request)
+                    .getServletRequest();
+            String key = (String) servletRequest.getAttribute(IdempotencyInterceptor.CLAIMED_KEY);
+            if (key != null) {
+                idempotencyStore.complete((Integer) servletRequest.getAttribute(
+                        IdempotencyInterceptor.USER_ID), key, body);
+            }
+        }
+        return body;
+    }
+}
@@ -5,11 +5,19 @@
  */
 package com.ideas2it.groceryshop.mapper;
 
+import com.ideas2it.groceryshop.cache.CartContents;
+import com.ideas2it.groceryshop.cache.CartLine;
+import com.ideas2it.groceryshop.cache.CartState;
+import com.ideas2it.groceryshop.cache.CatalogProduct;
+import com.ideas2it.groceryshop.cache.CategoryNode;
 import com.ideas2it.groceryshop.dto.CartDetailResponseDto;
 import com.ideas2it.groceryshop.dto.CartRequestDto;
 import com.ideas2it.groceryshop.dto.CartResponseDto;
 import com.ideas2it.groceryshop.model.Cart;
 import com.ideas2it.groceryshop.model.CartDetail;
+import com.ideas2it.groceryshop.model.Category;
+import com.ideas2it.groceryshop.model.Money;
+import com.ideas2it.groceryshop.model.Product;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -60,4 +68,73 @@ public class CartMapper {
         cart.setCartDetails(new ArrayList<>());
         return cart;
     }
+
+    /**
+     * <p>
+     *     Converts cart held in cart store to CartResponse
+     * </p>
+     *
+     * @param cart - Contains lines of cart
+     * @return     - Cart details like product details, total price etc
+     */
+    public static CartResponseDto toCartResponse(CartState cart) {
+        CartResponseDto cartResponse = new CartResponseDto();
+        cartResponse.setId(cart.getCartId());
+        cartResponse.setCreatedAt(cart.getCreatedAt());
+        CartContents contents = cart.getContents();
+        List<CartDetailResponseDto> cartDetailsResponse = new ArrayList<>();
+        for (CartLine line : contents.getLines()) {
+            CartDetailResponseDto cartDetailResponse = new CartDetailResponseDto();
+            cartDetailResponse.setProductName(line.getProductName());
+            cartDetailResponse.setSubCategory(line.getSubCategoryName());
+            cartDetailResponse.setCategory(line.getCategoryName());
+            cartDetailResponse.setQuantity(line.getQuantity());
+            cartDetailResponse.setPrice(Money.ofMinor(line.getPrice()));
+            cartDetailsResponse.add(cartDetailResponse);
+        }
+        cartResponse.setTotalPrice(Money.ofMinor(contents.getTotalPrice()));
+        cartResponse.setCartDetails(cartDetailsResponse);
+        return cartResponse;
+    }
+
+    /**
+     * <p>
+     *     Converts catalog product to new line of cart
+     * </p>
+     *
+     * @param product  - Product added to cart
+     * @param quantity - Quantity of product
+     * @return         - Cart line priced with current price of product
+     */
+    public static CartLine toCartLine(CatalogProduct product, int quantity) {
+        return new CartLine(product.getId(), product.getName(), product.getSubCategoryName(),
+                product.getCategoryName(), product.getPrice(), quantity,
+                Money.multiply(product.getPrice(), quantity));
+    }
+
+    /**
+     * <p>
+     *     Converts saved CartDetail to line of cart
+     * </p>
+     *
+     * @param cartDetail  - Contains product, quantity and price
+     * @param subCategory - Sub category node of product, null if it is not active
+     * @return            - Cart line
+     */
+    public static CartLine toCartLine(CartDetail cartDetail, CategoryNode subCategory) {
+        Product product = cartDetail.getProduct();
+        String subCategoryName;
+        String categoryName;
+        if (subCategory != null) {
+            subCategoryName = subCategory.getName();
+            categoryName = subCategory.getParentName();
+        } else {
+            Category category = product.getSubCategory();
+            subCategoryName = category.getName();
+            categoryName = category.getCategory().getName();
+        }
+        return new CartLine(product.getId(), product.getName(), subCategoryName, categoryName,
+                product.getPrice().getMinorUnits(), cartDetail.getQuantity(),
+                cartDetail.getPrice().getMinorUnits());
+    }
 }
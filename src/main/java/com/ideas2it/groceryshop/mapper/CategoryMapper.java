@@ -5,6 +5,7 @@
  */
 package com.ideas2it.groceryshop.mapper;
 
+import com.ideas2it.groceryshop.cache.CategoryNode;
 import com.ideas2it.groceryshop.dto.CategoryRequestDto;
 import com.ideas2it.groceryshop.dto.CategoryResponseDto;
 import com.ideas2it.groceryshop.dto.SubCategoryResponseDto;
@@ -50,6 +51,37 @@ public class CategoryMapper {
         return categoryResponseDto;
     }
 
+    /**
+     * <p>
+     *     Converts category tree node to category response dto.
+     * </p>
+     *
+     * @param categoryNode - Contains category id and name.
+     * @return CategoryResponseDto - Contains category id and name.
+     */
+    public static CategoryResponseDto toCategoryDto(CategoryNode categoryNode) {
+        CategoryResponseDto categoryResponseDto = new CategoryResponseDto();
+        categoryResponseDto.setId(categoryNode.getId());
+        categoryResponseDto.setName(categoryNode.getName());
+        return categoryResponseDto;
+    }
+
+    /**
+     * <p>
+     *     Converts category tree node to sub category response dto.
+     * </p>
+     *
+     * @param categoryNode - Contains sub category and its parent names.
+     * @return SubCategoryResponseDto - Contains category id, category name and sub category name.
+     */
+    public static SubCategoryResponseDto toSubCategoryDto(CategoryNode categoryNode) {
+        SubCategoryResponseDto subCategoryResponseDto = new SubCategoryResponseDto();
+        subCategoryResponseDto.setId(categoryNode.getId());
+        subCategoryResponseDto.setName(categoryNode.getName());
+        subCategoryResponseDto.setCategoryName(categoryNode.getParentName());
+        return subCategoryResponseDto;
+    }
+
     /**
      * <p>
      *     Converts category model to sub category response dto.
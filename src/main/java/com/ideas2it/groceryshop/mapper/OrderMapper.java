@@ -41,6 +41,7 @@ public class OrderMapper {
          orderResponseDto.setOrderStatus(order.getIsActive());
          orderResponseDto.setExpectedDeliveryDate(order.getOrderDelivery().getExpectedDeliveryDate());
          orderResponseDto.setIsDelivered(order.getOrderDelivery().getIsDelivered());
+         orderResponseDto.setIsRejected(order.getIsRejected());
          orderResponseDto.setUserId(order.getUser().getId());
          orderResponseDto.setOrderDetails(OrderDetailMapper.toOrderDetailDtoList
                                          (order.getOrderDetails()));
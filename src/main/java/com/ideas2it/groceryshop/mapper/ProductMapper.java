@@ -5,8 +5,11 @@
  */
 package com.ideas2it.groceryshop.mapper;
 
+import com.ideas2it.groceryshop.cache.CatalogProduct;
+import com.ideas2it.groceryshop.cache.CategoryNode;
 import com.ideas2it.groceryshop.dto.ProductRequestDto;
 import com.ideas2it.groceryshop.dto.ProductResponseDto;
+import com.ideas2it.groceryshop.model.Money;
 import com.ideas2it.groceryshop.model.Product;
 
 /**
@@ -57,4 +60,42 @@ public class ProductMapper {
         productResponseDto.setIsStockAvailable(true);
         return productResponseDto;
     }
+
+    /**
+     * <p>
+     *     Converts product entity to immutable catalog product, names of
+     *     sub category and category are taken from category tree so that
+     *     lazy sub category of product is not loaded.
+     * </p>
+     * @param product - Contains product details.
+     * @param subCategory - Category tree node of product's sub category.
+     * @return catalogProduct - Product details held in product catalog.
+     */
+    public static CatalogProduct toCatalogProduct(Product product, CategoryNode subCategory) {
+        return new CatalogProduct(product.getId(), product.getName(),
+                product.getPrice().getMinorUnits(), product.getUnit(), product.getPerHead(), product.getImage(),
+                subCategory.getId(), subCategory.getName(), subCategory.getParentId(),
+                subCategory.getParentName());
+    }
+
+    /**
+     * <p>
+     *     Converts catalog product to product response dto.
+     * </p>
+     * @param catalogProduct - Contains product details held in product catalog.
+     * @return productResponseDto - Contains product response details.
+     */
+    public static ProductResponseDto toProductDto(CatalogProduct catalogProduct) {
+        ProductResponseDto productResponseDto = new ProductResponseDto();
+        productResponseDto.setId(catalogProduct.getId());
+        productResponseDto.setUnit(catalogProduct.getUnit());
+        productResponseDto.setPerHead(catalogProduct.getPerHead());
+        productResponseDto.setName(catalogProduct.getName());
+        productResponseDto.setImage(catalogProduct.getImage());
+        productResponseDto.setPrice(Money.ofMinor(catalogProduct.getPrice()));
+        productResponseDto.setCategoryName(catalogProduct.getCategoryName());
+        productResponseDto.setSubCategoryName(catalogProduct.getSubCategoryName());
+        productResponseDto.setIsStockAvailable(true);
+        return productResponseDto;
+    }
 }
@@ -12,6 +12,7 @@ import javax.persistence.Table;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 
@@ -38,7 +39,8 @@ import com.ideas2it.groceryshop.audit.Audit;
 @Getter
 @NoArgsConstructor
 @Setter
-@Table(name = "address")
+@Table(name = "address", indexes = @Index(name = "idx_address_user_active",
+                                           columnList = "user_id, is_active"))
 public class Address extends Audit{
 
     @Id
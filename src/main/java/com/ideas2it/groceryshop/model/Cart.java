@@ -17,6 +17,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
@@ -37,7 +38,8 @@ import com.ideas2it.groceryshop.audit.Audit;
  * @since 02-11-2022
  */
 @Entity
-@Table(name = "cart")
+@Table(name = "cart", indexes = @Index(name = "idx_cart_user_active",
+                                        columnList = "user_id, is_active"))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -49,8 +51,8 @@ public class Cart extends Audit {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
-    @Column(name = "total_price", nullable = false, precision = 2)
-    private Float totalPrice;
+    @Column(name = "total_price", nullable = false, precision = 12, scale = 2)
+    private Money totalPrice;
 
     @Column(name = "total_quantity", nullable = false)
     private Integer totalQuantity;
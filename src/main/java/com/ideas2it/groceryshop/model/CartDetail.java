@@ -18,6 +18,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -36,7 +37,8 @@ import com.ideas2it.groceryshop.audit.Audit;
  * @since 02-11-2022
  */
 @Entity
-@Table(name = "cart_detail")
+@Table(name = "cart_detail", indexes = @Index(name = "idx_cart_detail_cart_active",
+                                               columnList = "cart_id, is_active"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -51,8 +53,8 @@ public class CartDetail extends Audit {
     @Column(name = "quantity", nullable = false)
     private Integer quantity;
 
-    @Column(name = "price", nullable = false, precision = 2)
-    private Float price;
+    @Column(name = "price", nullable = false, precision = 12, scale = 2)
+    private Money price;
 
     @ManyToOne(cascade = CascadeType.PERSIST)
     @JoinColumn(name = "product_id", referencedColumnName = "id")
@@ -15,6 +15,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -37,7 +38,9 @@ import com.ideas2it.groceryshop.audit.Audit;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "category")
+@Table(name = "category", indexes = {
+        @Index(name = "idx_category_parent_active", columnList = "parent_id, is_active"),
+        @Index(name = "idx_category_name", columnList = "name")})
 public class Category extends Audit {
 
     @Id
@@ -0,0 +1,139 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.model;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * <p>
+ *     Immutable amount of money held as a count of minor units (paise), so
+ *     sums and products are exact. It is stored as a decimal with two
+ *     places and written to and read from JSON as a plain number.
+ * </p>
+ *
+ * <p>
+ *     Static methods add and multiply amounts already held as minor units
+ *     without creating objects, for totals which are changed often.
+ *     Arithmetic fails with ArithmeticException instead of overflowing.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class Money implements Comparable<Money>, Serializable {
+
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    private static final long serialVersionUID = 1L;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    /**
+     * <p>
+     *     Gets amount of given minor units.
+     * </p>
+     *
+     * @param minorUnits - Amount in paise.
+     * @return           - Money.
+     */
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * <p>
+     *     Gets amount of given decimal, rounded half up to nearest paisa.
+     * </p>
+     *
+     * @param amount - Amount in rupees.
+     * @return       - Money, null if amount is null.
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue()
+                .longValueExact());
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    /**
+     * <p>
+     *     Gets amount as decimal with two places.
+     * </p>
+     *
+     * @return - Amount in rupees.
+     */
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(add(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(subtract(minorUnits, other.minorUnits));
+    }
+
+    public Money times(int quantity) {
+        return ofMinor(multiply(minorUnits, quantity));
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public static long add(long minorUnits, long otherMinorUnits) {
+        return Math.addExact(minorUnits, otherMinorUnits);
+    }
+
+    public static long subtract(long minorUnits, long otherMinorUnits) {
+        return Math.subtractExact(minorUnits, otherMinorUnits);
+    }
+
+    public static long multiply(long unitMinorUnits, int quantity) {
+        return Math.multiplyExact(unitMinorUnits, (long) quantity);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || (other instanceof Money && ((Money) other).minorUnits == minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
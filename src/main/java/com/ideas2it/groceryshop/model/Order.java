@@ -12,6 +12,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
@@ -41,7 +42,10 @@ import com.ideas2it.groceryshop.audit.Audit;
  * @since    18-11-2022
  */
 @Entity
-@Table(name = "order_item")
+@Table(name = "order_item", indexes = {
+        @Index(name = "idx_order_ordered_date", columnList = "ordered_date"),
+        @Index(name = "idx_order_user_ordered_date", columnList = "user_id, ordered_date"),
+        @Index(name = "idx_order_active_id", columnList = "is_active, id")})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -56,8 +60,8 @@ public class Order extends Audit {
     @CreationTimestamp
     private Date orderedDate;
 
-    @Column(name = "total_price", nullable = false)
-    private Float totalPrice;
+    @Column(name = "total_price", nullable = false, precision = 12, scale = 2)
+    private Money totalPrice;
 
     @Column(name = "total_quantity", nullable = false)
     private Integer totalQuantity;
@@ -65,6 +69,9 @@ public class Order extends Audit {
     @Column(name = "is_active", nullable = false, columnDefinition = "TINYINT")
     private Boolean isActive = Boolean.TRUE;
 
+    @Column(name = "is_rejected", nullable = false, columnDefinition = "TINYINT")
+    private Boolean isRejected = Boolean.FALSE;
+
     @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
     private List<OrderDetail> orderDetails;
@@ -63,4 +63,7 @@ public class OrderDelivery extends Audit {
     @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "shippingAddressId")
     private Address shippingAddress;
+
+    @Column(name = "store_location_id")
+    private Integer storeLocationId;
 }
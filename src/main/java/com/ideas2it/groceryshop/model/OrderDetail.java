@@ -48,8 +48,8 @@ public class OrderDetail extends Audit {
     @Column(name = "quantity", nullable = false)
     private Integer quantity;
 
-    @Column(name = "price", nullable = false)
-    private Float price;
+    @Column(name = "price", nullable = false, precision = 12, scale = 2)
+    private Money price;
 
     @ManyToOne
     @JoinColumn(name = "product_id", referencedColumnName = "id")
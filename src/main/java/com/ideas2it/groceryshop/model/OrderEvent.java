@@ -0,0 +1,76 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.model;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.util.Date;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * <p>
+ *     Outbox row written in the same transaction as an order, it tells
+ *     order event dispatcher to apply stock changes of the order after
+ *     the order is committed. Status is PENDING until it is processed,
+ *     cancelled with the order or rejected for unavailable stock. Event
+ *     which fails is dispatched again only after its next attempt time,
+ *     attempts counts its failures.
+ * </p>
+ *
+ * @author   Dhanalakshmi.M
+ * @version  1.0
+ * @since    17-10-2026
+ */
+@Entity
+@Table(name = "order_event", indexes = @Index(name = "idx_order_event_status_id",
+                                               columnList = "status, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class OrderEvent {
+
+    public static final String PENDING = "PENDING";
+    public static final String PROCESSED = "PROCESSED";
+    public static final String CANCELLED = "CANCELLED";
+    public static final String REJECTED = "REJECTED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "order_id", nullable = false, unique = true)
+    private Integer orderId;
+
+    @Column(name = "status", nullable = false, length = 16)
+    private String status = PENDING;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private Date createdAt;
+
+    @Column(name = "processed_at")
+    private Date processedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at")
+    private Date nextAttemptAt;
+
+    public OrderEvent(Integer orderId) {
+        this.orderId = orderId;
+    }
+}
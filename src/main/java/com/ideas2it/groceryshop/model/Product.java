@@ -16,6 +16,7 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -39,7 +40,9 @@ import com.ideas2it.groceryshop.audit.Audit;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name ="product")
+@Table(name ="product", indexes = {
+        @Index(name = "idx_product_sub_category_active", columnList = "sub_category_id, is_active"),
+        @Index(name = "idx_product_name", columnList = "name")})
 public class Product extends Audit {
 
     @Id
@@ -49,8 +52,8 @@ public class Product extends Audit {
     @Column(name = "name", length = 20, nullable = false)
     private String name;
 
-    @Column(name ="price", nullable = false)
-    private float price;
+    @Column(name ="price", nullable = false, precision = 12, scale = 2)
+    private Money price;
 
     @Column(name = "is_active", columnDefinition = "TINYINT")
     private boolean isActive = true;
@@ -11,6 +11,7 @@ import javax.persistence.Table;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -35,7 +36,8 @@ import com.ideas2it.groceryshop.audit.Audit;
 @Getter
 @NoArgsConstructor
 @Setter
-@Table(name = "role")
+@Table(name = "role", indexes = @Index(name = "idx_role_name_active",
+                                        columnList = "name, is_active"))
 public class Role extends Audit {
 
     @Id
@@ -16,6 +16,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
@@ -36,7 +37,9 @@ import javax.persistence.Table;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "stock")
+@Table(name = "stock", indexes = {
+        @Index(name = "idx_stock_product_location", columnList = "product_id, location_id"),
+        @Index(name = "idx_stock_location_product", columnList = "location_id, product_id")})
 public class Stock extends Audit {
 
     @Id
@@ -15,6 +15,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
@@ -39,7 +40,8 @@ import com.ideas2it.groceryshop.audit.Audit;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "store_location")
+@Table(name = "store_location", indexes = @Index(name = "idx_store_location_pin_code_active",
+                                                  columnList = "pin_code, is_active"))
 public class StoreLocation extends Audit {
 
     @Id
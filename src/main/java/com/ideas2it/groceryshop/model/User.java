@@ -14,6 +14,7 @@ import javax.persistence.Table;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.PostPersist;
@@ -45,7 +46,9 @@ import org.springframework.data.annotation.LastModifiedBy;
 @Getter
 @NoArgsConstructor
 @Setter
-@Table(name = "user")
+@Table(name = "user", indexes = {
+        @Index(name = "idx_user_mobile_number_active", columnList = "mobile_number, is_active"),
+        @Index(name = "idx_user_token_version_updated_at", columnList = "token_version_updated_at")})
 public class User {
 
     @Id
@@ -73,6 +76,12 @@ public class User {
     @Column(name = "is_active", nullable = false, columnDefinition = "TINYINT")
     private Boolean isActive = Boolean.TRUE;
 
+    @Column(name = "token_version", nullable = false, updatable = false)
+    private Integer tokenVersion = 0;
+
+    @Column(name = "token_version_updated_at", updatable = false)
+    private Date tokenVersionUpdatedAt;
+
     @ManyToOne(cascade = CascadeType.ALL)
     @JoinColumn(referencedColumnName = "id", columnDefinition = "role_id")
     private Role role;
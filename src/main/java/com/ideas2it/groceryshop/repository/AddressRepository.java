@@ -39,6 +39,7 @@ public interface AddressRepository extends JpaRepository<Address, Integer> {
      * @param id       - To get user addresses.
      * @return         - list of address.
      */
+    @Query("FROM Address a WHERE a.user.id = ?2 AND a.isActive = ?1")
     List<Address> findByIsActiveAndUserId(Boolean isActive, Integer id);
 
     /**
@@ -75,6 +76,7 @@ public interface AddressRepository extends JpaRepository<Address, Integer> {
      * @param userId    - To get user address.
      * @return Address  - Contains address details.
      */
+    @Query("FROM Address a WHERE a.id = ?2 AND a.user.id = ?3 AND a.isActive = ?1")
     Optional<Address> findByIsActiveAndIdAndUserId(Boolean isActive, Integer addressId,
                                                    Integer userId);
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import javax.transaction.Transactional;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -34,9 +35,21 @@ public interface CartRepository extends JpaRepository<Cart, Integer> {
      * @param isActive - To fetch active or deleted cart
      * @return Cart - Contains product detail added to cart
      */
+    @Query("FROM Cart c WHERE c.user.id = ?1 AND c.isActive = ?2")
     Optional<Cart> findByUserIdAndIsActive(Integer userId,
                                            Boolean isActive);
 
+    /**
+     * <p>
+     *     Retrieves active carts of given users with their active cart
+     *     details and products in a single query
+     * </p>
+     * @param userIds - To fetch carts
+     * @return Carts - Active carts, at most one per user
+     */
+    @Query("SELECT DISTINCT c FROM Cart c LEFT JOIN FETCH c.cartDetails d "
+            + "LEFT JOIN FETCH d.product WHERE c.user.id IN ?1 AND c.isActive = true")
+    List<Cart> findActiveWithDetailsByUserIds(List<Integer> userIds);
 
     /**
      * <p>
@@ -86,6 +86,17 @@ public interface CategoryRepository extends JpaRepository<Category, Integer> {
     @Query(value ="select * from category where parent_id = ?1 and is_active = ?2", nativeQuery = true)
     List<Category> findSubCategoriesByParentIdAndIsActive(Integer subCategoryId, Boolean status);
 
+    /**
+     * <p>
+     *     To fetch all active categories and sub categories with their
+     *     parent in single query.
+     * </p>
+     *
+     * @return - list of category.
+     */
+    @Query("select c from Category c left join fetch c.category where c.isActive = true")
+    List<Category> findAllActiveWithParents();
+
     /**
      * <p>
      *     To check category name already exist or not.
@@ -0,0 +1,102 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Date;
+import java.util.List;
+
+import com.ideas2it.groceryshop.model.OrderEvent;
+
+/**
+ * <p>
+ *     Provides services to write, claim and count order outbox events
+ * </p>
+ *
+ * @author Dhanalakshmi.M
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public interface OrderEventRepository extends JpaRepository<OrderEvent, Integer> {
+
+    /**
+     * <p>
+     *     Retrieves oldest events of given status which are due, event
+     *     waiting for its next attempt is skipped
+     * </p>
+     *
+     * @param status   - To fetch events of status
+     * @param now      - Events whose next attempt is not after now are due
+     * @param pageable - Number of events to fetch
+     * @return         - Events ordered by id
+     */
+    @Query("Select e from OrderEvent e where e.status = ?1 "
+            + "and (e.nextAttemptAt is null or e.nextAttemptAt <= ?2) order by e.id")
+    List<OrderEvent> findDueByStatus(String status, Date now, Pageable pageable);
+
+    /**
+     * <p>
+     *     Counts events of given status
+     * </p>
+     *
+     * @param status - To count events of status
+     * @return       - Number of events
+     */
+    long countByStatus(String status);
+
+    /**
+     * <p>
+     *     Moves pending event to given status, row stays locked until
+     *     the transaction ends so an event is claimed only once
+     * </p>
+     *
+     * @param eventId     - To claim event
+     * @param status      - New status of event
+     * @param processedAt - Time of claim
+     * @return Integer    - 1 rows affected if event is claimed
+     *                      0 rows affected if event is not pending
+     */
+    @Modifying
+    @Query("update OrderEvent e set e.status = ?2, e.processedAt = ?3 "
+            + "where e.id = ?1 and e.status = 'PENDING'")
+    Integer claimById(Integer eventId, String status, Date processedAt);
+
+    /**
+     * <p>
+     *     Moves pending event of order to given status
+     * </p>
+     *
+     * @param orderId     - To claim event of order
+     * @param status      - New status of event
+     * @param processedAt - Time of claim
+     * @return Integer    - 1 rows affected if event is claimed
+     *                      0 rows affected if event is not pending
+     */
+    @Modifying
+    @Query("update OrderEvent e set e.status = ?2, e.processedAt = ?3 "
+            + "where e.orderId = ?1 and e.status = 'PENDING'")
+    Integer claimByOrderId(Integer orderId, String status, Date processedAt);
+
+    /**
+     * <p>
+     *     Counts a failed attempt of pending event and puts off its next
+     *     attempt
+     * </p>
+     *
+     * @param eventId       - To defer event
+     * @param nextAttemptAt - Time before which event is not dispatched
+     * @return Integer      - 1 rows affected if event is deferred
+     *                        0 rows affected if event is not pending
+     */
+    @Modifying
+    @Query("update OrderEvent e set e.attempts = e.attempts + 1, e.nextAttemptAt = ?2 "
+            + "where e.id = ?1 and e.status = 'PENDING'")
+    Integer deferById(Integer eventId, Date nextAttemptAt);
+}
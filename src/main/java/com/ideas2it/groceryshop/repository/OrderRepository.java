@@ -5,15 +5,19 @@
  */
 package com.ideas2it.groceryshop.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import javax.transaction.Transactional;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
+import com.ideas2it.groceryshop.dto.CartDetailRequestDto;
 import com.ideas2it.groceryshop.model.OrderDetail;
 import com.ideas2it.groceryshop.model.Order;
 
@@ -30,25 +34,48 @@ public interface OrderRepository extends JpaRepository<Order, Integer> {
 
     /**
      * <p>
-     *     Retrieves list of active orders
+     *     Retrieves ids of page of active or cancelled orders placed before
+     *     given order id, newest first. Orders rejected for want of stock
+     *     are not cancelled orders and are left out
      * </p>
      *
-     * @param status - To fetch active or inactive order
-     * @return       - List of orders which contains orderedDate, totalPrice,
-     *                 totalQuantity, isActive, orderDetails, cart, user, orderDelivery
+     * @param status   - To fetch active or inactive order
+     * @param id       - Id of last order of previous page
+     * @param pageable - Number of orders to fetch
+     * @return         - List of order ids
      */
-    List<Order> findByIsActive(Boolean status);
+    @Query("Select o.id from Order o where o.isActive = ?1 AND o.isRejected = false "
+            + "AND o.id < ?2 order by o.id desc")
+    List<Integer> findIdsByIsActive(Boolean status, Integer id, Pageable pageable);
 
     /**
      * <p>
-     *     Retrieves list of order using user id
+     *     Retrieves ids of page of orders of user placed before given
+     *     order id, newest first
      * </p>
      *
-     * @param userId - To fetch list of order
-     * @return Order - List of orders which contains orderedDate, totalPrice, totalQuantity,
-     *                 isActive, orderDetails, cart, user, orderDelivery
+     * @param userId   - To fetch list of order
+     * @param id       - Id of last order of previous page
+     * @param pageable - Number of orders to fetch
+     * @return         - List of order ids
      */
-    List<Order> findByUserId(Integer userId);
+    @Query("Select o.id from Order o where o.user.id = ?1 AND o.id < ?2 order by o.id desc")
+    List<Integer> findIdsByUserId(Integer userId, Integer id, Pageable pageable);
+
+    /**
+     * <p>
+     *     Retrieves orders of given ids with their delivery, details,
+     *     products and categories in a single query, newest first
+     * </p>
+     *
+     * @param ids - Ids of orders to fetch
+     * @return    - List of orders which contains orderedDate, totalPrice,
+     *              totalQuantity, isActive, orderDetails, user, orderDelivery
+     */
+    @EntityGraph(attributePaths = {"orderDelivery", "orderDetails",
+            "orderDetails.product.subCategory.category"})
+    @Query("Select distinct o from Order o where o.id in ?1 order by o.id desc")
+    List<Order> findWithDetailsByIdIn(Collection<Integer> ids);
 
     /**
      * <p>
@@ -74,6 +101,8 @@ public interface OrderRepository extends JpaRepository<Order, Integer> {
      * @return        - orderedDate, totalPrice, totalQuantity, isActive,
      *                  orderDetails, cart, user, orderDelivery
      */
+    @EntityGraph(attributePaths = {"orderDelivery", "orderDetails",
+            "orderDetails.product.subCategory.category"})
     Optional<Order> findByIdAndUserId(Integer orderId, Integer userId);
 
     /**
@@ -106,26 +135,52 @@ public interface OrderRepository extends JpaRepository<Order, Integer> {
 
     /**
      * <p>
-     *     Retrieves orders of particular date
+     *     Retrieves product id and quantity of each product of an order of
+     *     specific user without loading order or products
+     * </p>
+     *
+     * @param orderId - To fetch products of order
+     * @param userId  - To fetch user order
+     * @return        - Product id and quantity of each order detail, empty
+     *                  if order is not found
+     */
+    @Query("Select new com.ideas2it.groceryshop.dto.CartDetailRequestDto(d.product.id, "
+            + "d.quantity) from Order o join o.orderDetails d where o.id = ?1 "
+            + "AND o.user.id = ?2 order by d.id")
+    List<CartDetailRequestDto> findOrderedProductsByIdAndUserId(Integer orderId,
+                                                                Integer userId);
+
+    /**
+     * <p>
+     *     Retrieves ids of page of orders placed from start time until
+     *     before end time and before given order id, newest first
      * </p>
      *
-     * @param orderedDate - To fetch list of orders
-     * @return            - List of orders which contains orderedDate, totalPrice,
-     *                      totalQuantity, isActive, orderDetails, cart, user, orderDelivery
+     * @param from     - Start of ordered time, inclusive
+     * @param to       - End of ordered time, exclusive
+     * @param id       - Id of last order of previous page
+     * @param pageable - Number of orders to fetch
+     * @return         - List of order ids
      */
-    @Query("Select o from Order o where date(o.orderedDate) = ?1")
-    List<Order> findByOrderedDate(Date orderedDate);
+    @Query("Select o.id from Order o where o.orderedDate >= ?1 AND o.orderedDate < ?2 "
+            + "AND o.id < ?3 order by o.id desc")
+    List<Integer> findIdsByOrderedDate(Date from, Date to, Integer id, Pageable pageable);
 
     /**
      * <p>
-     *     Retrieves orders by using userId and orderedDate
+     *     Retrieves ids of page of orders of user placed from start time
+     *     until before end time and before given order id, newest first
      * </p>
      *
-     * @param orderedDate - To fetch order
-     * @param userId      - To fetch user order
-     * @return            - List of orders which contains orderedDate, totalPrice,
-     *                      totalQuantity, isActive, orderDetails, cart, user, orderDelivery
+     * @param from     - Start of ordered time, inclusive
+     * @param to       - End of ordered time, exclusive
+     * @param userId   - To fetch user order
+     * @param id       - Id of last order of previous page
+     * @param pageable - Number of orders to fetch
+     * @return         - List of order ids
      */
-    @Query("Select o from Order o where Date(o.orderedDate) = ?1 AND o.user.id = ?2")
-    List<Order> findByOrderedDateAndUserId(Date orderedDate, Integer userId);
+    @Query("Select o.id from Order o where o.user.id = ?3 AND o.orderedDate >= ?1 "
+            + "AND o.orderedDate < ?2 AND o.id < ?4 order by o.id desc")
+    List<Integer> findIdsByOrderedDateAndUserId(Date from, Date to, Integer userId, Integer id,
+                                                Pageable pageable);
 }
@@ -5,6 +5,7 @@
  */
 package com.ideas2it.groceryshop.repository;
 
+import com.ideas2it.groceryshop.model.Money;
 import com.ideas2it.groceryshop.model.Product;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -84,7 +85,7 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
      * @param unit  - To check unit.
      * @return      - If exists true otherwise false.
      */
-    Boolean existsByNameAndPriceAndUnitAndPerHead(String name, Float price, String unit, Integer perHead);
+    Boolean existsByNameAndPriceAndUnitAndPerHead(String name, Money price, String unit, Integer perHead);
 
     /**
      * <p>
@@ -95,15 +96,4 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
      * @return     - If exists true or-else false.
      */
     Boolean existsByName(String name);
-
-    /**
-     * <p>
-     *     To fetch product by user keywords.
-     * </p>
-     *
-     * @param name - To check whether it is exists or not.
-     * @return     - list of product matched.
-     */
-    @Query(value = "select * from product where name LIKE %:name%" , nativeQuery = true)
-    List<Product> findProductBySearch(String name);
-}
\ No newline at end of file
+}
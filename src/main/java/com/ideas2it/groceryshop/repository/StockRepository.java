@@ -5,13 +5,13 @@
  */
 package com.ideas2it.groceryshop.repository;
 
-import com.ideas2it.groceryshop.model.Product;
 import com.ideas2it.groceryshop.model.Stock;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import javax.transaction.Transactional;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -24,7 +24,8 @@ import java.util.List;
  * @since 05-11-2022
  * @version 1.0
  */
-public interface StockRepository extends JpaRepository<Stock, Integer> {
+public interface StockRepository extends JpaRepository<Stock, Integer>,
+                                         StockRepositoryCustom {
 
     /**
      * <p>
@@ -35,6 +36,7 @@ public interface StockRepository extends JpaRepository<Stock, Integer> {
      * @param productId - To fetch stock
      * @return list of stock - contains list of stock for different location
      */
+    @Query("FROM Stock s WHERE s.product.id = ?1")
     List<Stock> findByProductId(Integer productId);
 
     /**
@@ -47,6 +49,7 @@ public interface StockRepository extends JpaRepository<Stock, Integer> {
      * @param locationId - To fetch stock for given location
      * @return Stock details - contains stocks for product id and location id
      */
+    @Query("FROM Stock s WHERE s.product.id = ?1 AND s.storeLocation.id = ?2")
     Stock findByProductIdAndStoreLocationId(Integer productId, Integer locationId);
 
     /**
@@ -66,22 +69,6 @@ public interface StockRepository extends JpaRepository<Stock, Integer> {
     @Transactional
     Integer updateStockByProductAndLocation(Integer stock, Integer productId, Integer locationId);
 
-    /**
-     * <p>
-     *     Decreases stock of product that user has ordered based on
-     *     product id, quantity and location id
-     * </p>
-     *
-     * @param quantity   - To decrease stock
-     * @param product    - To update stock for given product
-     * @param locationId - To update stock for given location
-     */
-    @Query("UPDATE Stock s SET s.availableStock = s.availableStock - ?1 "
-            + "where s.product = ?2 AND s.storeLocation.id = ?3")
-    @Modifying
-    @Transactional
-    void decreaseStockByProductsAndLocation(Integer quantity, Product product, Integer locationId);
-
     /**
      * <p>
      *     To check if stock is available or not for specific product on particular location
@@ -92,6 +79,7 @@ public interface StockRepository extends JpaRepository<Stock, Integer> {
      * @param productId  - To check stock for this product
      * @return true if exists else false
      */
+    @Query("SELECT COUNT(s) > 0 FROM Stock s WHERE s.storeLocation.id = ?1 AND s.product.id = ?2")
     Boolean existsByStoreLocationIdAndProductId(Integer locationId, Integer productId);
 
     /**
@@ -105,23 +93,40 @@ public interface StockRepository extends JpaRepository<Stock, Integer> {
      * @param expectedNumber - To check stock greater than expected number
      * @return true if stock is greater that expected number
      */
+    @Query("SELECT COUNT(s) > 0 FROM Stock s WHERE s.storeLocation.id = ?1 "
+            + "AND s.product.id = ?2 AND s.availableStock > ?3")
     Boolean existsByStoreLocationIdAndProductIdAndAvailableStockGreaterThan(Integer locationId,
                                                                             Integer productId,
                                                                             Integer expectedNumber);
 
     /**
      * <p>
-     *     Increases stock of product that user has cancelled
-     *     based on product, location and quantity Ordered
+     *     Retrieves ids of all products having stock greater than expected
+     *     number at given location in a single query
+     * </p>
+     *
+     * @param locationId     - To check stock for given location
+     * @param expectedNumber - To check stock greater than expected number
+     * @return list of product id - products having stock at location
+     */
+    @Query("SELECT s.product.id FROM Stock s "
+            + "where s.storeLocation.id = ?1 AND s.availableStock > ?2")
+    List<Integer> findProductIdsByLocationAndAvailableStockGreaterThan(Integer locationId,
+                                                                       Integer expectedNumber);
+
+    /**
+     * <p>
+     *     Retrieves ids of given products having stock greater than expected
+     *     number at given location in a single query
      * </p>
      *
-     * @param quantity   - To increase stock
-     * @param locationId - To increase stock in given location
-     * @param product    - To increase stock for given product
+     * @param locationId     - To check stock for given location
+     * @param productIds     - To check stock for given products
+     * @param expectedNumber - To check stock greater than expected number
+     * @return list of product id - given products having stock at location
      */
-    @Query("UPDATE Stock s SET s.availableStock = s.availableStock + ?1 "
-            + "where s.product = ?2 AND s.storeLocation.id = ?3")
-    @Modifying
-    @Transactional
-    void increaseStockByProductsAndLocation(Integer quantity, Product product, Integer locationId);
+    @Query("SELECT s.product.id FROM Stock s where s.storeLocation.id = ?1 "
+            + "AND s.product.id in ?2 AND s.availableStock > ?3")
+    List<Integer> findProductIdsByLocationAndProductIdsAndAvailableStockGreaterThan(
+            Integer locationId, Collection<Integer> productIds, Integer expectedNumber);
 }
@@ -0,0 +1,50 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.repository;
+
+import java.util.Map;
+
+import com.ideas2it.groceryshop.exception.OutOfStockException;
+
+/**
+ * <p>
+ *     Provide services to change stock of many products of a location
+ *     in a single batch
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public interface StockRepositoryCustom {
+
+    /**
+     * <p>
+     *     Reserves stock of all given products at location. Stock of a product
+     *     is decreased only if available stock is not less than quantity, if
+     *     any product cannot be reserved no stock is decreased.
+     *     Rows are updated in ascending product id order.
+     * </p>
+     *
+     * @param locationId         - To reserve stock for given location
+     * @param quantityByProduct  - Quantity to reserve for each product id
+     * @throws OutOfStockException - Contains every product which cannot be reserved
+     */
+    void reserveStocksByLocation(Integer locationId, Map<Integer, Integer> quantityByProduct)
+                                 throws OutOfStockException;
+
+    /**
+     * <p>
+     *     Increases stock of all given products at location in a single
+     *     transaction and JDBC batch, in ascending product id order.
+     * </p>
+     *
+     * @param locationId         - To increase stock for given location
+     * @param quantityByProduct  - Quantity to increase for each product id
+     * @return rows updated for each product in ascending product id order
+     */
+    int[] increaseStocksByLocation(Integer locationId, Map<Integer, Integer> quantityByProduct);
+}
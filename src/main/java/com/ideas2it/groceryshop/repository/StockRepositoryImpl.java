@@ -0,0 +1,109 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.repository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.transaction.Transactional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ideas2it.groceryshop.configuration.StatementCounter;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
+
+/**
+ * <p>
+ *     Implementation of batched stock changes using JDBC batch updates,
+ *     one statement per product sent to database in a single round trip
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class StockRepositoryImpl implements StockRepositoryCustom {
+
+    private static final String RESERVE_STOCK = "UPDATE stock SET available_stock = "
+            + "available_stock - ? WHERE location_id = ? AND product_id = ? "
+            + "AND available_stock >= ?";
+    private static final String INCREASE_STOCK = "UPDATE stock SET available_stock = "
+            + "available_stock + ? WHERE location_id = ? AND product_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StockRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(rollbackOn = OutOfStockException.class)
+    public void reserveStocksByLocation(Integer locationId,
+                                        Map<Integer, Integer> quantityByProduct)
+                                        throws OutOfStockException {
+        if (quantityByProduct.isEmpty()) {
+            return;
+        }
+        Map<Integer, Integer> sortedQuantities = new TreeMap<>(quantityByProduct);
+        List<Object[]> arguments = new ArrayList<>(sortedQuantities.size());
+        for (Map.Entry<Integer, Integer> entry : sortedQuantities.entrySet()) {
+            arguments.add(new Object[] {entry.getValue(), locationId, entry.getKey(),
+                                        entry.getValue()});
+        }
+        int[] rowsUpdated = jdbcTemplate.batchUpdate(RESERVE_STOCK, arguments);
+        StatementCounter.count(arguments.size());
+        List<Integer> unavailableProductIds = new ArrayList<>();
+        Iterator<Integer> productIds = sortedQuantities.keySet().iterator();
+        for (int rows : rowsUpdated) {
+            Integer productId = productIds.next();
+            if (rows == 0) {
+                unavailableProductIds.add(productId);
+            }
+        }
+        if (!unavailableProductIds.isEmpty()) {
+            throw new OutOfStockException(unavailableProductIds);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public int[] increaseStocksByLocation(Integer locationId,
+                                          Map<Integer, Integer> quantityByProduct) {
+        return batchUpdate(INCREASE_STOCK, locationId, quantityByProduct);
+    }
+
+    /**
+     * <p>
+     *     Runs given statement for each product in ascending product id order.
+     * </p>
+     *
+     * @param sql               - Update statement
+     * @param locationId        - Location of stock
+     * @param quantityByProduct - Quantity for each product id
+     * @return rows updated for each product
+     */
+    private int[] batchUpdate(String sql, Integer locationId,
+                              Map<Integer, Integer> quantityByProduct) {
+        if (quantityByProduct.isEmpty()) {
+            return new int[0];
+        }
+        List<Object[]> arguments = new ArrayList<>(quantityByProduct.size());
+        for (Map.Entry<Integer, Integer> entry : new TreeMap<>(quantityByProduct).entrySet()) {
+            arguments.add(new Object[] {entry.getValue(), locationId, entry.getKey()});
+        }
+        StatementCounter.count(arguments.size());
+        return jdbcTemplate.batchUpdate(sql, arguments);
+    }
+}
@@ -5,6 +5,7 @@
  */
 package com.ideas2it.groceryshop.repository;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -105,4 +106,58 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      * @return             - Contains user details.
      */
     Optional<User> findUserByMobileNumberAndIsActive(Long mobileNumber , Boolean isActive);
-}
\ No newline at end of file
+
+    /**
+     * <p>
+     *     Increases token version of user, tokens issued with older version
+     *     are revoked.
+     * </p>
+     *
+     * @param id        - To revoke tokens of user.
+     * @param updatedAt - Time of revocation.
+     */
+    @Modifying
+    @Transactional
+    @Query("update User set tokenVersion = tokenVersion + 1, tokenVersionUpdatedAt = ?2 "
+            + "where id = ?1")
+    void incrementTokenVersionById(Integer id, Date updatedAt);
+
+    /**
+     * <p>
+     *     Increases token version of users holding role, used when role is
+     *     renamed or deleted.
+     * </p>
+     *
+     * @param roleId    - To revoke tokens of users holding role.
+     * @param updatedAt - Time of revocation.
+     */
+    @Modifying
+    @Transactional
+    @Query("update User set tokenVersion = tokenVersion + 1, tokenVersionUpdatedAt = ?2 "
+            + "where role.id = ?1")
+    void incrementTokenVersionsByRoleId(Integer roleId, Date updatedAt);
+
+    /**
+     * <p>
+     *     Retrieves token version of user.
+     * </p>
+     *
+     * @param id - To get token version.
+     * @return   - Token version, null if user is not found.
+     */
+    @Query("select tokenVersion from User where id = ?1")
+    Integer findTokenVersionById(Integer id);
+
+    /**
+     * <p>
+     *     Retrieves id, token version and revocation time of users whose
+     *     tokens were revoked since given time.
+     * </p>
+     *
+     * @param since - Time to get revocations from.
+     * @return      - Triples of user id, token version and revocation time.
+     */
+    @Query("select id, tokenVersion, tokenVersionUpdatedAt from User "
+            + "where tokenVersionUpdatedAt >= ?1")
+    List<Object[]> findTokenVersionsUpdatedSince(Date since);
+}
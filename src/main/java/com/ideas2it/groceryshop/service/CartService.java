@@ -5,12 +5,15 @@
  */
 package com.ideas2it.groceryshop.service;
 
+import com.ideas2it.groceryshop.dto.BulkCartRequestDto;
+import com.ideas2it.groceryshop.dto.BulkCartResponseDto;
 import com.ideas2it.groceryshop.dto.CartRequestDto;
 import com.ideas2it.groceryshop.dto.CartResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
 import com.ideas2it.groceryshop.exception.ExistedException;
 import com.ideas2it.groceryshop.exception.NotFoundException;
 import com.ideas2it.groceryshop.model.Cart;
+import com.ideas2it.groceryshop.model.Order;
 
 /**
  * <p>
@@ -83,6 +86,31 @@ public interface CartService {
      */
     SuccessResponseDto updateCart(CartRequestDto cartRequest) throws NotFoundException;
 
+    /**
+     * <p>
+     *     Adds, updates and removes products of cart of currently logged-in
+     *     user in the given order with a single load and save of cart. A
+     *     line which cannot be applied does not stop other lines
+     * </p>
+     *
+     * @param bulkCartRequest - Contains operation, product id and quantity of each line
+     * @return                - Status code and message of each line and updated cart
+     */
+    BulkCartResponseDto updateCartLines(BulkCartRequestDto bulkCartRequest);
+
+    /**
+     * <p>
+     *     Adds products of a past order of currently logged-in user to cart
+     *     with ordered quantity and current price. Ordered quantity is added
+     *     to quantity of a product already in cart
+     * </p>
+     *
+     * @param orderId            - Order of currently logged-in user
+     * @return                   - Status code and message of each product and updated cart
+     * @throws NotFoundException - If order not found
+     */
+    BulkCartResponseDto reorder(Integer orderId) throws NotFoundException;
+
     /**
      * <p>
      *     Gets active cart of currently logged-in user
@@ -91,4 +119,25 @@ public interface CartService {
      * @return - Contains product details and it's total price
      */
     Cart getActiveCartOfCurrentUser();
+
+    /**
+     * <p>
+     *     Deactivates given cart and its products, changes are written
+     *     with surrounding transaction
+     * </p>
+     *
+     * @param cart - Loaded cart to deactivate
+     */
+    void deactivateCart(Cart cart);
+
+    /**
+     * <p>
+     *     Adds products of a rejected cart order back to cart of its user
+     *     once surrounding transaction is committed, with ordered quantity
+     *     and current price
+     * </p>
+     *
+     * @param order - Rejected order placed from cart
+     */
+    void restoreOrderedCart(Order order);
 }
@@ -0,0 +1,48 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.service;
+
+import java.util.Map;
+
+import com.ideas2it.groceryshop.cache.CartContents;
+import com.ideas2it.groceryshop.cache.CartState;
+import com.ideas2it.groceryshop.model.Cart;
+
+/**
+ * <p>
+ *     Provides services to load active cart of a user into cart store and
+ *     to save carts changed in cart store
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public interface CartStateService {
+
+    /**
+     * <p>
+     *     Loads active cart of given user with its lines
+     * </p>
+     *
+     * @param userId - To load cart
+     * @return       - Cart of user, without lines if user has no active cart
+     */
+    CartState loadCart(Integer userId);
+
+    /**
+     * <p>
+     *     Saves lines and totals of given carts in a single transaction.
+     *     Cart details are matched by product, so only changed lines are
+     *     written, and a cart without lines is deactivated
+     * </p>
+     *
+     * @param contentsByUserId - Contents of each changed cart by user id
+     * @return                 - Saved carts by user id, user whose cart had
+     *                           no lines and was never saved is left out
+     */
+    Map<Integer, Cart> saveCarts(Map<Integer, CartContents> contentsByUserId);
+}
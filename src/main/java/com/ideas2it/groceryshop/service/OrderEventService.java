@@ -0,0 +1,110 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.service;
+
+import java.util.List;
+
+import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
+import com.ideas2it.groceryshop.model.Order;
+import com.ideas2it.groceryshop.model.OrderEvent;
+
+/**
+ * <p>
+ *     Provides services to write order outbox events with orders and to
+ *     apply their stock changes after orders are committed
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public interface OrderEventService {
+
+    /**
+     * <p>
+     *     Checks if stock changes of orders are applied by outbox events
+     *     instead of on request thread
+     * </p>
+     *
+     * @return true if outbox is enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * <p>
+     *     Writes pending event of order in surrounding transaction
+     * </p>
+     *
+     * @param order - Saved order
+     */
+    void addOrderPlacedEvent(Order order);
+
+    /**
+     * <p>
+     *     Cancels pending event of order, so that stock which is not
+     *     reserved yet is not given back on order cancellation
+     * </p>
+     *
+     * @param orderId - To cancel event of order
+     * @return true if pending event is cancelled
+     */
+    boolean cancelPendingEvent(Integer orderId);
+
+    /**
+     * <p>
+     *     Gets oldest pending events which are due, event waiting for its
+     *     next attempt after a failure is skipped
+     * </p>
+     *
+     * @param limit - Maximum number of events
+     * @return pending events ordered by id
+     */
+    List<OrderEvent> getPendingEvents(int limit);
+
+    /**
+     * <p>
+     *     Counts pending events
+     * </p>
+     *
+     * @return number of pending events
+     */
+    long countPendingEvents();
+
+    /**
+     * <p>
+     *     Claims pending event and reserves stock of its order in one
+     *     transaction, event which is already claimed is skipped
+     * </p>
+     *
+     * @param event - Pending event
+     * @return true if event is processed by this call
+     * @throws OutOfStockException - If ordered quantity is not available in stock.
+     * @throws NotFoundException   - If there is no active store.
+     */
+    boolean processEvent(OrderEvent event) throws OutOfStockException, NotFoundException;
+
+    /**
+     * <p>
+     *     Claims pending event as rejected and marks its order as rejected,
+     *     products of an order placed from cart are put back in cart
+     * </p>
+     *
+     * @param event - Event whose stock is not available
+     */
+    void rejectEvent(OrderEvent event);
+
+    /**
+     * <p>
+     *     Records a failed attempt of pending event. Event is dispatched
+     *     again after a delay which doubles with every attempt, and is
+     *     rejected with its order once it has failed maximum attempts
+     * </p>
+     *
+     * @param event - Event whose processing failed
+     */
+    void retryOrRejectEvent(OrderEvent event);
+}
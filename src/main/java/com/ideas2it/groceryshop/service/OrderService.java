@@ -6,14 +6,16 @@
 package com.ideas2it.groceryshop.service;
 
 import java.text.ParseException;
-import java.util.Date;
+import java.time.LocalDate;
 import java.util.List;
 
 import com.ideas2it.groceryshop.dto.OrderDetailResponseDto;
+import com.ideas2it.groceryshop.dto.OrderPageResponseDto;
 import com.ideas2it.groceryshop.dto.OrderRequestDto;
 import com.ideas2it.groceryshop.dto.OrderResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
 import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
 
 
 /**
@@ -36,8 +38,10 @@ public interface OrderService {
      * @param orderRequest       - Contains addressId which helps to place order
      * @return                   - Success message and Status code
      * @throws NotFoundException - If cart not found.
+     * @throws OutOfStockException - If ordered quantity is not available in stock.
      */
-    SuccessResponseDto placeOrder(OrderRequestDto orderRequest) throws NotFoundException;
+    SuccessResponseDto placeOrder(OrderRequestDto orderRequest)
+                                  throws NotFoundException, OutOfStockException;
 
     /**
      * <p>
@@ -47,8 +51,10 @@ public interface OrderService {
      * @param orderRequest       - Contains quantity, productId, addressId
      * @return                   - Success message and Status code
      * @throws NotFoundException - If Address not found.
+     * @throws OutOfStockException - If ordered quantity is not available in stock.
      */
-    SuccessResponseDto buyNow(OrderRequestDto orderRequest) throws NotFoundException ;
+    SuccessResponseDto buyNow(OrderRequestDto orderRequest)
+                              throws NotFoundException, OutOfStockException;
 
     /**
      * <p>
@@ -64,38 +70,51 @@ public interface OrderService {
 
     /**
      * <p>
-     *     Gets list of active orders
+     *     Gets page of active orders, newest first
      * </p>
      *
-     * @return                   - List of active orders which contains userId,
+     * @param cursor           - Cursor of page, null for first page
+     * @param size             - Number of orders in page, capped to maximum page size
+     * @return                   - Page of active orders which contains userId,
      *                             orderedDate, expectedDeliveryDate, totalPrice,
      *                             totalQuantity, orderDetails, isDelivered
      * @throws NotFoundException - If order not found.
+     * @throws ParseException    - If cursor is invalid
      */
-    List<OrderResponseDto> viewAllActiveOrders() throws NotFoundException;
+    OrderPageResponseDto viewAllActiveOrders(String cursor, Integer size)
+                                             throws NotFoundException, ParseException;
 
     /**
      * <p>
-     *     Gets list of cancelled orders
+     *     Gets page of cancelled orders, newest first
      * </p>
      *
-     * @return                   - List of cancelled orders which contains userId,
+     * @param cursor           - Cursor of page, null for first page
+     * @param size             - Number of orders in page, capped to maximum page size
+     * @return                   - Page of cancelled orders which contains userId,
      *                             orderedDate, expectedDeliveryDate, totalPrice,
      *                             totalQuantity, orderDetails, isDelivered
      * @throws NotFoundException - If cancelled orders not found.
+     * @throws ParseException    - If cursor is invalid
      */
-    List<OrderResponseDto> viewAllCancelledOrders() throws NotFoundException;
+    OrderPageResponseDto viewAllCancelledOrders(String cursor, Integer size)
+                                                throws NotFoundException, ParseException;
 
     /**
      * <p>
-     *     Gets list of orders of a specific userId
+     *     Gets page of orders of a specific userId, newest first
      * </p>
      *
+     * @param userId             - To get orders of user
+     * @param cursor           - Cursor of page, null for first page
+     * @param size             - Number of orders in page, capped to maximum page size
      * @return                   - Contains userId, orderedDate, expectedDeliveryDate,
      *                             totalPrice, totalQuantity, orderDetails, isDelivered
      * @throws NotFoundException - If order not found.
+     * @throws ParseException    - If cursor is invalid
      */
-    List<OrderResponseDto> viewOrderByUserId(Integer userId) throws NotFoundException;
+    OrderPageResponseDto viewOrderByUserId(Integer userId, String cursor, Integer size)
+                                           throws NotFoundException, ParseException;
 
     /**
      * <p>
@@ -123,31 +142,58 @@ public interface OrderService {
 
     /**
      * <p>
-     *     Gets list of orders by orderedDate
+     *     Gets page of orders by orderedDate, newest first
      * </p>
      *
      * @param orderedDate        - To get orders of particular date
-     * @return                   - List of orders which contains userId,
+     * @param cursor           - Cursor of page, null for first page
+     * @param size             - Number of orders in page, capped to maximum page size
+     * @return                   - Page of orders which contains userId,
      *                             orderedDate, expectedDeliveryDate, totalPrice,
      *                             totalQuantity, orderDetails, isDelivered
      * @throws NotFoundException - If order not found
-     * @throws ParseException    - If date format is invalid
+     * @throws ParseException    - If cursor is invalid
      */
-    List<OrderResponseDto> viewOrdersByDate(Date orderedDate) throws NotFoundException;
+    OrderPageResponseDto viewOrdersByDate(LocalDate orderedDate, String cursor, Integer size)
+                                          throws NotFoundException, ParseException;
 
     /**
      * <p>
-     *     Gets list of orders of a specific user
-     *     as per mentioned orderedDate and userId
+     *     Gets page of orders placed between two dates, both dates
+     *     included, newest first
+     * </p>
+     *
+     * @param from               - First date of orders
+     * @param to                 - Last date of orders
+     * @param cursor             - Cursor of page, null for first page
+     * @param size               - Number of orders in page, capped to maximum page size
+     * @return                   - Page of orders which contains userId,
+     *                             orderedDate, expectedDeliveryDate, totalPrice,
+     *                             totalQuantity, orderDetails, isDelivered
+     * @throws NotFoundException - If order not found
+     * @throws ParseException    - If cursor is invalid or from date is after to date
+     */
+    OrderPageResponseDto viewOrdersByDateRange(LocalDate from, LocalDate to, String cursor,
+                                               Integer size)
+                                               throws NotFoundException, ParseException;
+
+    /**
+     * <p>
+     *     Gets page of orders of a specific user
+     *     as per mentioned orderedDate and userId, newest first
      * </p>
      *
      * @param orderedDate        - To get order of particular date
      * @param userId             - To get order of particular user
-     * @return                   - List of order which contains userId,
+     * @param cursor           - Cursor of page, null for first page
+     * @param size             - Number of orders in page, capped to maximum page size
+     * @return                   - Page of order which contains userId,
      *                             orderedDate, expectedDeliveryDate, totalPrice,
      *                             totalQuantity, orderDetails, isDelivered
      * @throws NotFoundException - If order not found
-     * @throws ParseException    - If date format is invalid
+     * @throws ParseException    - If cursor is invalid
      */
-    List<OrderResponseDto> viewOrdersByIdAndDate(Date orderedDate, Integer userId) throws NotFoundException;
+    OrderPageResponseDto viewOrdersByIdAndDate(LocalDate orderedDate, Integer userId, String cursor,
+                                               Integer size)
+                                               throws NotFoundException, ParseException;
 }
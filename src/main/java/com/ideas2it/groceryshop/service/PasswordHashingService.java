@@ -0,0 +1,57 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.service;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * <p>
+ *     Provides service to hash and verify passwords with configured
+ *     BCrypt cost. Hashing runs on a bounded pool of dedicated threads
+ *     so that it cannot occupy all request threads.
+ * </p>
+ *
+ * @version 1.0
+ * @author Rohit A P
+ * @since 17-10-2026
+ */
+public interface PasswordHashingService extends PasswordEncoder {
+
+    /**
+     * <p>
+     *     Hashes raw password with configured cost.
+     * </p>
+     *
+     * @param rawPassword - Password to hash.
+     * @return            - Hashed password.
+     */
+    @Override
+    String encode(CharSequence rawPassword);
+
+    /**
+     * <p>
+     *     Verifies raw password against hashed password.
+     * </p>
+     *
+     * @param rawPassword     - Password given by user.
+     * @param encodedPassword - Stored hashed password.
+     * @return                - If password matches true or-else false.
+     */
+    @Override
+    boolean matches(CharSequence rawPassword, String encodedPassword);
+
+    /**
+     * <p>
+     *     Checks if hashed password was created with lower cost than
+     *     configured cost and has to be hashed again.
+     * </p>
+     *
+     * @param encodedPassword - Stored hashed password.
+     * @return                - If password has to be hashed again true or-else false.
+     */
+    @Override
+    boolean upgradeEncoding(String encodedPassword);
+}
@@ -8,6 +8,7 @@ package com.ideas2it.groceryshop.service;
 import com.ideas2it.groceryshop.dto.ProductRequestDto;
 import com.ideas2it.groceryshop.dto.ProductResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
+import com.ideas2it.groceryshop.dto.SuggestionResponseDto;
 import com.ideas2it.groceryshop.exception.ExistedException;
 import com.ideas2it.groceryshop.exception.NotFoundException;
 import com.ideas2it.groceryshop.model.Product;
@@ -45,10 +46,24 @@ public interface ProductService {
      * </p>
      *
      * @param name               - Contains keyword to search.
+     * @param page               - Page of ranked products, first page if null.
+     * @param size               - Products per page, default size if null.
      * @return                   - Products if it matches with users given keywords.
      * @throws NotFoundException - If no products found for user search.
      */
-    List<ProductResponseDto> getProductsBySearch(String name) throws NotFoundException;
+    List<ProductResponseDto> getProductsBySearch(String name, Integer page, Integer size)
+            throws NotFoundException;
+
+    /**
+     * <p>
+     *     Gets products and sub categories suggested for text typed by user.
+     * </p>
+     *
+     * @param query - Text typed so far.
+     * @param limit - Maximum suggestions, default limit if null.
+     * @return      - Suggestions best first, empty if nothing matches.
+     */
+    List<SuggestionResponseDto> getSuggestions(String query, Integer limit);
 
     /**
      * <p>
@@ -10,6 +10,7 @@ import com.ideas2it.groceryshop.dto.StockResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
 import com.ideas2it.groceryshop.exception.ExistedException;
 import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
 import com.ideas2it.groceryshop.model.Order;
 
 import java.util.List;
@@ -87,22 +88,30 @@ public interface StockService {
 
     /**
      * <p>
-     *     Decreases stock for products available in order detail
-     *     based on given pin code
+     *     Reserves stock for products available in order detail
+     *     based on given pin code. Stock is decreased only if ordered
+     *     quantity of every product is available, or-else nothing is decreased.
+     *     Store the stock is reserved from is recorded on order delivery
      * </p>
      *
      * @param order   - Contains ordered product details to decrease stock
      * @param pinCode - To reduce stock for given pin code
+     * @throws OutOfStockException - Contains products which are not available
+     * @throws NotFoundException   - If there is no active store
      */
-    void removeStockByOrderDetails(Order order, Integer pinCode);
+    void removeStockByOrderDetails(Order order, Integer pinCode)
+                                   throws OutOfStockException, NotFoundException;
 
     /**
      * <p>
      *     Increases stock for products available in order detail,
-     *     when user cancelled the order
+     *     when user cancelled the order. Stock is returned to the store it
+     *     was reserved from, or to store routed by pin code for orders
+     *     placed before store was recorded
      * </p>
      *
-     * @param order - Contains cancelled product details to increase stock
+     * @param order             - Contains cancelled product details to increase stock
+     * @throws NotFoundException - If store is not recorded and there is no active store
      */
-    void updateStockByOrderDetails(Order order);
+    void updateStockByOrderDetails(Order order) throws NotFoundException;
 }
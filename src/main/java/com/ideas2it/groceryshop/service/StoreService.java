@@ -98,11 +98,14 @@ public interface StoreService {
 
     /**
      * <p>
-     *     Gets store details based on given pinCode
+     *     Gets active store serving given pinCode, or nearest active store
+     *     within maximum routing distance if no store has given pinCode
      * </p>
      *
-     * @param pinCode        - To get store details for given pin code
-     * @return storeLocation - Store details like area and pinCode
+     * @param pinCode            - To get store for given pin code
+     * @return                   - Id of store
+     * @throws NotFoundException - If there is no active store within
+     *                             maximum routing distance
      */
-    StoreLocation getStoreByPinCode(Integer pinCode);
+    Integer getStoreIdByPinCode(Integer pinCode) throws NotFoundException;
 }
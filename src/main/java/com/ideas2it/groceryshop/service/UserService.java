@@ -6,6 +6,7 @@
 package com.ideas2it.groceryshop.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
 import com.ideas2it.groceryshop.dto.UserRequestDto;
@@ -83,16 +84,15 @@ public interface UserService {
 
     /**
      * <p>
-     *     Gets userName by mobile number.
-     *     Using Regex given string is validated as mobile number or username.
-     *     If given string is mobileNumber using mobileNumber userName is
-     *     retrieved and returned, else userName is returned.
+     *     Gets active user by username or mobile number with single lookup.
+     *     Using Regex given string is validated as mobile number or username
+     *     and user is retrieved by mobile number or username.
      * </p>
      *
      * @param userNameOrMobileNumber - Contains username or mobileNumber.
-     * @return userName              - username.
+     * @return                       - User if exists or-else empty.
      */
-    String getUserNameByMobileNumber(String userNameOrMobileNumber);
+    Optional<User> getUserByUserNameOrMobileNumber(String userNameOrMobileNumber);
 
     /**
      * <p>
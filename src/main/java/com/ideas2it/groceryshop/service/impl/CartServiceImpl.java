@@ -5,22 +5,29 @@
  */
 package com.ideas2it.groceryshop.service.impl;
 
+import com.ideas2it.groceryshop.cache.CartOperation;
+import com.ideas2it.groceryshop.cache.CartState;
+import com.ideas2it.groceryshop.cache.CartStore;
+import com.ideas2it.groceryshop.cache.CatalogProduct;
+import com.ideas2it.groceryshop.cache.ProductCatalog;
+import com.ideas2it.groceryshop.dto.BulkCartRequestDto;
+import com.ideas2it.groceryshop.dto.BulkCartResponseDto;
 import com.ideas2it.groceryshop.dto.CartDetailRequestDto;
+import com.ideas2it.groceryshop.dto.CartLineRequestDto;
+import com.ideas2it.groceryshop.dto.CartLineResponseDto;
 import com.ideas2it.groceryshop.dto.CartRequestDto;
 import com.ideas2it.groceryshop.dto.CartResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
 import com.ideas2it.groceryshop.exception.ExistedException;
 import com.ideas2it.groceryshop.exception.NotFoundException;
-import com.ideas2it.groceryshop.mapper.CartDetailMapper;
 import com.ideas2it.groceryshop.mapper.CartMapper;
 import com.ideas2it.groceryshop.model.Cart;
 import com.ideas2it.groceryshop.model.CartDetail;
-import com.ideas2it.groceryshop.model.Product;
+import com.ideas2it.groceryshop.model.Order;
 import com.ideas2it.groceryshop.model.User;
 import com.ideas2it.groceryshop.repository.CartRepository;
-import com.ideas2it.groceryshop.service.CartDetailService;
+import com.ideas2it.groceryshop.repository.OrderRepository;
 import com.ideas2it.groceryshop.service.CartService;
-import com.ideas2it.groceryshop.service.ProductService;
 import com.ideas2it.groceryshop.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -29,14 +36,19 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * <p>
  *     Provide implementation for services to add, update, view and delete products
- *     from and to cart based on currently logged-in user
+ *     from and to cart based on currently logged-in user. Carts are changed in
+ *     cart store and saved by it
  * </p>
  *
  * @author Mohammed Ammar
@@ -47,10 +59,14 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CartServiceImpl implements CartService {
     private final Logger logger = LogManager.getLogger(CartServiceImpl.class);
+    private static final String ADD = "ADD";
+    private static final String UPDATE = "UPDATE";
+    private static final String REMOVE = "REMOVE";
     private final CartRepository cartRepository;
+    private final OrderRepository orderRepository;
     private final UserService userService;
-    private final ProductService productService;
-    private final CartDetailService cartDetailService;
+    private final ProductCatalog productCatalog;
+    private final CartStore cartStore;
 
     /**
      * {@inheritDoc}
@@ -59,87 +75,24 @@ public class CartServiceImpl implements CartService {
     public SuccessResponseDto addOrModifyCart(CartRequestDto cartRequest)
                                               throws NotFoundException, ExistedException {
         logger.debug("Entered addOrModifyCart method in CartServiceImpl");
-        Cart cart = getActiveCartOfCurrentUser();
-        if (cart == null) {
-            cart = CartMapper.toCart(cartRequest);
-            cart.setUser(userService.getCurrentUser());
+        CartDetailRequestDto cartDetailRequest = cartRequest.getCartDetail();
+        CartState cart = cartStore.getCart(userService.getCurrentUser().getId());
+        if (cart.getLine(cartDetailRequest.getProductId()) != null) {
+            logger.error("already added to cart");
+            throw new ExistedException("Already added to cart");
         }
-        List<CartDetail> cartDetails = addProductToCartDetail(cartRequest.getCartDetail(),
-                                                              cart.getCartDetails());
-        cart.setCartDetails(cartDetails);
-        cart.setTotalPrice(calculateTotalPrice(cartDetails));
-        cart.setTotalQuantity(calculateTotalQuantity(cartDetails));
-        cartRepository.save(cart);
-        logger.debug("product added to cart");
-        return new SuccessResponseDto(201, "Product added to cart successfully");
-    }
-
-    /**
-     * <p>
-     *     Finds product by id and to verify if already exist in cart
-     *     then add product details and calculated price to Cart
-     * </p>
-     *
-     * @param cartDetailRequest - Contains product id and quantity to add into cart
-     * @param cartDetails - Contains existing list of products added to cart as cartDetail
-     * @return CartDetails - Contains updated list of products added to cart as cartDetail
-     * @throws NotFoundException - If product not found
-     * @throws ExistedException - If product already exist in cart
-     */
-    private List<CartDetail> addProductToCartDetail(CartDetailRequestDto cartDetailRequest,
-                                                    List<CartDetail> cartDetails)
-                                                    throws NotFoundException, ExistedException {
-        logger.debug("Entered addProductToCartDetail private method in cartServiceImpl");
-        for (CartDetail eachCartDetail : cartDetails) {
-            if (eachCartDetail.getProduct().getId() == cartDetailRequest.getProductId()) {
-                logger.error("already added to cart");
-                throw new ExistedException("Already added to cart");
-            }
-        }
-        Product product = productService.getProductByProductId(cartDetailRequest.getProductId());
+        CatalogProduct product = productCatalog.getProductById(cartDetailRequest.getProductId());
         if (product == null) {
             logger.error("product not found");
             throw new NotFoundException("Product not found");
         }
-        CartDetail cartDetail = CartDetailMapper.toCartDetail(cartDetailRequest);
-        cartDetail.setProduct(product);
-        cartDetail.setPrice(product.getPrice() * cartDetail.getQuantity());
-        cartDetails.add(cartDetail);
-        return cartDetails;
-    }
-
-    /**
-     * <p>
-     *     Calculates total price of all products available in cart
-     * </p>
-     *
-     * @param cartDetails - Contains list of products added to cart
-     * @return totalPrice - Calculated price of all products added to cart
-     */
-    private Float calculateTotalPrice(List<CartDetail> cartDetails) {
-        logger.debug("Entered calculateTotalPrice private method in cartServiceImpl");
-        Float totalPrice = 0F;
-        for (CartDetail eachCartDetail : cartDetails) {
-            totalPrice += eachCartDetail.getPrice();
+        if (!cartStore.addLine(cart, CartMapper.toCartLine(product,
+                cartDetailRequest.getQuantity()))) {
+            logger.error("already added to cart");
+            throw new ExistedException("Already added to cart");
         }
-        return totalPrice;
-    }
-
-    /**
-     * <p>
-     *     Calculates total quantity of products added into cart
-     * </p>
-     *
-     * @param cartDetails - Contains list of products added to cart
-     * @return totalQuantity - Calculated quantity of all products added to cart
-     */
-    private Integer calculateTotalQuantity(List<CartDetail> cartDetails) {
-        logger.debug("Entered calculateTotalQuantity private method in cartServiceImpl");
-        Integer totalQuantity = 0;
-        for (CartDetail eachCartDetail : cartDetails) {
-            totalQuantity += eachCartDetail.getQuantity();
-        }
-        return totalQuantity;
+        logger.debug("product added to cart");
+        return new SuccessResponseDto(201, "Product added to cart successfully");
     }
 
     /**
@@ -148,8 +101,8 @@ public class CartServiceImpl implements CartService {
     @Override
     public CartResponseDto getCart() throws NotFoundException {
         logger.debug("Entered getCart method in cartServiceImpl");
-        Cart cart = getActiveCartOfCurrentUser();
-        if (cart == null) {
+        CartState cart = cartStore.getCart(userService.getCurrentUser().getId());
+        if (cart.isEmpty()) {
             throw new NotFoundException("Cart Not Found");
         }
         return CartMapper.toCartResponse(cart);
@@ -161,9 +114,7 @@ public class CartServiceImpl implements CartService {
     @Override
     public SuccessResponseDto removeCart() {
         logger.debug("Entered removeCart method in cartServiceImpl");
-        User user = userService.getCurrentUser();
-        cartDetailService.removeCartDetailsByUserId(user.getId());
-        cartRepository.deleteCartByUserId(user.getId());
+        cartStore.clear(cartStore.getCart(userService.getCurrentUser().getId()));
         logger.debug("cart deleted successfully");
         return new SuccessResponseDto(200, "Cart deleted successfully");
     }
@@ -174,47 +125,17 @@ public class CartServiceImpl implements CartService {
     @Override
     public SuccessResponseDto removeProductFromCart(Integer productId) throws NotFoundException {
         logger.debug("Entered removeProductFromCart method in cartServiceImpl");
-        Cart cart = getActiveCartOfCurrentUser();
-        if (cart == null) {
+        CartState cart = cartStore.getCart(userService.getCurrentUser().getId());
+        if (cart.isEmpty()) {
             logger.error("cart not found");
             throw new NotFoundException("Cart not found");
         }
-        Cart updatedCart = deleteProduct(productId, cart);
-        cartRepository.save(updatedCart);
-        logger.debug("product from cart deleted successfully");
-        return new SuccessResponseDto(200, "Product from cart deleted successfully");
-    }
-
-    /**
-     * <p>
-     *     Deletes particular product from cart based on given product id
-     *     and to set new calculated price and quantity
-     * </p>
-     *
-     * @param productId - To delete product from cart
-     * @param cart - Contains list of products added to cart
-     * @return cart - Modified cart after deletion
-     */
-    private Cart deleteProduct(Integer productId, Cart cart) throws NotFoundException {
-        logger.debug("Entered deleteProduct private method in cartServiceImpl");
-        boolean isDeleted = false;
-        for (CartDetail eachCartDetail : cart.getCartDetails()) {
-            if (eachCartDetail.getProduct().getId() == productId) {
-                int itemsInCart = cart.getCartDetails().size();
-                if (itemsInCart == 1) {
-                    cart.setIsActive(false);
-                }
-                eachCartDetail.setIsActive(false);
-                isDeleted = true;
-                cart.setTotalPrice(cart.getTotalPrice() - eachCartDetail.getPrice());
-                cart.setTotalQuantity(cart.getTotalQuantity() - eachCartDetail.getQuantity());
-            }
-        }
-        if (!isDeleted) {
+        if (!cartStore.removeLine(cart, productId)) {
             logger.error("product not found");
             throw new NotFoundException("Product not found");
         }
-        return cart;
+        logger.debug("product from cart deleted successfully");
+        return new SuccessResponseDto(200, "Product from cart deleted successfully");
     }
 
     /**
@@ -225,27 +146,167 @@ public class CartServiceImpl implements CartService {
         logger.debug("Entered updateCartByUser method in cartServiceImpl");
         Integer newQuantity = cartRequest.getCartDetail().getQuantity();
         Integer productId = cartRequest.getCartDetail().getProductId();
-        Cart cart = getActiveCartOfCurrentUser();
-        if (cart == null) {
+        CartState cart = cartStore.getCart(userService.getCurrentUser().getId());
+        if (cart.isEmpty()) {
             logger.error("cart not found");
             throw new NotFoundException("Cart not found");
         }
-        List<CartDetail> cartDetails = cart.getCartDetails();
-        cartDetails.stream()
-                   .filter(eachCartDetail -> eachCartDetail.getProduct().getId() == productId)
-                   .forEach(updatedCartDetail -> {
-                                Float productPrice = updatedCartDetail.getProduct().getPrice();
-                                updatedCartDetail.setQuantity(newQuantity);
-                                updatedCartDetail.setPrice(productPrice * newQuantity);
-                            });
-        cart.setTotalPrice(calculateTotalPrice(cartDetails));
-        cart.setTotalQuantity(calculateTotalQuantity(cartDetails));
-        cart.setCartDetails(cartDetails);
-        cartRepository.save(cart);
+        CatalogProduct product = productCatalog.getProductById(productId);
+        if (!cartStore.updateLine(cart, productId, newQuantity,
+                product == null ? null : product.getPrice())) {
+            logger.error("product not found");
+            throw new NotFoundException("Product not found");
+        }
         logger.debug("cart updated successfully");
         return new SuccessResponseDto(200, "Quantity updated successfully");
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BulkCartResponseDto updateCartLines(BulkCartRequestDto bulkCartRequest) {
+        logger.debug("Entered updateCartLines method in cartServiceImpl");
+        List<CartLineRequestDto> cartLineRequests = bulkCartRequest.getCartLines();
+        CartLineResponseDto[] cartLineResponses = new CartLineResponseDto[cartLineRequests.size()];
+        List<CartOperation> operations = new ArrayList<>();
+        List<Integer> operationIndexes = new ArrayList<>();
+        for (int index = 0; index < cartLineRequests.size(); index++) {
+            CartLineRequestDto cartLineRequest = cartLineRequests.get(index);
+            Integer productId = cartLineRequest.getProductId();
+            Integer quantity = cartLineRequest.getQuantity();
+            if (REMOVE.equals(cartLineRequest.getOperation())) {
+                operations.add(CartOperation.remove(productId));
+                operationIndexes.add(index);
+                continue;
+            }
+            if (quantity == null) {
+                cartLineResponses[index] = toCartLineResponse(cartLineRequest, 400,
+                        "Quantity cannot not be empty");
+                continue;
+            }
+            CatalogProduct product = productCatalog.getProductById(productId);
+            if (ADD.equals(cartLineRequest.getOperation())) {
+                if (product == null) {
+                    cartLineResponses[index] = toCartLineResponse(cartLineRequest, 404,
+                            "Product not found");
+                    continue;
+                }
+                operations.add(CartOperation.add(CartMapper.toCartLine(product, quantity)));
+            } else {
+                operations.add(CartOperation.update(productId, quantity, product == null
+                        ? null : product.getPrice()));
+            }
+            operationIndexes.add(index);
+        }
+        CartState cart = cartStore.getCart(userService.getCurrentUser().getId());
+        boolean[] applied = cartStore.apply(cart, operations);
+        for (int index = 0; index < applied.length; index++) {
+            CartLineRequestDto cartLineRequest = cartLineRequests.get(operationIndexes.get(index));
+            cartLineResponses[operationIndexes.get(index)] = applied[index]
+                    ? toAppliedResponse(cartLineRequest)
+                    : toRejectedResponse(cartLineRequest);
+        }
+        logger.debug("cart lines updated");
+        return new BulkCartResponseDto(Arrays.asList(cartLineResponses), toCartResponse(cart));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BulkCartResponseDto reorder(Integer orderId) throws NotFoundException {
+        logger.debug("Entered reorder method in cartServiceImpl");
+        Integer userId = userService.getCurrentUser().getId();
+        List<CartDetailRequestDto> orderedProducts =
+                orderRepository.findOrderedProductsByIdAndUserId(orderId, userId);
+        if (orderedProducts.isEmpty()) {
+            logger.error("order not found");
+            throw new NotFoundException("Order not found");
+        }
+        List<CartLineResponseDto> cartLineResponses = new ArrayList<>();
+        List<CartOperation> operations = toMergeOperations(orderedProducts, cartLineResponses);
+        CartState cart = cartStore.getCart(userId);
+        cartStore.apply(cart, operations);
+        logger.debug("order added to cart");
+        return new BulkCartResponseDto(cartLineResponses, toCartResponse(cart));
+    }
+
+    /**
+     * <p>
+     *     Gets operations merging ordered products into cart, products no
+     *     longer in catalog are left out
+     * </p>
+     *
+     * @param orderedProducts   - Product id and quantity of each order detail
+     * @param cartLineResponses - To add status code and message of each product
+     * @return                  - Merge operation of each available product
+     */
+    private List<CartOperation> toMergeOperations(List<CartDetailRequestDto> orderedProducts,
+                                                  List<CartLineResponseDto> cartLineResponses) {
+        List<CartOperation> operations = new ArrayList<>();
+        for (CartDetailRequestDto orderedProduct : orderedProducts) {
+            CatalogProduct product = productCatalog.getProductById(orderedProduct.getProductId());
+            if (product == null) {
+                cartLineResponses.add(new CartLineResponseDto(ADD,
+                        orderedProduct.getProductId(), 404, "Product not available"));
+            } else {
+                operations.add(CartOperation.merge(CartMapper.toCartLine(product,
+                        orderedProduct.getQuantity())));
+                cartLineResponses.add(new CartLineResponseDto(ADD,
+                        orderedProduct.getProductId(), 201, "Product added to cart successfully"));
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * <p>
+     *     Gets response of a line applied to cart
+     * </p>
+     *
+     * @param cartLineRequest - Contains operation and product id
+     * @return                - Success message and status code
+     */
+    private CartLineResponseDto toAppliedResponse(CartLineRequestDto cartLineRequest) {
+        switch (cartLineRequest.getOperation()) {
+            case ADD:
+                return toCartLineResponse(cartLineRequest, 201,
+                        "Product added to cart successfully");
+            case UPDATE:
+                return toCartLineResponse(cartLineRequest, 200, "Quantity updated successfully");
+            default:
+                return toCartLineResponse(cartLineRequest, 200,
+                        "Product from cart deleted successfully");
+        }
+    }
+
+    /**
+     * <p>
+     *     Gets response of a line not applied to cart, product was already
+     *     in cart to add or not in cart to update or remove
+     * </p>
+     *
+     * @param cartLineRequest - Contains operation and product id
+     * @return                - Error message and status code
+     */
+    private CartLineResponseDto toRejectedResponse(CartLineRequestDto cartLineRequest) {
+        if (ADD.equals(cartLineRequest.getOperation())) {
+            return toCartLineResponse(cartLineRequest, 409, "Already added to cart");
+        }
+        return toCartLineResponse(cartLineRequest, 404, "Product not found");
+    }
+
+    private CartLineResponseDto toCartLineResponse(CartLineRequestDto cartLineRequest,
+                                                   Integer statusCode, String message) {
+        return new CartLineResponseDto(cartLineRequest.getOperation(),
+                cartLineRequest.getProductId(), statusCode, message);
+    }
+
+    private CartResponseDto toCartResponse(CartState cart) {
+        return cart.isEmpty() ? null : CartMapper.toCartResponse(cart);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -253,10 +314,60 @@ public class CartServiceImpl implements CartService {
     public Cart getActiveCartOfCurrentUser() {
         logger.debug("Entered getCartByCartId method in cartServiceImpl");
         User user = userService.getCurrentUser();
+        cartStore.flush(user.getId());
         Optional<Cart> cart = cartRepository.findByUserIdAndIsActive(user.getId(), true);
         if (cart.isEmpty()) {
             return null;
         }
         return cart.get();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deactivateCart(Cart cart) {
+        logger.debug("Entered deactivateCart method in cartServiceImpl");
+        for (CartDetail eachCartDetail : cart.getCartDetails()) {
+            eachCartDetail.setIsActive(false);
+        }
+        cart.setIsActive(false);
+        Integer userId = cart.getUser().getId();
+        runAfterCommit(() -> cartStore.evict(userId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restoreOrderedCart(Order order) {
+        logger.debug("Entered restoreOrderedCart method in cartServiceImpl");
+        Integer userId = order.getUser().getId();
+        List<CartOperation> operations = toMergeOperations(orderRepository
+                .findOrderedProductsByIdAndUserId(order.getId(), userId), new ArrayList<>());
+        runAfterCommit(() -> cartStore.apply(cartStore.getCart(userId), operations));
+    }
+
+    /**
+     * <p>
+     *     Runs cart store change once surrounding transaction is committed,
+     *     or at once if there is no transaction. Cart reloaded by a request
+     *     before commit is still the cart as it was before the transaction,
+     *     an ordered cart would be saved back as active if it was kept.
+     * </p>
+     *
+     * @param change - Change of cart store
+     */
+    private void runAfterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * <p>
+ *      Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.service.impl;
+
+import com.ideas2it.groceryshop.cache.CartContents;
+import com.ideas2it.groceryshop.cache.CartLine;
+import com.ideas2it.groceryshop.cache.CartState;
+import com.ideas2it.groceryshop.cache.CategoryTree;
+import com.ideas2it.groceryshop.mapper.CartMapper;
+import com.ideas2it.groceryshop.model.Cart;
+import com.ideas2it.groceryshop.model.CartDetail;
+import com.ideas2it.groceryshop.model.Money;
+import com.ideas2it.groceryshop.repository.CartRepository;
+import com.ideas2it.groceryshop.repository.ProductRepository;
+import com.ideas2it.groceryshop.repository.UserRepository;
+import com.ideas2it.groceryshop.service.CartStateService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ *     Provide implementation for services to load and save carts held in
+ *     cart store
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class CartStateServiceImpl implements CartStateService {
+    private final Logger logger = LogManager.getLogger(CartStateServiceImpl.class);
+    private final CartRepository cartRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final CategoryTree categoryTree;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public CartState loadCart(Integer userId) {
+        logger.debug("Entered loadCart method in CartStateServiceImpl");
+        List<Cart> carts = cartRepository.findActiveWithDetailsByUserIds(List.of(userId));
+        if (carts.isEmpty()) {
+            return new CartState(userId, null, null, Collections.emptyList());
+        }
+        Cart cart = carts.get(0);
+        List<CartLine> lines = new ArrayList<>();
+        for (CartDetail cartDetail : cart.getCartDetails()) {
+            lines.add(CartMapper.toCartLine(cartDetail, categoryTree.getNode(
+                    cartDetail.getProduct().getSubCategory().getId())));
+        }
+        return new CartState(userId, cart.getId(), cart.getCreatedAt(), lines);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(value = Transactional.TxType.REQUIRES_NEW, rollbackOn = Exception.class)
+    public Map<Integer, Cart> saveCarts(Map<Integer, CartContents> contentsByUserId) {
+        logger.debug("Entered saveCarts method in CartStateServiceImpl");
+        Map<Integer, Cart> activeCarts = new HashMap<>();
+        for (Cart cart : cartRepository.findActiveWithDetailsByUserIds(
+                new ArrayList<>(contentsByUserId.keySet()))) {
+            activeCarts.put(cart.getUser().getId(), cart);
+        }
+        Map<Integer, Cart> savedCarts = new HashMap<>();
+        for (Map.Entry<Integer, CartContents> entry : contentsByUserId.entrySet()) {
+            Cart cart = activeCarts.get(entry.getKey());
+            if (cart == null) {
+                if (entry.getValue().getLines().isEmpty()) {
+                    continue;
+                }
+                cart = new Cart();
+                cart.setUser(userRepository.getReferenceById(entry.getKey()));
+                cart.setCartDetails(new ArrayList<>());
+            }
+            applyLines(cart, entry.getValue());
+            savedCarts.put(entry.getKey(), cart);
+        }
+        cartRepository.saveAll(savedCarts.values());
+        logger.debug("Saved " + savedCarts.size() + " carts");
+        return savedCarts;
+    }
+
+    /**
+     * <p>
+     *     Updates cart details whose quantity or price changed, deactivates
+     *     cart details of removed products, adds new products and sets
+     *     totals of cart
+     * </p>
+     *
+     * @param cart     - Active cart or new cart
+     * @param contents - Lines and totals of cart held in cart store
+     */
+    private void applyLines(Cart cart, CartContents contents) {
+        Map<Integer, CartLine> linesByProductId = new LinkedHashMap<>();
+        for (CartLine line : contents.getLines()) {
+            linesByProductId.put(line.getProductId(), line);
+        }
+        for (CartDetail cartDetail : cart.getCartDetails()) {
+            CartLine line = linesByProductId.remove(cartDetail.getProduct().getId());
+            if (line == null) {
+                cartDetail.setIsActive(false);
+            } else {
+                cartDetail.setQuantity(line.getQuantity());
+                cartDetail.setPrice(Money.ofMinor(line.getPrice()));
+            }
+        }
+        for (CartLine line : linesByProductId.values()) {
+            CartDetail cartDetail = new CartDetail();
+            cartDetail.setQuantity(line.getQuantity());
+            cartDetail.setPrice(Money.ofMinor(line.getPrice()));
+            cartDetail.setProduct(productRepository.getReferenceById(line.getProductId()));
+            cart.getCartDetails().add(cartDetail);
+        }
+        cart.setTotalPrice(Money.ofMinor(contents.getTotalPrice()));
+        cart.setTotalQuantity(contents.getTotalQuantity());
+        cart.setIsActive(!contents.getLines().isEmpty());
+    }
+}
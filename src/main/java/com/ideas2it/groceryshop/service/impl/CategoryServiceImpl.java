@@ -5,6 +5,9 @@
  */
 package com.ideas2it.groceryshop.service.impl;
 
+import com.ideas2it.groceryshop.cache.CategoryNode;
+import com.ideas2it.groceryshop.cache.CategoryTree;
+import com.ideas2it.groceryshop.cache.ProductCatalog;
 import com.ideas2it.groceryshop.dto.CategoryRequestDto;
 import com.ideas2it.groceryshop.dto.CategoryResponseDto;
 import com.ideas2it.groceryshop.dto.SubCategoryResponseDto;
@@ -30,6 +33,8 @@ import org.springframework.stereotype.Service;
  * <p>
  *     Provides implementation to perform create, update, delete
  *     and view category operations.
+ *     Categories are read from category tree which is loaded again
+ *     whenever a category is added, updated or deleted.
  * </p>
  *
  * @author RUBAN
@@ -41,11 +46,16 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final Logger logger;
     private final ProductRepository productRepository;
+    private final ProductCatalog productCatalog;
+    private final CategoryTree categoryTree;
 
     public CategoryServiceImpl(ProductRepository productRepository,
-                               CategoryRepository categoryRepository) {
+                               CategoryRepository categoryRepository,
+                               ProductCatalog productCatalog, CategoryTree categoryTree) {
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
+        this.productCatalog = productCatalog;
+        this.categoryTree = categoryTree;
         this.logger = LogManager.getLogger(CategoryServiceImpl.class);
     }
 
@@ -70,6 +80,7 @@ public class CategoryServiceImpl implements CategoryService {
             }
         }
         categoryRepository.save(categories);
+        categoryTree.refresh();
         logger.debug("addCategory method successfully executed");
         if (categoryRequestDto.getParentId() == 0) {
             return new SuccessResponseDto(201, "Category added successfully");
@@ -83,13 +94,12 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     public List<CategoryResponseDto> getCategory() throws NotFoundException {
         logger.debug("Entered into getCategory method in category service");
-        List<Category> categoriesList = categoryRepository.
-                                        findCategoriesByParentIdAndIsActive( true);
+        List<CategoryNode> categoriesList = categoryTree.getCategories();
         if (categoriesList.isEmpty()) {
             throw new NotFoundException("Category not added");
         }
         List<CategoryResponseDto> categoriesResponse = new ArrayList<>();
-        for(Category category : categoriesList) {
+        for(CategoryNode category : categoriesList) {
             categoriesResponse.add(CategoryMapper.toCategoryDto(category));
         }
         logger.debug("getCategory method successfully executed");
@@ -102,13 +112,12 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     public List<SubCategoryResponseDto> getAllSubCategory() throws NotFoundException {
         logger.debug("Entered into getAllSubCategory method in category service");
-        List<Category> categories = categoryRepository.
-                                    findSubCategoriesByParentIdAndIsActive(true);
+        List<CategoryNode> categories = categoryTree.getSubCategories();
         if (categories.isEmpty()) {
             throw new NotFoundException("Sub category not added");
         }
         List<SubCategoryResponseDto> categoriesList = new ArrayList<>();
-        for(Category category : categories) {
+        for(CategoryNode category : categories) {
             categoriesList.add(CategoryMapper.toSubCategoryDto(category));
         }
         logger.debug("getAllSubCategory method executed successfully");
@@ -139,6 +148,8 @@ public class CategoryServiceImpl implements CategoryService {
             productRepository.save(product);
         }
         categoryRepository.save(categories);
+        categoryTree.refresh();
+        productCatalog.refresh();
         logger.debug("deleteCategory method successfully executed");
         return new SuccessResponseDto(200, "category deleted Successfully");
     }
@@ -163,6 +174,8 @@ public class CategoryServiceImpl implements CategoryService {
             product.setActive(false);
             productRepository.save(product);
         }
+        categoryTree.refresh();
+        productCatalog.refresh();
         logger.debug("deleteSubCategory method successfully executed");
         return new SuccessResponseDto(200, "Subcategory deleted successfully");
     }
@@ -183,6 +196,8 @@ public class CategoryServiceImpl implements CategoryService {
         }
         category.setName(categoryRequestDto.getName());
         categoryRepository.save(category);
+        categoryTree.refresh();
+        productCatalog.refresh();
         logger.debug("updateCategory method successfully executed");
         return new SuccessResponseDto(200, "Category details updated successfully");
     }
@@ -205,6 +220,8 @@ public class CategoryServiceImpl implements CategoryService {
         }
         category.setName(categoryRequestDto.getName());
         categoryRepository.save(category);
+        categoryTree.refresh();
+        productCatalog.refresh();
         logger.debug("updateSubCategory method successfully executed");
         return new SuccessResponseDto(200, "Subcategory updated successfully");
     }
@@ -0,0 +1,188 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PreDestroy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
+import com.ideas2it.groceryshop.model.OrderEvent;
+import com.ideas2it.groceryshop.service.OrderEventService;
+
+/**
+ * <p>
+ *     Drains pending order events in batches on a fixed number of
+ *     dispatcher threads. Event which fails with an unexpected error stays
+ *     pending and is dispatched again after a growing delay, so it does
+ *     not hold back events behind it, and is rejected with its order once
+ *     it has failed maximum attempts. Event whose stock is not available
+ *     is rejected with its order.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Component
+public class OrderEventDispatcher {
+
+    private final OrderEventService orderEventService;
+    private final int batchSize;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Timer latencyTimer;
+    private final Timer drainTimer;
+    private final Logger logger = LogManager.getLogger(OrderEventDispatcher.class);
+
+    public OrderEventDispatcher(OrderEventService orderEventService,
+                                @Value("${order.outbox.threads:4}") int threads,
+                                @Value("${order.outbox.batch-size:100}") int batchSize,
+                                MeterRegistry meterRegistry) {
+        this.orderEventService = orderEventService;
+        this.batchSize = batchSize;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize), runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "order-event-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.latencyTimer = meterRegistry.timer("order.outbox.latency");
+        this.drainTimer = meterRegistry.timer("order.outbox.drain");
+        meterRegistry.gauge("order.outbox.backlog", backlog);
+    }
+
+    /**
+     * <p>
+     *     Dispatches pending events batch by batch until a batch is not
+     *     full or no event of a batch could be handled.
+     * </p>
+     */
+    @Scheduled(initialDelayString = "${order.outbox.drain-interval-ms:1000}",
+               fixedDelayString = "${order.outbox.drain-interval-ms:1000}")
+    public void drain() {
+        if (!orderEventService.isEnabled()) {
+            return;
+        }
+        drainTimer.record(() -> {
+            List<OrderEvent> events;
+            int processed;
+            do {
+                events = orderEventService.getPendingEvents(batchSize);
+                processed = dispatchAll(events);
+            } while (events.size() == batchSize && processed > 0);
+        });
+        backlog.set(orderEventService.countPendingEvents());
+    }
+
+    /**
+     * <p>
+     *     Dispatches events on dispatcher threads and waits for all of them.
+     * </p>
+     *
+     * @param events - Pending events
+     * @return number of events processed, rejected or deferred
+     */
+    private int dispatchAll(List<OrderEvent> events) {
+        List<Future<Boolean>> results = new ArrayList<>(events.size());
+        for (OrderEvent event : events) {
+            Callable<Boolean> task = () -> dispatch(event);
+            results.add(executor.submit(task));
+        }
+        int processed = 0;
+        try {
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    processed++;
+                }
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException executionException) {
+            logger.error("Order event dispatch failed", executionException.getCause());
+        }
+        return processed;
+    }
+
+    /**
+     * <p>
+     *     Applies single event and records time from order commit.
+     * </p>
+     *
+     * @param event - Pending event
+     * @return true if event is processed, rejected or deferred
+     */
+    private boolean dispatch(OrderEvent event) {
+        try {
+            if (orderEventService.processEvent(event)) {
+                latencyTimer.record(System.currentTimeMillis()
+                        - event.getCreatedAt().getTime(), TimeUnit.MILLISECONDS);
+            }
+            return true;
+        } catch (OutOfStockException outOfStockException) {
+            orderEventService.rejectEvent(event);
+            return true;
+        } catch (NotFoundException notFoundException) {
+            logger.error("No active store for order event, "
+                         + "it is dispatched again after a delay");
+            return retryOrReject(event);
+        } catch (RuntimeException exception) {
+            logger.error("Order event failed, it is dispatched again after a delay",
+                         exception);
+            return retryOrReject(event);
+        }
+    }
+
+    /**
+     * <p>
+     *     Defers failed event or rejects it once it has failed maximum
+     *     attempts.
+     * </p>
+     *
+     * @param event - Event whose processing failed
+     * @return true if failure of event is recorded
+     */
+    private boolean retryOrReject(OrderEvent event) {
+        try {
+            orderEventService.retryOrRejectEvent(event);
+            return true;
+        } catch (RuntimeException exception) {
+            logger.error("Order event failure could not be recorded", exception);
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     *     Stops dispatcher threads when application is closed.
+     * </p>
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
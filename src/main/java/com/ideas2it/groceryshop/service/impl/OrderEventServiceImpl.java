@@ -0,0 +1,188 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.service.impl;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import javax.transaction.Transactional;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
+import com.ideas2it.groceryshop.model.Order;
+import com.ideas2it.groceryshop.model.OrderEvent;
+import com.ideas2it.groceryshop.repository.OrderEventRepository;
+import com.ideas2it.groceryshop.repository.OrderRepository;
+import com.ideas2it.groceryshop.service.CartService;
+import com.ideas2it.groceryshop.service.OrderEventService;
+import com.ideas2it.groceryshop.service.StockService;
+
+/**
+ * <p>
+ *     Provides implementation of order outbox. Every event is claimed with
+ *     a guarded status update in the transaction which applies it, so an
+ *     event is applied only once even if it is dispatched again.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @version 1.0
+ * @since 17-10-2026
+ */
+@Service
+public class OrderEventServiceImpl implements OrderEventService {
+
+    private final OrderEventRepository orderEventRepository;
+    private final OrderRepository orderRepository;
+    private final StockService stockService;
+    private final CartService cartService;
+    private final boolean enabled;
+    private final int maxAttempts;
+    private final long retryDelayMs;
+    private final Logger logger = LogManager.getLogger(OrderEventServiceImpl.class);
+
+    public OrderEventServiceImpl(OrderEventRepository orderEventRepository,
+                                 OrderRepository orderRepository, StockService stockService,
+                                 CartService cartService,
+                                 @Value("${order.outbox.enabled:false}") boolean enabled,
+                                 @Value("${order.outbox.max-attempts:10}") int maxAttempts,
+                                 @Value("${order.outbox.retry-delay-ms:1000}") long retryDelayMs) {
+        this.orderEventRepository = orderEventRepository;
+        this.orderRepository = orderRepository;
+        this.stockService = stockService;
+        this.cartService = cartService;
+        this.enabled = enabled;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addOrderPlacedEvent(Order order) {
+        logger.debug("Entered addOrderPlacedEvent method in OrderEventServiceImpl");
+        orderEventRepository.save(new OrderEvent(order.getId()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean cancelPendingEvent(Integer orderId) {
+        logger.debug("Entered cancelPendingEvent method in OrderEventServiceImpl");
+        return orderEventRepository.claimByOrderId(orderId, OrderEvent.CANCELLED,
+                                                   new Date()) != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<OrderEvent> getPendingEvents(int limit) {
+        return orderEventRepository.findDueByStatus(OrderEvent.PENDING, new Date(),
+                                                    PageRequest.of(0, limit));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countPendingEvents() {
+        return orderEventRepository.countByStatus(OrderEvent.PENDING);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(rollbackOn = Exception.class)
+    public boolean processEvent(OrderEvent event)
+                                throws OutOfStockException, NotFoundException {
+        logger.debug("Entered processEvent method in OrderEventServiceImpl");
+        if (orderEventRepository.claimById(event.getId(), OrderEvent.PROCESSED,
+                                           new Date()) == 0) {
+            logger.debug("Order event already claimed");
+            return false;
+        }
+        Optional<Order> order = orderRepository.findById(event.getOrderId());
+        if (order.isPresent() && order.get().getIsActive()) {
+            stockService.removeStockByOrderDetails(order.get(), order.get().getOrderDelivery()
+                    .getShippingAddress().getPinCode());
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void rejectEvent(OrderEvent event) {
+        logger.debug("Entered rejectEvent method in OrderEventServiceImpl");
+        if (reject(event)) {
+            logger.error("Order rejected as stock not available");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void retryOrRejectEvent(OrderEvent event) {
+        logger.debug("Entered retryOrRejectEvent method in OrderEventServiceImpl");
+        int attempts = event.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            if (reject(event)) {
+                logger.error("Order rejected after " + attempts + " failed attempts");
+            }
+            return;
+        }
+        long delayMs = retryDelayMs << Math.min(attempts - 1, 16);
+        orderEventRepository.deferById(event.getId(),
+                                       new Date(System.currentTimeMillis() + delayMs));
+    }
+
+    /**
+     * <p>
+     *     Claims pending event as rejected and marks its order as rejected,
+     *     products of an order placed from cart are put back in cart
+     * </p>
+     *
+     * @param event - Event to reject
+     * @return true if event was pending and is rejected by this call
+     */
+    private boolean reject(OrderEvent event) {
+        if (orderEventRepository.claimById(event.getId(), OrderEvent.REJECTED,
+                                           new Date()) == 0) {
+            return false;
+        }
+        Optional<Order> order = orderRepository.findById(event.getOrderId());
+        if (order.isPresent()) {
+            order.get().setIsActive(false);
+            order.get().setIsRejected(true);
+            if (order.get().getCart() != null) {
+                cartService.restoreOrderedCart(order.get());
+            }
+        }
+        return true;
+    }
+}
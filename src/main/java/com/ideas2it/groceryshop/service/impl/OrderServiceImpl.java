@@ -5,23 +5,40 @@
  */
 package com.ideas2it.groceryshop.service.impl;
 
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 
+import javax.transaction.Transactional;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ideas2it.groceryshop.configuration.StatementCounter;
 
 import com.ideas2it.groceryshop.dto.OrderDetailResponseDto;
+import com.ideas2it.groceryshop.dto.OrderPageResponseDto;
 import com.ideas2it.groceryshop.dto.OrderRequestDto;
 import com.ideas2it.groceryshop.dto.OrderResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
 import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
 import com.ideas2it.groceryshop.mapper.OrderDetailMapper;
 import com.ideas2it.groceryshop.mapper.OrderMapper;
 import com.ideas2it.groceryshop.model.Product;
@@ -33,10 +50,12 @@ import com.ideas2it.groceryshop.model.Order;
 import com.ideas2it.groceryshop.model.OrderDelivery;
 import com.ideas2it.groceryshop.model.Cart;
 import com.ideas2it.groceryshop.repository.OrderRepository;
+import com.ideas2it.groceryshop.service.OrderEventService;
 import com.ideas2it.groceryshop.service.OrderService;
 import com.ideas2it.groceryshop.service.ProductService;
 import com.ideas2it.groceryshop.service.StockService;
 import com.ideas2it.groceryshop.service.UserService;
+import com.ideas2it.groceryshop.util.PageCursor;
 
 /**
  * <p>
@@ -57,15 +76,25 @@ public class OrderServiceImpl implements OrderService {
     private final ProductService productService;
     private final UserService userService;
     private final StockService stockService;
+    private final OrderEventService orderEventService;
+    private final MeterRegistry meterRegistry;
     private final Logger logger = LogManager.getLogger(OrderService.class);
 
+    @Value("${order.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${order.page.max-size:100}")
+    private int maxPageSize;
+
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional(rollbackOn = Exception.class)
     public SuccessResponseDto placeOrder(OrderRequestDto orderRequest)
-                                         throws NotFoundException {
+                                         throws NotFoundException, OutOfStockException {
         logger.debug("Entered placeOrder method in OrderServiceImpl");
+        recordStatementsAfterCompletion("placeOrder");
         Cart cart = cartService.getActiveCartOfCurrentUser();
         if(cart != null) {
             Order order = new Order();
@@ -78,9 +107,8 @@ public class OrderServiceImpl implements OrderService {
             order.setOrderDetails(orderDetails);
             OrderDelivery orderDelivery = orderDelivery(orderRequest);
             order.setOrderDelivery(orderDelivery);
-            orderRepository.save(order);
-            cartService.removeCart();
-            stockService.removeStockByOrderDetails(order, orderDelivery.getShippingAddress().getPinCode());
+            saveOrder(order);
+            cartService.deactivateCart(cart);
             logger.debug("Order placed successfully");
           return new SuccessResponseDto(200, "Order placed successfully");
         } else {
@@ -114,8 +142,11 @@ public class OrderServiceImpl implements OrderService {
      * {@inheritDoc}
      */
     @Override
-    public SuccessResponseDto buyNow(OrderRequestDto orderRequest) throws NotFoundException {
+    @Transactional(rollbackOn = Exception.class)
+    public SuccessResponseDto buyNow(OrderRequestDto orderRequest)
+                                     throws NotFoundException, OutOfStockException {
         logger.debug("Entered buyNow method in OrderServiceImpl");
+        recordStatementsAfterCompletion("buyNow");
         User user = userService.getCurrentUser();
         Order order = new Order();
         List<OrderDetail> orderDetails = setOrderDetails(orderRequest);
@@ -125,13 +156,32 @@ public class OrderServiceImpl implements OrderService {
         order.setUser(user);
         OrderDelivery orderDelivery = orderDelivery(orderRequest);
         order.setOrderDelivery(orderDelivery);
-        orderRepository.save(order);
-        stockService.removeStockByOrderDetails(order,
-                orderDelivery.getShippingAddress().getPinCode());
+        saveOrder(order);
         logger.debug("Order placed successfully");
         return new SuccessResponseDto(200, "Order placed successfully");
     }
 
+    /**
+     * <p>
+     *     Saves order with its stock reserved, or with an outbox event
+     *     when stock is reserved after commit by order event dispatcher
+     * </p>
+     *
+     * @param order - Order with its details and delivery
+     * @throws OutOfStockException - If ordered quantity is not available in stock.
+     * @throws NotFoundException   - If there is no active store.
+     */
+    private void saveOrder(Order order) throws OutOfStockException, NotFoundException {
+        if (orderEventService.isEnabled()) {
+            orderRepository.save(order);
+            orderEventService.addOrderPlacedEvent(order);
+        } else {
+            stockService.removeStockByOrderDetails(order,
+                    order.getOrderDelivery().getShippingAddress().getPinCode());
+            orderRepository.save(order);
+        }
+    }
+
     /**
      * <p>
      *     Adds orderDelivery details
@@ -186,7 +236,7 @@ public class OrderServiceImpl implements OrderService {
         List<OrderDetail> orderDetails = new ArrayList<>();
         Integer productId = orderRequest.getProductId();
         Product product = productService.getProductByProductId(productId);
-        orderDetail.setPrice(orderDetail.getQuantity() * product.getPrice());
+        orderDetail.setPrice(product.getPrice().times(orderDetail.getQuantity()));
         orderDetail.setProduct(product);
         orderDetails.add(orderDetail);
         return orderDetails;
@@ -196,48 +246,40 @@ public class OrderServiceImpl implements OrderService {
      * {@inheritDoc}
      */
     @Override
-    public List<OrderResponseDto> viewAllActiveOrders() throws NotFoundException {
+    public OrderPageResponseDto viewAllActiveOrders(String cursor, Integer size)
+                                                    throws NotFoundException, ParseException {
         logger.debug("Entered viewAllActiveOrders method in OrderServiceImpl");
-        List<Order> orders = orderRepository.findByIsActive(true);
-        if(orders.isEmpty()) {
-            logger.debug("No record found");
-            throw new NotFoundException("No record found");
-        }
-        return OrderMapper.toOrdersDtoList(orders);
+        return getOrderPage(cursor, size, (lastId, pageable) -> orderRepository
+                .findIdsByIsActive(true, lastId, pageable));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<OrderResponseDto> viewAllCancelledOrders() throws NotFoundException {
+    public OrderPageResponseDto viewAllCancelledOrders(String cursor, Integer size)
+                                                       throws NotFoundException, ParseException {
         logger.debug("Entered viewAllCancelledOrders method in OrderServiceImpl");
-        List<Order> orders = orderRepository.findByIsActive(false);
-        if(orders.isEmpty()) {
-            logger.debug("No record found");
-            throw new NotFoundException("No record found");
-        }
-        return OrderMapper.toOrdersDtoList(orders);
+        return getOrderPage(cursor, size, (lastId, pageable) -> orderRepository
+                .findIdsByIsActive(false, lastId, pageable));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<OrderResponseDto> viewOrderByUserId(Integer userId) throws NotFoundException {
+    public OrderPageResponseDto viewOrderByUserId(Integer userId, String cursor, Integer size)
+                                                  throws NotFoundException, ParseException {
         logger.debug("Entered viewOrderByUserId method in OrderServiceImpl");
-        List<Order> orders = orderRepository.findByUserId(userId);
-        if(orders.isEmpty()) {
-            logger.debug("No record found");
-            throw new NotFoundException("No record found");
-        }
-        return OrderMapper.toOrdersDtoList(orders);
+        return getOrderPage(cursor, size, (lastId, pageable) -> orderRepository
+                .findIdsByUserId(userId, lastId, pageable));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional(rollbackOn = Exception.class)
     public SuccessResponseDto cancelOrderById(Integer orderId) throws NotFoundException {
         logger.debug("Entered cancelOrderById method in OrderServiceImpl");
         Integer userId = userService.getCurrentUser().getId();
@@ -246,7 +288,10 @@ public class OrderServiceImpl implements OrderService {
         if(order.isPresent()) {
             Integer isCancelled = orderRepository.cancelOrderById(orderId, userId);
             if (isCancelled != 0) {
-                stockService.updateStockByOrderDetails(order.get());
+                if (!orderEventService.isEnabled()
+                        || !orderEventService.cancelPendingEvent(orderId)) {
+                    stockService.updateStockByOrderDetails(order.get());
+                }
                 logger.debug("Order cancelled successfully");
             }
             return new SuccessResponseDto(200, "Order cancelled successfully");
@@ -274,28 +319,117 @@ public class OrderServiceImpl implements OrderService {
      * {@inheritDoc}
      */
     @Override
-    public List<OrderResponseDto> viewOrdersByDate(Date orderedDate) throws NotFoundException {
+    public OrderPageResponseDto viewOrdersByDate(LocalDate orderedDate, String cursor,
+                                                 Integer size)
+                                                 throws NotFoundException, ParseException {
         logger.debug("Entered viewOrdersByDate method in OrderServiceImpl");
-        List<Order> orders =  orderRepository.findByOrderedDate(orderedDate);
-        if(orders.isEmpty()) {
-            logger.debug("No record found");
-            throw new NotFoundException("No record found");
+        Date from = startOfDay(orderedDate);
+        Date to = startOfDay(orderedDate.plusDays(1));
+        return getOrderPage(cursor, size, (lastId, pageable) -> orderRepository
+                .findIdsByOrderedDate(from, to, lastId, pageable));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OrderPageResponseDto viewOrdersByDateRange(LocalDate from, LocalDate to,
+                                                      String cursor, Integer size)
+                                                      throws NotFoundException, ParseException {
+        logger.debug("Entered viewOrdersByDateRange method in OrderServiceImpl");
+        if (from.isAfter(to)) {
+            logger.debug("From date is after to date");
+            throw new ParseException("From date is after to date", 0);
         }
-        return OrderMapper.toOrdersDtoList(orders);
+        Date start = startOfDay(from);
+        Date end = startOfDay(to.plusDays(1));
+        return getOrderPage(cursor, size, (lastId, pageable) -> orderRepository
+                .findIdsByOrderedDate(start, end, lastId, pageable));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<OrderResponseDto> viewOrdersByIdAndDate(Date orderedDate, Integer userId)
-            throws NotFoundException {
+    public OrderPageResponseDto viewOrdersByIdAndDate(LocalDate orderedDate, Integer userId,
+                                                      String cursor, Integer size)
+                                                      throws NotFoundException, ParseException {
         logger.debug("Entered viewOrdersByIdAndDate method in OrderServiceImpl");
-        List<Order> orders =  orderRepository.findByOrderedDateAndUserId(orderedDate, userId);
-        if(orders.isEmpty()) {
+        Date from = startOfDay(orderedDate);
+        Date to = startOfDay(orderedDate.plusDays(1));
+        return getOrderPage(cursor, size, (lastId, pageable) -> orderRepository
+                .findIdsByOrderedDateAndUserId(from, to, userId, lastId, pageable));
+    }
+
+    /**
+     * <p>
+     *     Gets start of given day in zone of server, in which ordered
+     *     dates are stored
+     * </p>
+     *
+     * @param date - Day to get start of
+     * @return     - Start of day
+     */
+    private Date startOfDay(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * <p>
+     *     Reads one page of orders after cursor. Ids of page are read first,
+     *     with one id more than page size to know if there is a next page,
+     *     then orders of those ids are read with their details in one query.
+     * </p>
+     *
+     * @param cursor             - Cursor of page, null for first page
+     * @param size               - Requested page size
+     * @param query              - Reads order ids before given id with given page
+     * @return                   - Page of orders with cursor of next page
+     * @throws NotFoundException - If no order is found
+     * @throws ParseException    - If cursor is invalid
+     */
+    private OrderPageResponseDto getOrderPage(String cursor, Integer size,
+                                              BiFunction<Integer, Pageable, List<Integer>> query)
+                                              throws NotFoundException, ParseException {
+        int pageSize = (size == null || size < 1) ? defaultPageSize : Math.min(size, maxPageSize);
+        List<Integer> orderIds = query.apply(PageCursor.decode(cursor),
+                                             PageRequest.of(0, pageSize + 1));
+        if(orderIds.isEmpty()) {
             logger.debug("No record found");
             throw new NotFoundException("No record found");
         }
-        return OrderMapper.toOrdersDtoList(orders);
+        String nextCursor = null;
+        if (orderIds.size() > pageSize) {
+            orderIds = orderIds.subList(0, pageSize);
+            nextCursor = PageCursor.encode(orderIds.get(pageSize - 1));
+        }
+        List<Order> orders = orderRepository.findWithDetailsByIdIn(orderIds);
+        return new OrderPageResponseDto(OrderMapper.toOrdersDtoList(orders), nextCursor);
+    }
+
+    /**
+     * <p>
+     *     Starts counting statements of current order and records them
+     *     when its transaction is completed.
+     * </p>
+     *
+     * @param operation - Name of order operation used as metric tag
+     */
+    private void recordStatementsAfterCompletion(String operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        StatementCounter.start();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                DistributionSummary.builder("order.statements")
+                        .description("SQL statements run per order")
+                        .tag("operation", operation)
+                        .tag("outcome", status == STATUS_COMMITTED ? "committed" : "rolledBack")
+                        .register(meterRegistry)
+                        .record(StatementCounter.stop());
+            }
+        });
     }
 }
@@ -0,0 +1,128 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.service.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.ideas2it.groceryshop.service.PasswordHashingService;
+
+/**
+ * <p>
+ *     Provides implementation to hash and verify passwords using BCrypt.
+ *     Work is handed to a fixed number of hashing threads with a bounded
+ *     queue, when the queue is full the request is rejected instead of
+ *     waiting on request thread.
+ * </p>
+ *
+ * @version 1.0
+ * @author Rohit A P
+ * @since 17-10-2026
+ */
+@Service
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Logger logger = LogManager.getLogger(PasswordHashingServiceImpl.class);
+
+    public PasswordHashingServiceImpl(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.hashing-threads:2}") int threads,
+            @Value("${security.password.hashing-queue-size:100}") int queueSize,
+            MeterRegistry meterRegistry) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = meterRegistry.timer("password.hashing", "operation", "encode");
+        this.matchTimer = meterRegistry.timer("password.hashing", "operation", "match");
+        meterRegistry.gauge("password.hashing.queue", executor, pool -> pool.getQueue().size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        logger.debug("Entered encode method in PasswordHashingServiceImpl");
+        return submit(encodeTimer, () -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        logger.debug("Entered matches method in PasswordHashingServiceImpl");
+        return submit(matchTimer, () -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * <p>
+     *     Runs hashing task on hashing threads and waits for its result.
+     * </p>
+     *
+     * @param timer - To record time taken by task.
+     * @param task  - Hashing task.
+     * @return      - Result of task.
+     * @param <T>   - Type of result.
+     */
+    private <T> T submit(Timer timer, Callable<T> task) {
+        try {
+            return executor.submit(() -> timer.recordCallable(task)).get();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password hashing interrupted",
+                    interruptedException);
+        } catch (ExecutionException executionException) {
+            if (executionException.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) executionException.getCause();
+            }
+            throw new IllegalStateException(executionException.getCause());
+        }
+    }
+
+    /**
+     * <p>
+     *     Stops hashing threads when application is closed.
+     * </p>
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
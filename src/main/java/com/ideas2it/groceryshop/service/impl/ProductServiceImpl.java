@@ -5,9 +5,14 @@
  */
 package com.ideas2it.groceryshop.service.impl;
 
+import com.ideas2it.groceryshop.cache.CatalogProduct;
+import com.ideas2it.groceryshop.cache.ProductCatalog;
+import com.ideas2it.groceryshop.cache.StockAvailabilityIndex;
+import com.ideas2it.groceryshop.cache.Suggestion;
 import com.ideas2it.groceryshop.dto.ProductRequestDto;
 import com.ideas2it.groceryshop.dto.ProductResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
+import com.ideas2it.groceryshop.dto.SuggestionResponseDto;
 import com.ideas2it.groceryshop.exception.ExistedException;
 import com.ideas2it.groceryshop.exception.NotFoundException;
 import com.ideas2it.groceryshop.mapper.ProductMapper;
@@ -15,23 +20,26 @@ import com.ideas2it.groceryshop.model.Category;
 import com.ideas2it.groceryshop.model.Product;
 import com.ideas2it.groceryshop.repository.CategoryRepository;
 import com.ideas2it.groceryshop.repository.ProductRepository;
-import com.ideas2it.groceryshop.repository.StockRepository;
 import com.ideas2it.groceryshop.repository.StoreRepository;
 import com.ideas2it.groceryshop.service.ProductService;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 import lombok.NoArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * <p>
  *     Provides implementation to perform create, update, delete
  *     and view product operations.
+ *     Products are read from product catalog snapshot which is patched
+ *     whenever a product is added, updated or deleted.
  * </p>
  *
  * @author RUBAN
@@ -44,17 +52,30 @@ public class ProductServiceImpl implements ProductService {
 
     private ProductRepository productRepository;
     private CategoryRepository categoryRepository;
-    private StockRepository stockRepository;
+    private StockAvailabilityIndex stockAvailabilityIndex;
     private StoreRepository storeRepository;
+    private ProductCatalog productCatalog;
     private Logger logger;
 
+    @Value("${product.search.default-size:20}")
+    private int defaultSearchSize;
+
+    @Value("${product.search.max-size:50}")
+    private int maxSearchSize;
+
+    @Value("${product.suggest.default-limit:8}")
+    private int defaultSuggestLimit;
+
     @Autowired
-    public ProductServiceImpl(ProductRepository productRepository, StockRepository stockRepository,
-                              StoreRepository storeRepository, CategoryRepository categoryRepository) {
+    public ProductServiceImpl(ProductRepository productRepository,
+                              StockAvailabilityIndex stockAvailabilityIndex,
+                              StoreRepository storeRepository, CategoryRepository categoryRepository,
+                              ProductCatalog productCatalog) {
         this.categoryRepository = categoryRepository;
         this.productRepository = productRepository;
         this.storeRepository = storeRepository;
-        this.stockRepository = stockRepository;
+        this.stockAvailabilityIndex = stockAvailabilityIndex;
+        this.productCatalog = productCatalog;
         this.logger = LogManager.getLogger(ProductServiceImpl.class);
     }
 
@@ -75,6 +96,7 @@ public class ProductServiceImpl implements ProductService {
         Optional<Category> category = categoryRepository.findById(productRequestDto.getSubCategoryId());
         category.ifPresent(product::setSubCategory);
         productRepository.save(product);
+        productCatalog.put(product);
         logger.debug("The addProduct method successfully executed");
         return new SuccessResponseDto(201, "Product added successfully");
     }
@@ -85,17 +107,12 @@ public class ProductServiceImpl implements ProductService {
     @Override
     public List<ProductResponseDto> getProducts() throws NotFoundException {
         logger.debug("Entered into getProducts method in product service");
-        List<Product> productList = productRepository.findAllAndIsActive(true);
+        List<CatalogProduct> productList = productCatalog.getProducts();
         if (productList.isEmpty()) {
             throw new NotFoundException("Products not found");
         }
-        List<ProductResponseDto> productResponse = new ArrayList<>();
-        for (Product product : productList) {
-            ProductResponseDto productResponseDto = ProductMapper.toProductDto(product);
-            productResponse.add(productResponseDto);
-        }
         logger.debug("The getProducts method successfully executed");
-        return productResponse;
+        return toProductDtos(productList);
     }
 
     /**
@@ -104,7 +121,7 @@ public class ProductServiceImpl implements ProductService {
     @Override
     public ProductResponseDto getProductById(Integer productId) throws NotFoundException {
         logger.debug("Entered into getProductsById method in product service");
-        Product product = productRepository.findByIdAndIsActive(productId, true);
+        CatalogProduct product = productCatalog.getProductById(productId);
         if (product == null) {
             throw new NotFoundException("Product not found");
         }
@@ -119,35 +136,46 @@ public class ProductServiceImpl implements ProductService {
     public List<ProductResponseDto> getProductsByCategoryId( Integer categoryId)
                                                             throws NotFoundException {
         logger.debug("Entered into getProductsByCategoryId method in product service");
-        List<Product> products = productRepository.findProductsByCategoryIdAndIsActive( categoryId,
-                true);
+        List<CatalogProduct> products = productCatalog.getProductsByCategoryId(categoryId);
         if(products.isEmpty()) {
             throw new NotFoundException("Products not found, id invalid");
         }
-        List<ProductResponseDto> productResponses = new ArrayList<>();
-        for(Product product : products){
-            ProductResponseDto productResponseDto = ProductMapper.toProductDto(product);
-            productResponses.add(productResponseDto);
-        }
         logger.debug("The getProductsByCategoryId method successfully executed");
-        return productResponses;
+        return toProductDtos(products);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<ProductResponseDto> getProductsBySearch(String name) throws NotFoundException {
-        List<Product> products = productRepository.findProductBySearch(name);
+    public List<ProductResponseDto> getProductsBySearch(String name, Integer page, Integer size)
+                                                        throws NotFoundException {
+        logger.debug("Entered into getProductsBySearch method in product service");
+        int pageSize = (size == null || size < 1) ? defaultSearchSize
+                                                  : Math.min(size, maxSearchSize);
+        long offset = (page == null || page < 0) ? 0 : (long) page * pageSize;
+        List<CatalogProduct> products = productCatalog.search(name,
+                (int) Math.min(offset, Integer.MAX_VALUE), pageSize);
         if (products.isEmpty()) {
             throw new NotFoundException("Products not found");
         }
-        List<ProductResponseDto> productResponse = new ArrayList<>();
-        for (Product product : products) {
-            ProductResponseDto productResponseDto = ProductMapper.toProductDto(product);
-            productResponse.add(productResponseDto);
+        logger.debug("The getProductsBySearch method successfully executed");
+        return toProductDtos(products);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<SuggestionResponseDto> getSuggestions(String query, Integer limit) {
+        List<Suggestion> suggestions = productCatalog.suggest(query,
+                (limit == null || limit < 1) ? defaultSuggestLimit : limit);
+        List<SuggestionResponseDto> suggestionResponses = new ArrayList<>(suggestions.size());
+        for (Suggestion suggestion : suggestions) {
+            suggestionResponses.add(new SuggestionResponseDto(suggestion.getId(),
+                    suggestion.getName(), suggestion.getType()));
         }
-        return productResponse;
+        return suggestionResponses;
     }
 
     /**
@@ -157,18 +185,12 @@ public class ProductServiceImpl implements ProductService {
     public List<ProductResponseDto> getProductsBySubCategoryId(Integer subCategoryId)
                                                                throws NotFoundException {
         logger.debug("Entered into getProductsBySubCategoryId method in product service");
-        List<Product> products = productRepository.findProductsBySubCategoryIdAndIsActive(subCategoryId,
-                true);
+        List<CatalogProduct> products = productCatalog.getProductsBySubCategoryId(subCategoryId);
         if(products.isEmpty()) {
             throw new NotFoundException("Products not found, id invalid");
         }
-        List<ProductResponseDto> productResponses = new ArrayList<>();
-        for(Product product : products){
-            ProductResponseDto productResponseDto = ProductMapper.toProductDto(product);
-            productResponses.add(productResponseDto);
-        }
         logger.debug("The getProductsBySubCategoryId method successfully executed");
-        return productResponses;
+        return toProductDtos(products);
     }
 
     /**
@@ -183,6 +205,7 @@ public class ProductServiceImpl implements ProductService {
         }
         product.setActive(false);
         productRepository.save(product);
+        productCatalog.remove(id);
         logger.debug("The deleteProductById method successfully executed");
         return new SuccessResponseDto(200, "Product deleted successfully");
     }
@@ -207,6 +230,7 @@ public class ProductServiceImpl implements ProductService {
         product.setPrice(productRequestDto.getPrice());
         product.setUnit(productRequestDto.getUnit());
         productRepository.save(product);
+        productCatalog.put(product);
         logger.debug("The updateProductById method successfully executed");
         return new SuccessResponseDto(200, "Product details updated successfully");
     }
@@ -217,7 +241,7 @@ public class ProductServiceImpl implements ProductService {
     @Override
     public List<ProductResponseDto> getProductsByLocation(Integer locationId) throws NotFoundException {
         logger.debug("Entered into getProductsLocation method in product service");
-        List<Product> products = productRepository.findAllAndIsActive(true);
+        List<CatalogProduct> products = productCatalog.getProducts();
         if (products.isEmpty()) {
             throw new NotFoundException("No products found");
         }
@@ -225,13 +249,11 @@ public class ProductServiceImpl implements ProductService {
         if(!location) {
             throw new NotFoundException("Location id invalid");
         }
-        List<ProductResponseDto> productResponses = new ArrayList<>();
-        for (Product product : products) {
+        BitSet productIdsInStock = stockAvailabilityIndex.getProductIdsInStock(locationId);
+        List<ProductResponseDto> productResponses = new ArrayList<>(products.size());
+        for (CatalogProduct product : products) {
             ProductResponseDto productResponseDto = ProductMapper.toProductDto(product);
-            Boolean isStockAvailable = stockRepository.
-                                       existsByStoreLocationIdAndProductIdAndAvailableStockGreaterThan
-                                       (locationId, product.getId(), 0);
-            productResponseDto.setIsStockAvailable(isStockAvailable);
+            productResponseDto.setIsStockAvailable(productIdsInStock.get(product.getId()));
             productResponses.add(productResponseDto);
         }
         logger.debug("The getProductsByLocation method successfully executed");
@@ -244,5 +266,20 @@ public class ProductServiceImpl implements ProductService {
     public Product getProductByProductId(Integer id) {
         return productRepository.findByIdAndIsActive(id, true);
     }
-}
 
+    /**
+     * <p>
+     *     Converts catalog products to product response dtos.
+     * </p>
+     *
+     * @param products - Catalog products.
+     * @return         - Product response dtos.
+     */
+    private List<ProductResponseDto> toProductDtos(List<CatalogProduct> products) {
+        List<ProductResponseDto> productResponses = new ArrayList<>(products.size());
+        for (CatalogProduct product : products) {
+            productResponses.add(ProductMapper.toProductDto(product));
+        }
+        return productResponses;
+    }
+}
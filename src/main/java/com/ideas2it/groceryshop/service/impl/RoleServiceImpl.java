@@ -12,6 +12,8 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.ideas2it.groceryshop.cache.PrincipalCache;
+import com.ideas2it.groceryshop.cache.TokenRevocationList;
 import com.ideas2it.groceryshop.dto.RoleRequestDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
 import com.ideas2it.groceryshop.dto.RoleUpdateRequestDto;
@@ -37,11 +39,16 @@ import com.ideas2it.groceryshop.service.RoleService;
 public class RoleServiceImpl implements RoleService {
 
     private final RoleRepository roleRepository;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
     private final Logger logger = LogManager.getLogger(RoleServiceImpl.class);
 
     @Autowired
-    public RoleServiceImpl(RoleRepository roleRepository) {
+    public RoleServiceImpl(RoleRepository roleRepository, PrincipalCache principalCache,
+                           TokenRevocationList tokenRevocationList) {
         this.roleRepository = roleRepository;
+        this.principalCache = principalCache;
+        this.tokenRevocationList = tokenRevocationList;
     }
 
     /**
@@ -79,6 +86,8 @@ public class RoleServiceImpl implements RoleService {
                         (roleUpdateRequestDto.getName()).getName(),
                 RoleMapper.roleDtoToRole(roleUpdateRequestDto.
                         getNameToUpdate()).getName());
+        principalCache.evictAll();
+        tokenRevocationList.revokeRole(role.get().getId());
         logger.debug("Role updated successfully");
         return new SuccessResponseDto(200,"Role updated successfully");
     }
@@ -97,6 +106,8 @@ public class RoleServiceImpl implements RoleService {
         }
         role.get().setIsActive(false);
         roleRepository.save(role.get());
+        principalCache.evictAll();
+        tokenRevocationList.revokeRole(role.get().getId());
         logger.debug("Role deleted successfully");
         return new SuccessResponseDto(200,"Role deleted successfully");
     }
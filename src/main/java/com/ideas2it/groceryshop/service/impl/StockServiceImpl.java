@@ -5,11 +5,14 @@
  */
 package com.ideas2it.groceryshop.service.impl;
 
+import com.ideas2it.groceryshop.cache.StockAvailabilityIndex;
+import com.ideas2it.groceryshop.cache.StockCounters;
 import com.ideas2it.groceryshop.dto.StockRequestDto;
 import com.ideas2it.groceryshop.dto.StockResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
 import com.ideas2it.groceryshop.exception.ExistedException;
 import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
 import com.ideas2it.groceryshop.mapper.StockMapper;
 import com.ideas2it.groceryshop.model.OrderDetail;
 import com.ideas2it.groceryshop.model.Product;
@@ -27,9 +30,14 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * <p>
@@ -48,6 +56,8 @@ public class StockServiceImpl implements StockService {
     private final StoreService storeService;
     private final StockRepository stockRepository;
     private final ProductService productService;
+    private final StockAvailabilityIndex stockAvailabilityIndex;
+    private final StockCounters stockCounters;
 
     /**
      * {@inheritDoc}
@@ -75,6 +85,8 @@ public class StockServiceImpl implements StockService {
         stock.setProduct(product);
         stock.setUnit(product.getUnit());
         stockRepository.save(stock);
+        stockCounters.evict(locationId, List.of(productId));
+        stockAvailabilityIndex.refresh(locationId, List.of(productId));
         logger.debug("Stock created successfully");
         return new SuccessResponseDto(201, "Stock created successfully");
     }
@@ -127,6 +139,8 @@ public class StockServiceImpl implements StockService {
             logger.error("product or location not found");
             throw new NotFoundException("Product or Location not found");
         }
+        stockCounters.evict(locationId, List.of(productId));
+        stockAvailabilityIndex.refresh(locationId, List.of(productId));
         logger.debug("stock updated successfully");
         return new SuccessResponseDto(200, "Stock updated successfully");
     }
@@ -135,28 +149,109 @@ public class StockServiceImpl implements StockService {
      *{@inheritDoc}
      */
     @Override
-    public void removeStockByOrderDetails(Order order, Integer pinCode) {
+    public void removeStockByOrderDetails(Order order, Integer pinCode)
+                                          throws OutOfStockException, NotFoundException {
         logger.debug("Entered removeStockByOrderDetails method in StockServiceImpl");
-        StoreLocation store = storeService.getStoreByPinCode(pinCode);
-        for (OrderDetail eachOrderDetail : order.getOrderDetails()) {
-            stockRepository.decreaseStockByProductsAndLocation(eachOrderDetail.getQuantity(),
-                                                               eachOrderDetail.getProduct(),
-                                                               store.getId());
+        Integer storeId = storeService.getStoreIdByPinCode(pinCode);
+        Map<Integer, Integer> quantityByProduct = getQuantityByProduct(order);
+        if (stockCounters.isEnabled()) {
+            List<Integer> unavailableProductIds = stockCounters.tryReserve(storeId,
+                                                                           quantityByProduct);
+            if (!unavailableProductIds.isEmpty()) {
+                logger.error("stock not available");
+                throw new OutOfStockException(unavailableProductIds);
+            }
+            releaseCountersOnRollback(storeId, quantityByProduct);
+        }
+        try {
+            stockRepository.reserveStocksByLocation(storeId, quantityByProduct);
+        } catch (OutOfStockException outOfStockException) {
+            logger.error("stock not available");
+            stockCounters.evict(storeId, quantityByProduct.keySet());
+            throw outOfStockException;
         }
+        order.getOrderDelivery().setStoreLocationId(storeId);
+        refreshIndexAfterCommit(storeId, quantityByProduct.keySet());
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void updateStockByOrderDetails(Order order) {
+    public void updateStockByOrderDetails(Order order) throws NotFoundException {
         logger.debug("Entered updateStockByOrderDetails method in StockServiceImpl");
-        Integer pinCode = order.getOrderDelivery().getShippingAddress().getPinCode();
-        StoreLocation store = storeService.getStoreByPinCode(pinCode);
+        Integer storeId = order.getOrderDelivery().getStoreLocationId();
+        if (storeId == null) {
+            Integer pinCode = order.getOrderDelivery().getShippingAddress().getPinCode();
+            storeId = storeService.getStoreIdByPinCode(pinCode);
+        }
+        Map<Integer, Integer> quantityByProduct = getQuantityByProduct(order);
+        stockRepository.increaseStocksByLocation(storeId, quantityByProduct);
+        stockCounters.evict(storeId, quantityByProduct.keySet());
+        refreshIndexAfterCommit(storeId, quantityByProduct.keySet());
+    }
+
+    /**
+     * <p>
+     *     Gets total quantity of each product in order, ordered by product id.
+     *     Lines of same product are merged.
+     * </p>
+     *
+     * @param order - Contains ordered product details
+     * @return quantity for each product id
+     */
+    private Map<Integer, Integer> getQuantityByProduct(Order order) {
+        Map<Integer, Integer> quantityByProduct = new TreeMap<>();
         for (OrderDetail eachOrderDetail : order.getOrderDetails()) {
-            stockRepository.increaseStockByProductsAndLocation(eachOrderDetail.getQuantity(),
-                                                               eachOrderDetail.getProduct(),
-                                                               store.getId());
+            quantityByProduct.merge(eachOrderDetail.getProduct().getId(),
+                                    eachOrderDetail.getQuantity(), Integer::sum);
+        }
+        return quantityByProduct;
+    }
+
+    /**
+     * <p>
+     *     Gives back counters reserved for order if surrounding transaction
+     *     is rolled back after stock is reserved.
+     * </p>
+     *
+     * @param locationId        - Location of reserved stock
+     * @param quantityByProduct - Reserved quantity of each product id
+     */
+    private void releaseCountersOnRollback(Integer locationId,
+                                           Map<Integer, Integer> quantityByProduct) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    stockCounters.release(locationId, quantityByProduct);
+                }
+            }
+        });
+    }
+
+    /**
+     * <p>
+     *     Refreshes stock availability index after surrounding transaction
+     *     is committed, or at once if there is no transaction.
+     * </p>
+     *
+     * @param locationId - Location of changed stock
+     * @param productIds - Products of changed stock
+     */
+    private void refreshIndexAfterCommit(Integer locationId, Collection<Integer> productIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stockAvailabilityIndex.refresh(locationId, productIds);
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stockAvailabilityIndex.refresh(locationId, productIds);
+            }
+        });
     }
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@
  */
 package com.ideas2it.groceryshop.service.impl;
 
+import com.ideas2it.groceryshop.cache.StoreRoutingTable;
 import com.ideas2it.groceryshop.dto.StoreRequestDto;
 import com.ideas2it.groceryshop.dto.StoreResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
@@ -39,6 +40,7 @@ import java.util.List;
 public class StoreServiceImpl implements StoreService {
     private final Logger logger = LogManager.getLogger(StoreServiceImpl.class);
     private final StoreRepository storeRepository;
+    private final StoreRoutingTable storeRoutingTable;
 
     /**
      * {@inheritDoc}
@@ -54,6 +56,7 @@ public class StoreServiceImpl implements StoreService {
         }
         StoreLocation storeLocation = StoreLocationMapper.toStoreLocation(storeLocationRequest);
         storeRepository.save(storeLocation);
+        storeRoutingTable.refresh();
         logger.debug("store created successfully");
         return new SuccessResponseDto(201, "Store created successfully");
     }
@@ -87,6 +90,7 @@ public class StoreServiceImpl implements StoreService {
             logger.error("store not found");
             throw new NotFoundException("Store not found");
         }
+        storeRoutingTable.refresh();
         logger.debug("store deleted successfully");
         return new SuccessResponseDto(200, "Store deleted successfully");
     }
@@ -141,6 +145,7 @@ public class StoreServiceImpl implements StoreService {
         storeLocation.setArea(storeLocationRequest.getArea());
         storeLocation.setPinCode(storeLocationRequest.getPinCode());
         storeRepository.save(storeLocation);
+        storeRoutingTable.refresh();
         logger.debug("store updated successfully");
         return new SuccessResponseDto(200, "Store updated successfully");
     }
@@ -149,7 +154,12 @@ public class StoreServiceImpl implements StoreService {
      * {@inheritDoc}
      */
     @Override
-    public StoreLocation getStoreByPinCode(Integer pinCode) {
-        return storeRepository.findByIsActiveAndPinCode(true, pinCode);
+    public Integer getStoreIdByPinCode(Integer pinCode) throws NotFoundException {
+        int storeId = storeRoutingTable.getStoreId(pinCode);
+        if (storeId == StoreRoutingTable.NO_STORE) {
+            logger.error("store not found");
+            throw new NotFoundException("Store not found");
+        }
+        return storeId;
     }
 }
@@ -15,11 +15,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.ideas2it.groceryshop.cache.PrincipalCache;
+import com.ideas2it.groceryshop.cache.TokenRevocationList;
 import com.ideas2it.groceryshop.configuration.CustomUserDetails;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
 import com.ideas2it.groceryshop.dto.UserRequestDto;
@@ -32,6 +34,7 @@ import com.ideas2it.groceryshop.mapper.UserMapper;
 import com.ideas2it.groceryshop.model.Role;
 import com.ideas2it.groceryshop.model.User;
 import com.ideas2it.groceryshop.repository.UserRepository;
+import com.ideas2it.groceryshop.service.PasswordHashingService;
 import com.ideas2it.groceryshop.service.UserService;
 import com.ideas2it.groceryshop.service.RoleService;
 
@@ -48,16 +51,28 @@ import com.ideas2it.groceryshop.service.RoleService;
  * @since 04-11-2022
  */
 @Service
-public class UserServiceImpl implements UserService, UserDetailsService {
+public class UserServiceImpl implements UserService, UserDetailsService,
+                                        UserDetailsPasswordService {
+
+    private static final Pattern MOBILE_NUMBER_PATTERN = Pattern.compile("^[6-9][0-9]{9}");
 
     private final UserRepository userRepository;
     private final RoleService roleService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final PasswordHashingService passwordHashingService;
     private final Logger logger = LogManager.getLogger(UserServiceImpl.class);
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, RoleService roleService) {
+    public UserServiceImpl(UserRepository userRepository, RoleService roleService,
+                           PrincipalCache principalCache,
+                           TokenRevocationList tokenRevocationList,
+                           PasswordHashingService passwordHashingService) {
         this.userRepository = userRepository;
         this.roleService = roleService;
+        this.principalCache = principalCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.passwordHashingService = passwordHashingService;
     }
 
     /**
@@ -71,8 +86,7 @@ public class UserServiceImpl implements UserService, UserDetailsService {
             logger.debug("Username already exist");
             throw new ExistedException("Username already exist");
         }
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-        user.setPassword(encoder.encode(userRequestDto.getPassword()));
+        user.setPassword(passwordHashingService.encode(userRequestDto.getPassword()));
         Optional<Role> role = roleService.findRoleByName(user.getRole().getName());
         if (role.isPresent()) {
             user.setRole(role.get());
@@ -146,6 +160,8 @@ public class UserServiceImpl implements UserService, UserDetailsService {
             throw new NotFoundException("User not found");
         }
         userRepository.disableUserById(id);
+        principalCache.evictByUserId(id);
+        tokenRevocationList.revokeUser(id);
         logger.debug("User Deleted successfully");
         return new SuccessResponseDto(200,"User Deleted successfully");
     }
@@ -166,27 +182,44 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         return new CustomUserDetails(user.get());
     }
 
+    /**
+     * <p>
+     *     Stores password hashed again with configured cost, called on
+     *     successful login when stored hash was created with lower cost.
+     * </p>
+     *
+     * @param userDetails - Principal logged in.
+     * @param newPassword - Password hashed with configured cost.
+     * @return            - Principal with new password.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        logger.debug("Entered updatePassword method");
+        Optional<User> user = userRepository.findByUserNameAndIsActive(
+                userDetails.getUsername(), true);
+        if (user.isEmpty()) {
+            return userDetails;
+        }
+        user.get().setPassword(newPassword);
+        userRepository.save(user.get());
+        principalCache.evict(userDetails.getUsername());
+        logger.debug("Password rehashed successfully");
+        return new CustomUserDetails(user.get());
+    }
+
     /**
      *{@inheritDoc}
      */
     @Override
-    public String getUserNameByMobileNumber(String userNameOrMobileNumber){
-        logger.debug("Entered getUserByMobileNumber method");
-        Long number = null;
-        String userName = null;
-        Boolean isTrue = Pattern.matches("^[6-9][0-9]{9}", userNameOrMobileNumber);
-        if(isTrue == true) {
+    public Optional<User> getUserByUserNameOrMobileNumber(String userNameOrMobileNumber) {
+        logger.debug("Entered getUserByUserNameOrMobileNumber method");
+        if (MOBILE_NUMBER_PATTERN.matcher(userNameOrMobileNumber).matches()) {
             logger.debug("mobile number");
-            number = Long.parseLong(userNameOrMobileNumber);
-            Optional<User> user = userRepository.findUserByMobileNumberAndIsActive(number,
-                    true);
-            userName = user.get().getUserName();
-        } else {
-            logger.debug("username");
-            userName = userNameOrMobileNumber;
+            return userRepository.findUserByMobileNumberAndIsActive(
+                    Long.parseLong(userNameOrMobileNumber), true);
         }
-        logger.debug("Got user name");
-        return userName;
+        logger.debug("username");
+        return userRepository.findByUserNameAndIsActive(userNameOrMobileNumber, true);
     }
 
     /**
@@ -199,10 +232,13 @@ public class UserServiceImpl implements UserService, UserDetailsService {
             logger.debug("User Cannot be updated");
             throw new NotFoundException("User Cannot be updated");
         }
+        String currentUserName = getCurrentUser().getUserName();
         User updatedUser = UserMapper.userUpdateDtoToUser(userUpdateDto, getCurrentUser());
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
-        updatedUser.setPassword(encoder.encode(userUpdateDto.getPassword()));
+        updatedUser.setPassword(passwordHashingService.encode(userUpdateDto.getPassword()));
         userRepository.save(updatedUser);
+        principalCache.evict(currentUserName);
+        principalCache.evict(updatedUser.getUserName());
+        tokenRevocationList.revokeUser(updatedUser.getId());
         logger.debug("User Updated successfully");
         return new SuccessResponseDto(200,"User Updated successfully");
     }
@@ -228,6 +264,10 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         Authentication authentication = SecurityContextHolder.
                 getContext().getAuthentication();
         CustomUserDetails user = (CustomUserDetails) authentication.getPrincipal();
+        if (user.getUser() == null) {
+            logger.debug("Got user reference from stateless principal");
+            return userRepository.getReferenceById(user.getUserId());
+        }
         logger.debug("Got user object");
         return user.getUser();
     }
@@ -0,0 +1,67 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.util;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Base64;
+
+/**
+ * <p>
+ *     Converts id of last row of a page to an opaque cursor token and
+ *     back, pages are read newest first by id.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @version 1.0
+ * @since 17-10-2026
+ */
+public final class PageCursor {
+
+    private static final String PREFIX = "id:";
+
+    private PageCursor() {
+    }
+
+    /**
+     * <p>
+     *     Creates cursor of page which ends with given id.
+     * </p>
+     *
+     * @param lastId - Id of last row of page.
+     * @return       - Cursor token.
+     */
+    public static String encode(Integer lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * <p>
+     *     Gets id after which next page starts.
+     * </p>
+     *
+     * @param cursor          - Cursor token, null for first page.
+     * @return                - Id of last row of previous page, or
+     *                          Integer.MAX_VALUE for first page.
+     * @throws ParseException - If cursor is invalid.
+     */
+    public static Integer decode(String cursor) throws ParseException {
+        if (cursor == null || cursor.isBlank()) {
+            return Integer.MAX_VALUE;
+        }
+        try {
+            String token = new String(Base64.getUrlDecoder().decode(cursor),
+                                      StandardCharsets.UTF_8);
+            if (token.startsWith(PREFIX)) {
+                return Integer.valueOf(token.substring(PREFIX.length()));
+            }
+        } catch (IllegalArgumentException exception) {
+            // falls through to invalid cursor
+        }
+        throw new ParseException("Invalid cursor", 0);
+    }
+}
@@ -5,21 +5,44 @@
  */
 package com.ideas2it.groceryshop.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.ideas2it.groceryshop.cache.TokenRevocationList;
+import com.ideas2it.groceryshop.configuration.CustomUserDetails;
+
 /**
  * <p>
- *     Providing service for creating token and validate token
+ *     Providing service for creating token and validate token.
+ *     Signing key and parser are built once, recently verified tokens
+ *     are remembered by their digest until they expire so that
+ *     signature is not verified again on every request.
  * </p>
  *
  * @version 1.0
@@ -28,8 +51,34 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public class SecurityUtil {
-    @Value("${jwt.secret}")
-    private String secret;
+    private static final String USER_ID = "uid";
+    private static final String ROLE = "role";
+    private static final String USER_VERSION = "ver";
+
+    private final long expirySeconds;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedTokens;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    public SecurityUtil(@Value("${jwt.secret}") String secret,
+                        @Value("${jwt.expiry-seconds:36000}") long expirySeconds,
+                        @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheSize,
+                        TokenRevocationList tokenRevocationList,
+                        MeterRegistry meterRegistry) {
+        this.expirySeconds = expirySeconds;
+        this.signingKey = new SecretKeySpec(TextCodec.BASE64.decode(secret),
+                SignatureAlgorithm.HS512.getJcaName());
+        this.jwtParser = Jwts.parser().setSigningKey(signingKey);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        this.tokenRevocationList = tokenRevocationList;
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedTokens");
+    }
 
     /**
      * <p>
@@ -54,25 +103,89 @@ public class SecurityUtil {
      * @param <T> - contains token, function<claims and claimsResolver.
      */
     public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
+        final Claims claims = parseToken(token);
         return claimsResolver.apply(claims);
     }
 
     /**
      * <p>
-     *     Get all claims from token.
+     *     Verifies token and gets all claims from it. Token is parsed and
+     *     its signature verified only if it is not verified recently.
      * </p>
      *
      * @param token - To parse.
-     * @return - claims.
+     * @return - verified claims.
+     */
+    public Claims parseToken(String token) {
+        String digest = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
+    /**
+     * <p>
+     *     Gets SHA-256 digest of token, used as key of verified tokens
+     *     so that raw tokens are not kept in memory.
+     * </p>
+     *
+     * @param token - To get digest.
+     * @return - Base64 encoded digest.
      */
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(
+                    messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException noSuchAlgorithmException) {
+            throw new IllegalStateException("SHA-256 is not available",
+                    noSuchAlgorithmException);
+        }
+    }
+
+    /**
+     * <p>
+     *     Checks if claims contains user id and role to build principal.
+     * </p>
+     *
+     * @param claims - Claims of token.
+     * @return       - If user id and role exists true or-else false.
+     */
+    public boolean hasPrincipalClaims(Claims claims) {
+        return claims.containsKey(USER_ID) && claims.containsKey(ROLE);
+    }
+
+    /**
+     * <p>
+     *     Builds principal from claims of stateless token without loading
+     *     user from database.
+     * </p>
+     *
+     * @param claims - Contains user id, role and token version.
+     * @return       - Principal, null if claims does not contain user id and
+     *                 role or if token is revoked.
+     */
+    public CustomUserDetails getPrincipalFromClaims(Claims claims) {
+        Integer userId = claims.get(USER_ID, Integer.class);
+        String roleName = claims.get(ROLE, String.class);
+        if (userId == null || roleName == null) {
+            return null;
+        }
+        Integer userVersion = claims.get(USER_VERSION, Integer.class);
+        if (tokenRevocationList.isRevoked(userId, userVersion == null ? 0 : userVersion)) {
+            return null;
+        }
+        return new CustomUserDetails(userId, claims.getSubject(), roleName);
     }
 
     /**
      * <p>
      *      Generate token based on username and claims.
+     *      Token carries user id, role and token version
+     *      to authenticate without loading user.
      * </p>
      *
      * @param userDetails - Contains username and password
@@ -81,6 +194,16 @@ public class SecurityUtil {
      */
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof CustomUserDetails) {
+            CustomUserDetails principal = (CustomUserDetails) userDetails;
+            claims.put(USER_ID, principal.getUserId());
+            claims.put(ROLE, principal.getRoleName());
+            int userVersion = tokenRevocationList.getUserVersion(principal.getUserId());
+            if (principal.getUser() != null && principal.getUser().getTokenVersion() != null) {
+                userVersion = Math.max(userVersion, principal.getUser().getTokenVersion());
+            }
+            claims.put(USER_VERSION, userVersion);
+        }
         return doGenerateToken(claims, userDetails.getUsername());
     }
 
@@ -94,9 +217,11 @@ public class SecurityUtil {
      * @return - bearer token.
      */
     private String doGenerateToken(Map<String, Object> claims, String subject) {
-
+        long now = System.currentTimeMillis();
         return Jwts.builder().setClaims(claims).setSubject(subject)
-                .signWith(SignatureAlgorithm.HS512, secret).compact();
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expirySeconds * 1000))
+                .signWith(SignatureAlgorithm.HS512, signingKey).compact();
     }
 
     /**
@@ -109,7 +234,49 @@ public class SecurityUtil {
      * @return - If token is valid it returns true or-else false.
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = getUsernameFromToken(token);
-        return (username.equals(userDetails.getUsername()));
+        return validateToken(parseToken(token), userDetails);
+    }
+
+    /**
+     * <p>
+     *      Validate already verified claims by user details.
+     * </p>
+     *
+     * @param claims - Verified claims of token.
+     * @param userDetails - Contains username and password.
+     * @return - If token is valid it returns true or-else false.
+     */
+    public Boolean validateToken(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername());
+    }
+
+    /**
+     * <p>
+     *     Expires verified token at its expiry time.
+     * </p>
+     */
+    private static class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return TimeUnit.HOURS.toNanos(1);
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, Claims claims,
+                                      long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String digest, Claims claims,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+-- One time migration of databases created while money columns were FLOAT,
+-- ddl-auto=update never changes type of an existing column. Run it once by
+-- hand after application has started on the new version, so Hibernate has
+-- updated schema, for example:
+--   mysql -u root -p grocery_shop < money-columns-to-decimal.sql
+-- It is not run by Spring SQL init.
+ALTER TABLE product MODIFY COLUMN price DECIMAL(12,2) NOT NULL;
+ALTER TABLE cart MODIFY COLUMN total_price DECIMAL(12,2) NOT NULL;
+ALTER TABLE cart_detail MODIFY COLUMN price DECIMAL(12,2) NOT NULL;
+ALTER TABLE order_item MODIFY COLUMN total_price DECIMAL(12,2) NOT NULL;
+ALTER TABLE order_detail MODIFY COLUMN price DECIMAL(12,2) NOT NULL;
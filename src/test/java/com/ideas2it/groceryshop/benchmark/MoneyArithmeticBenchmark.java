@@ -0,0 +1,167 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.ideas2it.groceryshop.model.Money;
+
+/**
+ * <p>
+ *     Compares a quantity change of a cart of 10, 100 and 500 lines with
+ *     boxed Float and Integer totals, as cart used to recompute them, with
+ *     totals recomputed in long minor units and with totals adjusted by
+ *     changed line as cart state keeps them. Run with GC profiler, so allocation of each way is shown
+ *     with its time.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class MoneyArithmeticBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int lineCount;
+
+    private List<FloatLine> floatLines;
+    private long[] unitPrices;
+    private long[] prices;
+    private int[] quantities;
+    private long totalPrice;
+    private int totalQuantity;
+    private int edit;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        floatLines = new ArrayList<>(lineCount);
+        unitPrices = new long[lineCount];
+        prices = new long[lineCount];
+        quantities = new int[lineCount];
+        for (int index = 0; index < lineCount; index++) {
+            long unitPrice = 999 + index * 37L;
+            unitPrices[index] = unitPrice;
+            quantities[index] = 1 + index % 5;
+            prices[index] = Money.multiply(unitPrice, quantities[index]);
+            floatLines.add(new FloatLine(unitPrice / 100F, quantities[index]));
+            totalPrice = Money.add(totalPrice, prices[index]);
+            totalQuantity += quantities[index];
+        }
+    }
+
+    /**
+     * <p>
+     *     Changes quantity of a line and sums all lines with boxed
+     *     accumulators, as cart service did before.
+     * </p>
+     */
+    @Benchmark
+    public Float boxedFloatRecompute() {
+        FloatLine line = floatLines.get(nextEdit());
+        Integer quantity = 1 + edit % 5;
+        line.quantity = quantity;
+        line.price = line.unitPrice * quantity;
+        Float totalPrice = 0F;
+        Integer totalQuantity = 0;
+        for (FloatLine eachLine : floatLines) {
+            totalPrice += eachLine.price;
+            totalQuantity += eachLine.quantity;
+        }
+        return totalPrice + totalQuantity;
+    }
+
+    /**
+     * <p>
+     *     Changes quantity of a line and sums all lines in long minor units.
+     * </p>
+     */
+    @Benchmark
+    public long minorUnitRecompute() {
+        int index = nextEdit();
+        quantities[index] = 1 + edit % 5;
+        prices[index] = Money.multiply(unitPrices[index], quantities[index]);
+        long totalPrice = 0;
+        int totalQuantity = 0;
+        for (int each = 0; each < lineCount; each++) {
+            totalPrice = Money.add(totalPrice, prices[each]);
+            totalQuantity += quantities[each];
+        }
+        return totalPrice + totalQuantity;
+    }
+
+    /**
+     * <p>
+     *     Changes quantity of a line and adjusts totals by the changed line
+     *     only, as cart state does.
+     * </p>
+     */
+    @Benchmark
+    public long minorUnitIncremental() {
+        int index = nextEdit();
+        int quantity = 1 + edit % 5;
+        long price = Money.multiply(unitPrices[index], quantity);
+        totalPrice = Money.add(Money.subtract(totalPrice, prices[index]), price);
+        totalQuantity += quantity - quantities[index];
+        prices[index] = price;
+        quantities[index] = quantity;
+        return totalPrice + totalQuantity;
+    }
+
+    private int nextEdit() {
+        edit++;
+        return edit % lineCount;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MoneyArithmeticBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    /**
+     * <p>
+     *     Cart line with boxed fields of old cart detail entity.
+     * </p>
+     */
+    private static final class FloatLine {
+
+        private final Float unitPrice;
+        private Integer quantity;
+        private Float price;
+
+        private FloatLine(Float unitPrice, Integer quantity) {
+            this.unitPrice = unitPrice;
+            this.quantity = quantity;
+            this.price = unitPrice * quantity;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.ideas2it.groceryshop.service.impl.PasswordHashingServiceImpl;
+
+/**
+ * <p>
+ *     Measures password hashing throughput of PasswordHashingService
+ *     at each BCrypt cost, used to choose the configured cost.
+ *     Run with main method from test classpath.
+ * </p>
+ *
+ * @version 1.0
+ * @author Rohit A P
+ * @since 17-10-2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(4)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "Grocery@123";
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private PasswordHashingServiceImpl passwordHashingService;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordHashingService = new PasswordHashingServiceImpl(strength,
+                Runtime.getRuntime().availableProcessors(), 1000,
+                new SimpleMeterRegistry());
+        encodedPassword = passwordHashingService.encode(PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordHashingService.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordHashingService.matches(PASSWORD, encodedPassword);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PasswordHashingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
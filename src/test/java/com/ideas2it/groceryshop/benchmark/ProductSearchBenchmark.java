@@ -0,0 +1,129 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.ideas2it.groceryshop.cache.CatalogProduct;
+import com.ideas2it.groceryshop.cache.ProductSearchIndex;
+
+/**
+ * <p>
+ *     Compares product search with name LIKE '%query%' on an in memory
+ *     H2 product table against product search index, for catalogs of
+ *     10k and 100k products. Each invocation runs the keystrokes of a
+ *     user typing a product name, index returns first page of 20.
+ * </p>
+ *
+ * @author RUBAN
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class ProductSearchBenchmark {
+
+    private static final String[] KEYSTROKES = {"m", "ma", "man", "mang", "mango"};
+    private static final String[] WORDS = {"apple", "banana", "mango", "grapes", "orange",
+            "tomato", "onion", "potato", "carrot", "rice", "wheat", "sugar", "salt", "milk",
+            "curd", "butter", "paneer", "bread", "juice", "tea"};
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "100000"})
+    private int catalogSize;
+
+    private Connection connection;
+    private PreparedStatement likeQuery;
+    private ProductSearchIndex searchIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:search;MODE=MySQL");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table product (id int primary key, "
+                    + "name varchar(255), price float, is_active boolean)");
+        }
+        List<CatalogProduct> products = new ArrayList<>(catalogSize);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into product values (?, ?, 10, true)")) {
+            for (int id = 1; id <= catalogSize; id++) {
+                String name = WORDS[id % WORDS.length] + " " + WORDS[(id / 7) % WORDS.length]
+                        + " " + id;
+                insert.setInt(1, id);
+                insert.setString(2, name);
+                insert.addBatch();
+                products.add(new CatalogProduct(id, name, 10, "kg", 1, "pic", 2, "fruits",
+                        1, "food"));
+            }
+            insert.executeBatch();
+        }
+        likeQuery = connection.prepareStatement(
+                "select * from product where name LIKE ?");
+        searchIndex = new ProductSearchIndex(products);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void sqlLike(Blackhole blackhole) throws SQLException {
+        for (String keystroke : KEYSTROKES) {
+            likeQuery.setString(1, "%" + keystroke + "%");
+            try (ResultSet resultSet = likeQuery.executeQuery()) {
+                List<String> names = new ArrayList<>();
+                while (resultSet.next()) {
+                    names.add(resultSet.getString("name"));
+                }
+                blackhole.consume(names);
+            }
+        }
+    }
+
+    @Benchmark
+    public void searchIndex(Blackhole blackhole) {
+        for (String keystroke : KEYSTROKES) {
+            blackhole.consume(searchIndex.search(keystroke, 0, PAGE_SIZE));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProductSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.ideas2it.groceryshop.cache.CatalogProduct;
+import com.ideas2it.groceryshop.cache.StockAvailabilityIndex;
+import com.ideas2it.groceryshop.dto.ProductResponseDto;
+import com.ideas2it.groceryshop.mapper.ProductMapper;
+import com.ideas2it.groceryshop.repository.StockRepository;
+
+/**
+ * <p>
+ *     Compares stock availability of a product listing page checked with
+ *     one query per product, single set based query and stock availability
+ *     index, on an in memory H2 stock table with schema and indexes of stock
+ *     entity, for growing catalog sizes. Every product has a stock row at
+ *     each of {@link #LOCATIONS} locations, two of three are in stock.
+ *     Queries are the statements generated for stock repository finders.
+ *     Counters "queries" and "pageViews" are reported per iteration,
+ *     their ratio is queries per page view.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class StockAvailabilityBenchmark {
+
+    private static final int LOCATIONS = 5;
+    private static final int LOCATION_ID = 1;
+    private static final String EXISTS_IN_STOCK = "select count(s.id) > 0 from stock s "
+            + "where s.location_id = ? and s.product_id = ? and s.available_stock > 0";
+    private static final String PRODUCT_IDS_IN_STOCK = "select s.product_id from stock s "
+            + "where s.location_id = ? and s.available_stock > 0";
+
+    @Param({"500", "5000", "20000"})
+    private int catalogSize;
+
+    private Connection connection;
+    private PreparedStatement existsInStock;
+    private PreparedStatement productIdsInStock;
+    private List<CatalogProduct> products;
+    private StockAvailabilityIndex stockAvailabilityIndex;
+    private QueryCounter queryCounter;
+
+    /**
+     * <p>
+     *     Queries and page views executed in an iteration.
+     * </p>
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class QueryCounter {
+        public long queries;
+        public long pageViews;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:stock" + catalogSize
+                + ";MODE=MySQL");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table stock (id integer not null auto_increment, "
+                    + "created_at datetime, created_by integer, modified_at datetime, "
+                    + "modified_by integer, available_stock integer not null, "
+                    + "is_active TINYINT not null, unit varchar(10) not null, "
+                    + "location_id integer, product_id integer, primary key (id))");
+            statement.execute("create index idx_stock_product_location "
+                    + "on stock (product_id, location_id)");
+            statement.execute("create index idx_stock_location_product "
+                    + "on stock (location_id, product_id)");
+        }
+        products = new ArrayList<>(catalogSize);
+        try (PreparedStatement insert = connection.prepareStatement("insert into stock "
+                + "(available_stock, is_active, unit, location_id, product_id) "
+                + "values (?, 1, 'kg', ?, ?)")) {
+            for (int id = 1; id <= catalogSize; id++) {
+                products.add(new CatalogProduct(id, "product" + id, 1000, "kg", 1, "pic",
+                        2, "fruits", 1, "food"));
+                for (int locationId = 1; locationId <= LOCATIONS; locationId++) {
+                    insert.setInt(1, (id + locationId) % 3 == 0 ? 0 : 10);
+                    insert.setInt(2, locationId);
+                    insert.setInt(3, id);
+                    insert.addBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        existsInStock = connection.prepareStatement(EXISTS_IN_STOCK);
+        productIdsInStock = connection.prepareStatement(PRODUCT_IDS_IN_STOCK);
+        stockAvailabilityIndex = new StockAvailabilityIndex(stockRepository());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void perProductQuery(QueryCounter counter, Blackhole blackhole)
+            throws SQLException {
+        counter.pageViews++;
+        List<ProductResponseDto> productResponses = new ArrayList<>(products.size());
+        for (CatalogProduct product : products) {
+            ProductResponseDto productResponseDto = ProductMapper.toProductDto(product);
+            existsInStock.setInt(1, LOCATION_ID);
+            existsInStock.setInt(2, product.getId());
+            counter.queries++;
+            try (ResultSet resultSet = existsInStock.executeQuery()) {
+                resultSet.next();
+                productResponseDto.setIsStockAvailable(resultSet.getBoolean(1));
+            }
+            productResponses.add(productResponseDto);
+        }
+        blackhole.consume(productResponses);
+    }
+
+    @Benchmark
+    public void setBasedQuery(QueryCounter counter, Blackhole blackhole) throws SQLException {
+        counter.pageViews++;
+        counter.queries++;
+        Set<Integer> inStock = new HashSet<>(findProductIdsInStock(LOCATION_ID));
+        List<ProductResponseDto> productResponses = new ArrayList<>(products.size());
+        for (CatalogProduct product : products) {
+            ProductResponseDto productResponseDto = ProductMapper.toProductDto(product);
+            productResponseDto.setIsStockAvailable(inStock.contains(product.getId()));
+            productResponses.add(productResponseDto);
+        }
+        blackhole.consume(productResponses);
+    }
+
+    @Benchmark
+    public void availabilityIndex(QueryCounter counter, Blackhole blackhole) {
+        queryCounter = counter;
+        counter.pageViews++;
+        BitSet inStock = stockAvailabilityIndex.getProductIdsInStock(LOCATION_ID);
+        List<ProductResponseDto> productResponses = new ArrayList<>(products.size());
+        for (CatalogProduct product : products) {
+            ProductResponseDto productResponseDto = ProductMapper.toProductDto(product);
+            productResponseDto.setIsStockAvailable(inStock.get(product.getId()));
+            productResponses.add(productResponseDto);
+        }
+        blackhole.consume(productResponses);
+    }
+
+    private List<Integer> findProductIdsInStock(int locationId) throws SQLException {
+        productIdsInStock.setInt(1, locationId);
+        List<Integer> productIds = new ArrayList<>();
+        try (ResultSet resultSet = productIdsInStock.executeQuery()) {
+            while (resultSet.next()) {
+                productIds.add(resultSet.getInt(1));
+            }
+        }
+        return productIds;
+    }
+
+    /**
+     * <p>
+     *     Creates stock repository for the index which runs its loading
+     *     finder as the set based query on H2 table and counts it.
+     * </p>
+     */
+    private StockRepository stockRepository() {
+        return (StockRepository) Proxy.newProxyInstance(StockRepository.class.getClassLoader(),
+                new Class<?>[] {StockRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals(
+                            "findProductIdsByLocationAndAvailableStockGreaterThan")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    if (queryCounter != null) {
+                        queryCounter.queries++;
+                    }
+                    return findProductIdsInStock((Integer) args[0]);
+                });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StockAvailabilityBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
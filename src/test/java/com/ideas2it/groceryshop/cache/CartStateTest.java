@@ -0,0 +1,89 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.ideas2it.groceryshop.model.Money;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * <p>
+ *     This is CartState Test Class used to test lines indexed by product
+ *     and totals kept by each change of a large cart.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class CartStateTest {
+
+    @Test
+    public void testTotalsMatchLinesAfterEveryChange() {
+        Random random = new Random(11);
+        CartState cart = new CartState(1, null, null, Collections.emptyList());
+        for (int change = 0; change < 5000; change++) {
+            int productId = random.nextInt(500);
+            long unitPrice = 1 + random.nextInt(100000);
+            switch (random.nextInt(4)) {
+                case 0:
+                    cart.addLine(line(productId, unitPrice, 1 + random.nextInt(20)));
+                    break;
+                case 1:
+                    cart.updateLine(productId, 1 + random.nextInt(20), unitPrice);
+                    break;
+                case 2:
+                    cart.removeLine(productId);
+                    break;
+                default:
+                    cart.putLine(line(productId, unitPrice, 1 + random.nextInt(20)));
+            }
+            CartContents contents = cart.getContents();
+            long totalPrice = 0;
+            int totalQuantity = 0;
+            for (CartLine line : contents.getLines()) {
+                totalPrice += line.getPrice();
+                totalQuantity += line.getQuantity();
+            }
+            assertEquals(totalPrice, contents.getTotalPrice());
+            assertEquals(totalQuantity, contents.getTotalQuantity());
+        }
+        cart.clear();
+        assertEquals(0, cart.getTotalPrice());
+        assertEquals(0, cart.getTotalQuantity());
+    }
+
+    @Test
+    public void testPricesAreSummedExactly() {
+        List<CartLine> lines = new ArrayList<>();
+        for (int productId = 0; productId < 300; productId++) {
+            lines.add(line(productId, Money.of(new BigDecimal("0.1")).getMinorUnits(), 1));
+        }
+        CartState cart = new CartState(1, 5, null, lines);
+        assertEquals(3000, cart.getTotalPrice());
+        assertEquals(new BigDecimal("30.00"), Money.ofMinor(cart.getTotalPrice()).toBigDecimal());
+        assertFalse(cart.addLine(line(0, 10, 1)));
+        assertNull(cart.updateLine(300, 2, null));
+        cart.updateLine(0, 3, null);
+        assertEquals(3020, cart.getTotalPrice());
+        assertEquals(302, cart.getTotalQuantity());
+    }
+
+    private static CartLine line(int productId, long unitPrice, int quantity) {
+        return new CartLine(productId, "product " + productId, "fruits", "food", unitPrice,
+                quantity, unitPrice * quantity);
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import com.ideas2it.groceryshop.model.Cart;
+import com.ideas2it.groceryshop.service.CartStateService;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ *     This is CartStore Test Class used to test coalesced flush of changed
+ *     carts, replay of journal after a crash, saving carts of a failed batch
+ *     one by one and saving every change when store is disabled.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class CartStoreTest {
+
+    @TempDir
+    Path journalDir;
+
+    private CartStateService cartStateService;
+
+    @BeforeEach
+    public void setUp() {
+        cartStateService = mockService();
+    }
+
+    @Test
+    public void testChangesAreSavedOnceByFlush() throws Exception {
+        CartStore cartStore = newStore(cartStateService, true);
+        CartState cart = cartStore.getCart(1);
+        assertTrue(cartStore.addLine(cart, line(10, 1)));
+        assertFalse(cartStore.addLine(cart, line(10, 1)));
+        assertTrue(cartStore.addLine(cart, line(11, 2)));
+        assertTrue(cartStore.updateLine(cart, 10, 4, 500L));
+        assertTrue(cartStore.removeLine(cart, 11));
+        assertFalse(cartStore.removeLine(cart, 11));
+        verify(cartStateService, never()).saveCarts(anyMap());
+        cartStore.flush();
+        CartContents contents = savedContents(cartStateService, 1).get(1);
+        assertEquals(1, contents.getLines().size());
+        assertEquals(4, contents.getLines().get(0).getQuantity());
+        assertEquals(2000L, contents.getLines().get(0).getPrice());
+        assertEquals(2000L, contents.getTotalPrice());
+        assertEquals(4, contents.getTotalQuantity());
+        assertEquals(7, cart.getCartId());
+        cartStore.flush();
+        verify(cartStateService, times(1)).saveCarts(anyMap());
+        cartStore.close();
+        assertTrue(new CartJournal(journalDir).readRotated().isEmpty());
+    }
+
+    @Test
+    public void testJournalIsReplayedAfterCrash() {
+        CartStore crashedStore = newStore(cartStateService, true);
+        CartState cart = crashedStore.getCart(1);
+        crashedStore.addLine(cart, line(10, 1));
+        crashedStore.addLine(cart, line(11, 2));
+        crashedStore.updateLine(cart, 11, 3, null);
+        crashedStore.addLine(crashedStore.getCart(2), line(12, 1));
+        crashedStore.clear(crashedStore.getCart(2));
+
+        CartStateService restartedService = mockService();
+        CartStore restartedStore = newStore(restartedService, true);
+        restartedStore.recover();
+        Map<Integer, CartContents> saved = savedContents(restartedService, 1);
+        assertEquals(2, saved.get(1).getLines().size());
+        assertEquals(3, saved.get(1).getLines().get(1).getQuantity());
+        assertEquals("product 11", saved.get(1).getLines().get(1).getProductName());
+        assertEquals(2000L, saved.get(1).getTotalPrice());
+        assertTrue(saved.get(2).getLines().isEmpty());
+    }
+
+    @Test
+    public void testFailedFlushKeepsJournal() {
+        when(cartStateService.saveCarts(anyMap())).thenThrow(new IllegalStateException());
+        CartStore cartStore = newStore(cartStateService, true);
+        CartState cart = cartStore.getCart(1);
+        cartStore.addLine(cart, line(10, 1));
+        cartStore.flush();
+        assertTrue(cart.isDirty());
+
+        CartStateService restartedService = mockService();
+        CartStore restartedStore = newStore(restartedService, true);
+        restartedStore.recover();
+        assertEquals(1, savedContents(restartedService, 1).get(1).getLines().size());
+    }
+
+    @Test
+    public void testFailedCartDoesNotFailBatchOrKeepJournal() throws Exception {
+        Cart savedCart = new Cart();
+        savedCart.setId(7);
+        when(cartStateService.saveCarts(anyMap())).thenAnswer(invocation -> {
+            Map<Integer, CartContents> contents = invocation.getArgument(0);
+            if (contents.containsKey(2)) {
+                throw new IllegalStateException();
+            }
+            return Map.of(1, savedCart);
+        });
+        CartStore cartStore = newStore(cartStateService, true);
+        CartState cart = cartStore.getCart(1);
+        CartState failingCart = cartStore.getCart(2);
+        cartStore.addLine(cart, line(10, 1));
+        cartStore.addLine(failingCart, line(11, 1));
+        cartStore.addLine(failingCart, line(12, 1));
+        cartStore.removeLine(failingCart, 11);
+        cartStore.flush();
+        verify(cartStateService, times(3)).saveCarts(anyMap());
+        assertEquals(7, cart.getCartId());
+        assertFalse(cart.isDirty());
+        assertTrue(failingCart.isDirty());
+        List<String> records = new CartJournal(journalDir).readRotated();
+        assertEquals(2, records.size());
+        assertEquals("C\t2", records.get(0));
+        assertTrue(records.get(1).startsWith("P\t2\t12\t"));
+    }
+
+    @Test
+    public void testCartIsFlushedWhileBatchOfOtherCartsIsSaved() throws Exception {
+        CountDownLatch batchStarted = new CountDownLatch(1);
+        CountDownLatch batchReleased = new CountDownLatch(1);
+        when(cartStateService.saveCarts(anyMap())).thenAnswer(invocation -> {
+            Map<Integer, CartContents> contents = invocation.getArgument(0);
+            if (contents.containsKey(2)) {
+                batchStarted.countDown();
+                batchReleased.await();
+            }
+            return Map.of();
+        });
+        CartStore cartStore = newStore(cartStateService, true);
+        cartStore.addLine(cartStore.getCart(2), line(11, 1));
+        Thread batch = new Thread(cartStore::flush);
+        batch.start();
+        assertTrue(batchStarted.await(5, TimeUnit.SECONDS));
+        CartState cart = cartStore.getCart(1);
+        cartStore.addLine(cart, line(10, 1));
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> cartStore.flush(1));
+        } finally {
+            batchReleased.countDown();
+        }
+        assertFalse(cart.isDirty());
+        batch.join();
+        verify(cartStateService, times(2)).saveCarts(anyMap());
+    }
+
+    @Test
+    public void testOrderedCartIsNotReplayed() {
+        CartStore crashedStore = newStore(cartStateService, true);
+        crashedStore.addLine(crashedStore.getCart(1), line(10, 1));
+        crashedStore.flush(1);
+        crashedStore.evict(1);
+
+        CartStateService restartedService = mockService();
+        CartStore restartedStore = newStore(restartedService, true);
+        restartedStore.recover();
+        assertTrue(savedContents(restartedService, 1).get(1).getLines().isEmpty());
+    }
+
+    @Test
+    public void testDisabledStoreSavesEveryChange() {
+        CartStore cartStore = newStore(cartStateService, false);
+        CartState cart = cartStore.getCart(1);
+        cartStore.addLine(cart, line(10, 1));
+        cartStore.updateLine(cart, 10, 2, null);
+        verify(cartStateService, times(2)).saveCarts(anyMap());
+        cartStore.getCart(1);
+        verify(cartStateService, times(2)).loadCart(1);
+    }
+
+    @Test
+    public void testOperationsAreAppliedWithOneSave() {
+        CartStore cartStore = newStore(cartStateService, false);
+        CartState cart = cartStore.getCart(1);
+        boolean[] applied = cartStore.apply(cart, List.of(
+                CartOperation.add(line(10, 1)),
+                CartOperation.add(line(11, 1)),
+                CartOperation.add(line(10, 2)),
+                CartOperation.update(11, 5, null),
+                CartOperation.remove(12),
+                CartOperation.merge(line(10, 3)),
+                CartOperation.merge(line(13, 2))));
+        assertArrayEquals(new boolean[] {true, true, false, true, false, true, true}, applied);
+        CartContents contents = savedContents(cartStateService, 1).get(1);
+        assertEquals(11, contents.getTotalQuantity());
+        assertEquals(5500L, contents.getTotalPrice());
+        assertEquals(4, cart.getLine(10).getQuantity());
+    }
+
+    private CartStore newStore(CartStateService service, boolean enabled) {
+        return new CartStore(service, enabled, 100, 10, journalDir.toString(),
+                new SimpleMeterRegistry());
+    }
+
+    private static CartStateService mockService() {
+        CartStateService service = mock(CartStateService.class);
+        when(service.loadCart(anyInt())).thenAnswer(invocation -> new CartState(
+                invocation.getArgument(0), null, null, Collections.emptyList()));
+        Cart cart = new Cart();
+        cart.setId(7);
+        when(service.saveCarts(anyMap())).thenAnswer(invocation -> {
+            Map<Integer, CartContents> contents = invocation.getArgument(0);
+            return contents.containsKey(1) ? Map.of(1, cart) : Map.of();
+        });
+        return service;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Integer, CartContents> savedContents(CartStateService service,
+                                                            int times) {
+        ArgumentCaptor<Map<Integer, CartContents>> captor =
+                ArgumentCaptor.forClass(Map.class);
+        verify(service, times(times)).saveCarts(captor.capture());
+        return captor.getValue();
+    }
+
+    private static CartLine line(int productId, int quantity) {
+        return new CartLine(productId, "product " + productId, "fruits", "food", 500L,
+                quantity, 500L * quantity);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ideas2it.groceryshop.model.Category;
+import com.ideas2it.groceryshop.repository.CategoryRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ *     This is CategoryTree Test Class used to test parent and child
+ *     links of category tree and its reloading.
+ * </p>
+ *
+ * @author RUBAN
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class CategoryTreeTest {
+
+    private CategoryRepository categoryRepository;
+    private CategoryTree categoryTree;
+    private Category food;
+
+    @BeforeEach
+    public void setUp() {
+        categoryRepository = mock(CategoryRepository.class);
+        food = new Category(1, "food", null, true);
+        Category dairy = new Category(4, "dairy", null, true);
+        Category inactive = new Category(5, "old", null, false);
+        when(categoryRepository.findAllActiveWithParents()).thenReturn(List.of(
+                new Category(3, "vegetables", food, true), dairy, food,
+                new Category(2, "fruits", food, true),
+                new Category(6, "stale", inactive, true)));
+        categoryTree = new CategoryTree(categoryRepository);
+    }
+
+    @Test
+    public void testTreeLinksParentsAndChildren() {
+        assertEquals(List.of(1, 4), List.of(categoryTree.getCategories().get(0).getId(),
+                categoryTree.getCategories().get(1).getId()));
+        assertEquals(List.of(2, 3), categoryTree.getNode(1).getChildIds());
+        assertTrue(categoryTree.getNode(4).getChildIds().isEmpty());
+        CategoryNode fruits = categoryTree.getNode(2);
+        assertTrue(fruits.isSubCategory());
+        assertEquals("food", fruits.getParentName());
+        assertEquals(1, fruits.getParentId());
+        assertFalse(categoryTree.getNode(1).isSubCategory());
+        assertEquals(2, categoryTree.getSubCategories().size());
+        assertNull(categoryTree.getNode(6));
+        verify(categoryRepository, times(1)).findAllActiveWithParents();
+    }
+
+    @Test
+    public void testRefreshReplacesTree() {
+        assertEquals("food", categoryTree.getNode(2).getParentName());
+        food.setName("groceries");
+        categoryTree.refresh();
+        assertEquals("groceries", categoryTree.getNode(2).getParentName());
+        verify(categoryRepository, times(2)).findAllActiveWithParents();
+    }
+}
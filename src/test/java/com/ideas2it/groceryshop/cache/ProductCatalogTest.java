@@ -0,0 +1,127 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ideas2it.groceryshop.model.Category;
+import com.ideas2it.groceryshop.model.Money;
+import com.ideas2it.groceryshop.model.Product;
+import com.ideas2it.groceryshop.repository.CategoryRepository;
+import com.ideas2it.groceryshop.repository.ProductRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ *     This is ProductCatalog Test Class used to test catalog
+ *     indexes and incremental changes.
+ * </p>
+ *
+ * @author RUBAN
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class ProductCatalogTest {
+
+    private ProductRepository productRepository;
+    private ProductCatalog productCatalog;
+    private Category fruits;
+
+    @BeforeEach
+    public void setUp() {
+        productRepository = mock(ProductRepository.class);
+        Category food = new Category(1, "food", null, true);
+        fruits = new Category(2, "fruits", food, true);
+        Category vegetables = new Category(3, "vegetables", food, true);
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        when(categoryRepository.findAllActiveWithParents()).thenReturn(List.of(food, fruits,
+                vegetables));
+        when(productRepository.findAllAndIsActive(true)).thenReturn(List.of(
+                new Product(11, "Tomato", Money.ofMinor(4000), true, vegetables, "kg", 1, "pic"),
+                new Product(10, "Apple", Money.ofMinor(12000), true, fruits, "kg", 1, "pic")));
+        productCatalog = new ProductCatalog(productRepository, new CategoryTree(categoryRepository));
+    }
+
+    @Test
+    public void testCatalogIsLoadedOnceAndIndexed() {
+        assertEquals(10, productCatalog.getProducts().get(0).getId());
+        assertEquals("Tomato", productCatalog.getProductById(11).getName());
+        assertEquals(2, productCatalog.getProductsByCategoryId(1).size());
+        assertEquals(1, productCatalog.getProductsBySubCategoryId(2).size());
+        assertEquals("food", productCatalog.getProductById(10).getCategoryName());
+        verify(productRepository, times(1)).findAllAndIsActive(true);
+    }
+
+    @Test
+    public void testPutAndRemovePatchSnapshot() {
+        productCatalog.put(new Product(12, "Mango", Money.ofMinor(9000), true, fruits, "kg", 1, "pic"));
+        assertEquals(2, productCatalog.getProductsBySubCategoryId(2).size());
+        productCatalog.put(new Product(10, "Apple", Money.ofMinor(15000), true, fruits, "kg", 1, "pic"));
+        assertEquals(15000, productCatalog.getProductById(10).getPrice());
+        productCatalog.remove(12);
+        assertNull(productCatalog.getProductById(12));
+        assertEquals(2, productCatalog.getProductsByCategoryId(1).size());
+        verify(productRepository, times(1)).findAllAndIsActive(true);
+    }
+
+    @Test
+    public void testSuggestionsFollowPutAndRemove() {
+        assertEquals("Apple", productCatalog.suggest("ap", 5).get(0).getName());
+        productCatalog.put(new Product(12, "Green Apple", Money.ofMinor(9000), true, fruits, "kg", 1, "pic"));
+        productCatalog.put(new Product(10, "Apricot", Money.ofMinor(15000), true, fruits, "kg", 1, "pic"));
+        assertEquals(List.of("Apricot", "Green Apple"), names(productCatalog.suggest("ap", 5)));
+        productCatalog.remove(12);
+        assertEquals(List.of("Apricot"), names(productCatalog.suggest("ap", 5)));
+        assertEquals("fruits", productCatalog.suggest("fru", 5).get(0).getName());
+        verify(productRepository, times(1)).findAllAndIsActive(true);
+    }
+
+    @Test
+    public void testSearchFollowsPutAndRemove() {
+        assertEquals(List.of("Apple"), productNames(productCatalog.search("ap", 0, 5)));
+        productCatalog.put(new Product(12, "Green Apple", Money.ofMinor(9000), true, fruits, "kg", 1, "pic"));
+        productCatalog.put(new Product(10, "Apricot", Money.ofMinor(15000), true, fruits, "kg", 1, "pic"));
+        assertEquals(List.of("Apricot", "Green Apple"), productNames(productCatalog.search("ap", 0, 5)));
+        productCatalog.remove(12);
+        assertEquals(List.of("Apricot"), productNames(productCatalog.search("ap", 0, 5)));
+        assertTrue(productCatalog.search("apple", 0, 5).isEmpty());
+        verify(productRepository, times(1)).findAllAndIsActive(true);
+    }
+
+    @Test
+    public void testSnapshotListsAreImmutable() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> productCatalog.getProducts().clear());
+    }
+
+    private static List<String> productNames(List<CatalogProduct> products) {
+        List<String> names = new ArrayList<>();
+        for (CatalogProduct product : products) {
+            names.add(product.getName());
+        }
+        return names;
+    }
+
+    private static List<String> names(List<Suggestion> suggestions) {
+        List<String> names = new ArrayList<>();
+        for (Suggestion suggestion : suggestions) {
+            names.add(suggestion.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ *     This is ProductSearchIndex Test Class used to test matching,
+ *     ranking and paging of product search.
+ * </p>
+ *
+ * @author RUBAN
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class ProductSearchIndexTest {
+
+    private ProductSearchIndex searchIndex;
+
+    @BeforeEach
+    public void setUp() {
+        searchIndex = new ProductSearchIndex(List.of(
+                product(1, "Green Apple"),
+                product(2, "Apple"),
+                product(3, "Apple Juice 1L"),
+                product(4, "Pineapple"),
+                product(5, "Strawberry Milkshake Powder"),
+                product(6, "Red Apple")));
+    }
+
+    @Test
+    public void testTokenizeFoldsCaseAndSplitsOnPunctuation() {
+        assertArrayEquals(new String[] {"apple", "juice", "1l"},
+                ProductSearchIndex.tokenize("  APPLE-Juice,1L "));
+    }
+
+    @Test
+    public void testPrefixOfEveryWordMatches() {
+        assertEquals(List.of(2, 3, 6, 1), ids(searchIndex.search("app", 0, 10)));
+        assertEquals(List.of(4), ids(searchIndex.search("PINE", 0, 10)));
+        assertEquals(List.of(5), ids(searchIndex.search("strawberry milk", 0, 10)));
+        assertTrue(searchIndex.search("milkshakes", 0, 10).isEmpty());
+        assertTrue(searchIndex.search("orange", 0, 10).isEmpty());
+        assertTrue(searchIndex.search(" - ", 0, 10).isEmpty());
+    }
+
+    @Test
+    public void testExactWordsRankBeforePrefixes() {
+        assertEquals(List.of(3), ids(searchIndex.search("apple ju", 0, 10)));
+        assertEquals(List.of(2, 3, 6, 1), ids(searchIndex.search("apple", 0, 10)));
+        assertEquals(List.of(6), ids(searchIndex.search("red apple", 0, 10)));
+    }
+
+    @Test
+    public void testResultsArePaged() {
+        assertEquals(List.of(2, 3), ids(searchIndex.search("apple", 0, 2)));
+        assertEquals(List.of(6, 1), ids(searchIndex.search("apple", 2, 2)));
+        assertTrue(searchIndex.search("apple", 4, 2).isEmpty());
+    }
+
+    @Test
+    public void testWordsLongerThanIndexedPrefixAreVerified() {
+        ProductSearchIndex index = new ProductSearchIndex(List.of(
+                product(1, "Multigrainbread"), product(2, "Multigrainflakes")));
+        assertEquals(List.of(2), ids(index.search("multigrainfl", 0, 10)));
+        assertEquals(List.of(1, 2), ids(index.search("multigrain", 0, 10)));
+    }
+
+    @Test
+    public void testChangedProductsAreMatchedWithoutRebuild() {
+        ProductSearchIndex changed = searchIndex.withProduct(product(7, "Apple Pie"))
+                .withProduct(product(2, "Custard Apple"))
+                .withoutProduct(6);
+        assertEquals(3, changed.getChangeCount());
+        assertEquals(List.of(7, 3, 1, 2), ids(changed.search("apple", 0, 10)));
+        assertEquals(List.of(2), ids(changed.search("cust", 0, 10)));
+        assertTrue(changed.search("red", 0, 10).isEmpty());
+        assertEquals(List.of(2, 3, 6, 1), ids(searchIndex.search("apple", 0, 10)));
+    }
+
+    private static CatalogProduct product(int id, String name) {
+        return new CatalogProduct(id, name, 10, "kg", 1, "pic", 2, "fruits", 1, "food");
+    }
+
+    private static List<Integer> ids(List<CatalogProduct> products) {
+        List<Integer> ids = new ArrayList<>();
+        for (CatalogProduct product : products) {
+            ids.add(product.getId());
+        }
+        return ids;
+    }
+}
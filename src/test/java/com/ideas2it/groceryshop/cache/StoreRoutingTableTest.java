@@ -0,0 +1,84 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ideas2it.groceryshop.model.StoreLocation;
+import com.ideas2it.groceryshop.repository.StoreRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ *     This is StoreRoutingTable Test Class used to test routing of pin
+ *     codes to stores with exact and nearest match within distance.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class StoreRoutingTableTest {
+
+    private StoreRepository storeRepository;
+    private StoreRoutingTable storeRoutingTable;
+
+    @BeforeEach
+    public void setUp() {
+        storeRepository = mock(StoreRepository.class);
+        when(storeRepository.findByIsActive(true)).thenReturn(List.of(store(3, 600040),
+                store(1, 600001), store(2, 600020), store(4, 600001)));
+        storeRoutingTable = new StoreRoutingTable(storeRepository, 1000);
+    }
+
+    @Test
+    public void testPinCodesAreRoutedToExactOrNearestStore() {
+        assertEquals(1, storeRoutingTable.getStoreId(600001));
+        assertEquals(2, storeRoutingTable.getStoreId(600020));
+        assertEquals(2, storeRoutingTable.getStoreId(600025));
+        assertEquals(2, storeRoutingTable.getStoreId(600030));
+        assertEquals(3, storeRoutingTable.getStoreId(600031));
+        assertEquals(1, storeRoutingTable.getStoreId(599001));
+        assertEquals(3, storeRoutingTable.getStoreId(601040));
+        verify(storeRepository, times(1)).findByIsActive(true);
+    }
+
+    @Test
+    public void testDistantPinCodesAreNotRouted() {
+        assertEquals(StoreRoutingTable.NO_STORE, storeRoutingTable.getStoreId(110001));
+        assertEquals(StoreRoutingTable.NO_STORE, storeRoutingTable.getStoreId(599000));
+        assertEquals(StoreRoutingTable.NO_STORE, storeRoutingTable.getStoreId(641001));
+        verify(storeRepository, times(1)).findByIsActive(true);
+    }
+
+    @Test
+    public void testRefreshReplacesTable() {
+        assertEquals(3, storeRoutingTable.getStoreId(600040));
+        List<StoreLocation> stores = new ArrayList<>(List.of(store(1, 600001)));
+        when(storeRepository.findByIsActive(true)).thenReturn(stores);
+        storeRoutingTable.refresh();
+        assertEquals(1, storeRoutingTable.getStoreId(600040));
+        when(storeRepository.findByIsActive(true)).thenReturn(List.of());
+        storeRoutingTable.refresh();
+        assertEquals(StoreRoutingTable.NO_STORE, storeRoutingTable.getStoreId(600001));
+    }
+
+    private static StoreLocation store(Integer id, Integer pinCode) {
+        StoreLocation store = new StoreLocation();
+        store.setId(id);
+        store.setPinCode(pinCode);
+        return store;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ *     This is SuggestionTrie Test Class used to test prefix lookup and
+ *     precomputed ranking of suggestions, also when products changed after
+ *     trie was built are left out.
+ * </p>
+ *
+ * @author RUBAN
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class SuggestionTrieTest {
+
+    private static final String[] WORDS = {"apple", "apricot", "banana", "bread", "brown",
+            "butter", "green", "grape", "milk", "mint"};
+
+    @Test
+    public void testNamesAndWordsStartingWithQueryAreSuggested() {
+        SuggestionTrie trie = new SuggestionTrie(List.of(
+                product(1, "Green Apple", 2, "Fruits"),
+                product(2, "Apple", 2, "Fruits"),
+                product(3, "Apple Juice", 5, "Juices"),
+                product(4, "Pineapple", 2, "Fruits")));
+        assertEquals(List.of("Apple", "Apple Juice", "Green Apple"),
+                names(trie.suggest("APP", 10)));
+        assertEquals(List.of("Fruits"), names(trie.suggest("fr", 10)));
+        assertEquals(Suggestion.SUB_CATEGORY, trie.suggest("fr", 10).get(0).getType());
+        assertEquals(List.of("Apple Juice"), names(trie.suggest("apple  j", 10)));
+        assertEquals(List.of("Apple"), names(trie.suggest("a", 1)));
+        assertTrue(trie.suggest("pple", 10).isEmpty());
+        assertTrue(trie.suggest("apple juicer", 10).isEmpty());
+        assertTrue(trie.suggest("", 10).isEmpty());
+    }
+
+    @Test
+    public void testEmptyCatalogSuggestsNothing() {
+        assertTrue(new SuggestionTrie(List.of()).suggest("a", 5).isEmpty());
+    }
+
+    @Test
+    public void testSuggestionsMatchFullScan() {
+        Random random = new Random(7);
+        List<CatalogProduct> products = new ArrayList<>();
+        for (int id = 1; id <= 500; id++) {
+            StringBuilder name = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+            for (int word = random.nextInt(3); word > 0; word--) {
+                name.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            products.add(product(id, name.toString(), 100 + id % 4, "sub " + id % 4));
+        }
+        SuggestionTrie trie = new SuggestionTrie(products);
+        assertTrue(trie.size() < 4 * products.size());
+        for (String query : List.of("a", "ap", "b", "br", "bro", "gr", "green g", "m", "mi",
+                "milk b", "x", "sub", "sub 3")) {
+            assertEquals(scan(products, query), names(trie.suggest(query, 10)), query);
+            assertEquals(scan(products, query), names(trie.scan(query, 10, Set.of())), query);
+        }
+    }
+
+    @Test
+    public void testRemovedProductsDoNotShortenSuggestions() {
+        List<CatalogProduct> products = new ArrayList<>();
+        for (int id = 10; id < 25; id++) {
+            products.add(product(id, "Apple " + id, 2, "Fruits"));
+        }
+        CatalogSuggester suggester = new CatalogSuggester(products)
+                .withoutProduct(10)
+                .withoutProduct(12)
+                .withProduct(product(14, "Pear 14", 2, "Fruits"));
+        assertEquals(List.of("Apple 11", "Apple 13", "Apple 15", "Apple 16", "Apple 17",
+                "Apple 18", "Apple 19", "Apple 20", "Apple 21", "Apple 22"),
+                names(suggester.suggest("apple", 10)));
+        assertEquals(List.of("Apple 11", "Apple 13"), names(suggester.suggest("apple", 2)));
+    }
+
+    private static List<String> scan(List<CatalogProduct> products, String query) {
+        List<Suggestion> matches = new ArrayList<>();
+        for (CatalogProduct product : products) {
+            matches.add(new Suggestion(product.getId(), product.getName(),
+                    Suggestion.PRODUCT));
+        }
+        for (int id = 100; id < 104; id++) {
+            matches.add(new Suggestion(id, "sub " + id % 4, Suggestion.SUB_CATEGORY));
+        }
+        String prefix = SuggestionTrie.normalize(query);
+        matches.removeIf(suggestion -> !(" " + suggestion.getName()).contains(" " + prefix));
+        matches.sort(Comparator
+                .comparing((Suggestion suggestion) -> !suggestion.getName().startsWith(prefix))
+                .thenComparingInt(suggestion -> suggestion.getName().length())
+                .thenComparing(Suggestion::getName)
+                .thenComparing(Suggestion::getType)
+                .thenComparingInt(Suggestion::getId));
+        return names(matches.subList(0, Math.min(10, matches.size())));
+    }
+
+    private static CatalogProduct product(int id, String name, int subCategoryId,
+                                          String subCategoryName) {
+        return new CatalogProduct(id, name, 10, "kg", 1, "pic", subCategoryId,
+                subCategoryName, 1, "food");
+    }
+
+    private static List<String> names(List<Suggestion> suggestions) {
+        List<String> names = new ArrayList<>();
+        for (Suggestion suggestion : suggestions) {
+            names.add(suggestion.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.controller;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+
+import com.ideas2it.groceryshop.dto.LoginRequestDto;
+import com.ideas2it.groceryshop.service.PasswordHashingService;
+import com.ideas2it.groceryshop.service.UserService;
+import com.ideas2it.groceryshop.util.SecurityUtil;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ *     This is AuthenticationController Test Class used to test that
+ *     login of unknown user verifies password like a known user.
+ * </p>
+ *
+ * @author Rohit A P
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class AuthenticationControllerTest {
+
+    @Test
+    public void testUnknownUserPasswordIsVerifiedAgainstDummyHash() {
+        UserService userService = mock(UserService.class);
+        PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+        AuthenticationController authenticationController = new AuthenticationController(
+                mock(SecurityUtil.class), userService, passwordHashingService,
+                mock(UserDetailsPasswordService.class));
+        when(userService.getUserByUserNameOrMobileNumber("ghost")).thenReturn(Optional.empty());
+        when(passwordHashingService.encode("unknownUserPassword")).thenReturn("$2a$10$dummy");
+        Optional<LoginRequestDto> loginRequest = Optional.of(new LoginRequestDto("ghost",
+                                                                                 "secret"));
+        assertThrows(BadCredentialsException.class,
+                () -> authenticationController.createAuthenticationToken(loginRequest));
+        assertThrows(BadCredentialsException.class,
+                () -> authenticationController.createAuthenticationToken(loginRequest));
+        verify(passwordHashingService, times(2)).matches("secret", "$2a$10$dummy");
+        verify(passwordHashingService, times(1)).encode("unknownUserPassword");
+    }
+}
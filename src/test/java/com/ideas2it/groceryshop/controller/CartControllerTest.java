@@ -8,6 +8,7 @@ package com.ideas2it.groceryshop.controller;
 import com.ideas2it.groceryshop.dto.*;
 import com.ideas2it.groceryshop.exception.ExistedException;
 import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.model.Money;
 import com.ideas2it.groceryshop.service.CartService;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -71,12 +72,12 @@ public class CartControllerTest {
         CartResponseDto cartResponseDto = new CartResponseDto();
         cartResponseDto.setId(1);
         cartResponseDto.setCreatedAt(new Date(2022-12-2));
-        cartResponseDto.setTotalPrice(200F);
+        cartResponseDto.setTotalPrice(Money.ofMinor(20000));
         CartDetailResponseDto cartDetail = new CartDetailResponseDto();
         cartDetail.setProductName("GoodDay");
         cartDetail.setSubCategory("Cookies");
         cartDetail.setCategory("Biscuit");
-        cartDetail.setPrice(100F);
+        cartDetail.setPrice(Money.ofMinor(10000));
         cartDetail.setQuantity(2);
         cartResponseDto.setCartDetails(List.of(cartDetail));
         when(cartService.getCart()).thenReturn(cartResponseDto);
@@ -137,4 +138,40 @@ public class CartControllerTest {
         SuccessResponseDto result = cartController.deleteProductFromCart(productId);
         assertEquals(successDto.getStatusCode(), result.getStatusCode());
     }
+
+    /**
+     * <p>
+     *     This method is used to test updateCartLines()
+     *     method in Cart Controller
+     * </p>
+     */
+    @Test
+    public void testUpdateCartLines() {
+        BulkCartRequestDto bulkCartRequestDto = new BulkCartRequestDto(List.of(
+                new CartLineRequestDto("ADD", 1, 2),
+                new CartLineRequestDto("REMOVE", 2, null)));
+        BulkCartResponseDto bulkCartResponseDto = new BulkCartResponseDto(List.of(
+                new CartLineResponseDto("ADD", 1, 201, "Product added to cart successfully"),
+                new CartLineResponseDto("REMOVE", 2, 404, "Product not found")), null);
+        when(cartService.updateCartLines(bulkCartRequestDto)).thenReturn(bulkCartResponseDto);
+        BulkCartResponseDto result = cartController.updateCartLines(bulkCartRequestDto);
+        assertEquals(404, result.getCartLines().get(1).getStatusCode());
+    }
+
+    /**
+     * <p>
+     *     This method is used to test reorder()
+     *     method in Cart Controller
+     * </p>
+     * @throws NotFoundException - exception will be thrown if Order not found
+     */
+    @Test
+    public void testReorder() throws NotFoundException {
+        BulkCartResponseDto bulkCartResponseDto = new BulkCartResponseDto(List.of(
+                new CartLineResponseDto("ADD", 1, 201, "Product added to cart successfully")),
+                new CartResponseDto());
+        when(cartService.reorder(1)).thenReturn(bulkCartResponseDto);
+        BulkCartResponseDto result = cartController.reorder(1);
+        assertEquals(1, result.getCartLines().size());
+    }
 }
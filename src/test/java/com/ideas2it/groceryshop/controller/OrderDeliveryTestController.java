@@ -10,6 +10,7 @@ import com.ideas2it.groceryshop.dto.OrderDeliveryResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
 import com.ideas2it.groceryshop.exception.ExistedException;
 import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.model.Money;
 import com.ideas2it.groceryshop.service.OrderDeliveryService;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -68,7 +69,7 @@ public class OrderDeliveryTestController {
                 "AnnaNagar", 600029, "VR Mall", new Date(2022/11/13),
                 new Date(2022/11/13), 1, 1, true, true);
         OrderDeliveryResponseDto orderDeliveryResponseDto = new OrderDeliveryResponseDto(userId, 1,
-                200f, 6, addressResponseDto, true);
+                Money.ofMinor(20000), 6, addressResponseDto, true);
         when(orderDeliveryService.getDeliveryOrder(userId)).thenReturn(orderDeliveryResponseDto);
         assertEquals(userId, orderDeliveryResponseDto.getUserId());
     }
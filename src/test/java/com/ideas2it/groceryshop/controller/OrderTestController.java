@@ -6,17 +6,22 @@
 package com.ideas2it.groceryshop.controller;
 
 import com.ideas2it.groceryshop.dto.OrderDetailResponseDto;
+import com.ideas2it.groceryshop.dto.OrderPageResponseDto;
 import com.ideas2it.groceryshop.dto.OrderRequestDto;
 import com.ideas2it.groceryshop.dto.OrderResponseDto;
 import com.ideas2it.groceryshop.dto.SuccessResponseDto;
 import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
+import com.ideas2it.groceryshop.model.Money;
 import com.ideas2it.groceryshop.service.OrderService;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.math.BigDecimal;
 import java.text.ParseException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -47,7 +52,7 @@ public class OrderTestController {
      * @throws NotFoundException
      */
     @Test
-    public void placeOrder() throws NotFoundException {
+    public void placeOrder() throws NotFoundException, OutOfStockException {
         SuccessResponseDto SuccessResponseDto = new SuccessResponseDto(202,
                 "Order Placed Successfully");
         OrderRequestDto orderRequestDto = new OrderRequestDto();
@@ -62,7 +67,7 @@ public class OrderTestController {
      * @throws NotFoundException
      */
     @Test
-    public void buyNow() throws NotFoundException {
+    public void buyNow() throws NotFoundException, OutOfStockException {
         SuccessResponseDto SuccessResponseDto = new SuccessResponseDto(202,
                 "Order Placed Successfully");
         OrderRequestDto orderRequestDto = new OrderRequestDto(5,1,1);
@@ -78,15 +83,16 @@ public class OrderTestController {
      * @throws NotFoundException
      */
     @Test
-    public void viewOrderByUserId() throws NotFoundException {
+    public void viewOrderByUserId() throws NotFoundException, ParseException {
         List<OrderDetailResponseDto> orderDetailsResponse = new ArrayList<>();
         orderDetailsResponse.add(new OrderDetailResponseDto("Fruits & Vegetables",
-                "Fruits", "Apple", 2, 200f));
+                "Fruits", "Apple", 2, Money.of(new BigDecimal("200"))));
         List<OrderResponseDto> userOrderResponse = new ArrayList<>();
         userOrderResponse.add(new OrderResponseDto(1, new Date(2022/11/13), new Date(2022/11/15),
-                230f, 5, orderDetailsResponse, true));
+                Money.of(new BigDecimal("230")), 5, true, orderDetailsResponse, false, false));
         Integer userId = 1;
-        when(orderService.viewOrderByUserId(userId)).thenReturn(userOrderResponse);
+        when(orderService.viewOrderByUserId(userId, null, null))
+                .thenReturn(new OrderPageResponseDto(userOrderResponse, null));
         assertEquals(userId, userOrderResponse.get(0).getUserId());
     }
 
@@ -110,15 +116,16 @@ public class OrderTestController {
      * @throws NotFoundException
      */
     @Test
-    public void viewOrdersByDate() throws NotFoundException {
+    public void viewOrdersByDate() throws NotFoundException, ParseException {
         Date date = new Date(2022/11/13);
         List<OrderDetailResponseDto> orderDetailsResponse = new ArrayList<>();
         orderDetailsResponse.add(new OrderDetailResponseDto("Fruits & Vegetables",
-                "Fruits", "Apple", 2, 200f));
+                "Fruits", "Apple", 2, Money.of(new BigDecimal("200"))));
         List<OrderResponseDto> userOrderResponse = new ArrayList<>();
         userOrderResponse.add(new OrderResponseDto(1, new Date(2022/11/13), new Date(2022/11/15),
-                230f, 5, orderDetailsResponse, true));
-        when(orderService.viewOrdersByDate(date)).thenReturn(userOrderResponse);
+                Money.of(new BigDecimal("230")), 5, true, orderDetailsResponse, false, false));
+        when(orderService.viewOrdersByDate(LocalDate.of(2022, 11, 13), null, null))
+                .thenReturn(new OrderPageResponseDto(userOrderResponse, null));
         assertEquals(date, userOrderResponse.get(0).getOrderedDate());
     }
 
@@ -134,11 +141,12 @@ public class OrderTestController {
         Date date = new Date(2022/11/13);
         List<OrderDetailResponseDto> orderDetailsResponse = new ArrayList<>();
         orderDetailsResponse.add(new OrderDetailResponseDto("Fruits & Vegetables",
-                "Fruits", "Apple", 2, 200f));
+                "Fruits", "Apple", 2, Money.of(new BigDecimal("200"))));
         List<OrderResponseDto> userOrderResponse = new ArrayList<>();
         userOrderResponse.add(new OrderResponseDto(1, new Date(2022/11/13), new Date(2022/11/15),
-                230f, 5, orderDetailsResponse, true));
-        when(orderService.viewOrdersByIdAndDate(date, userId)).thenReturn(userOrderResponse);
+                Money.of(new BigDecimal("230")), 5, true, orderDetailsResponse, false, false));
+        when(orderService.viewOrdersByIdAndDate(LocalDate.of(2022, 11, 13), userId, null, null))
+                .thenReturn(new OrderPageResponseDto(userOrderResponse, null));
         assertEquals(userId, userOrderResponse.get(0).getUserId());
     }
     
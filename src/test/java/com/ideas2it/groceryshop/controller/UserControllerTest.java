@@ -44,7 +44,7 @@ public class UserControllerTest {
     @Test
     public void createUser() throws ExistedException {
         UserRequestDto userRequestDto = new UserRequestDto("Rohit",
-                "Rohit", "AP", 9876543211L,
+                "Rohit", "AP", "9876543211",
                 "rohit@gmail.com", "123456", "ADMIN");
          SuccessResponseDto SuccessResponseDto = new  SuccessResponseDto();
          SuccessResponseDto.setStatusCode(200);
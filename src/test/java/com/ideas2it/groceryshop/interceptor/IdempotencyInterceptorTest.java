@@ -0,0 +1,135 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.interceptor;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.http.HttpServletRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.ideas2it.groceryshop.cache.IdempotencyStore;
+import com.ideas2it.groceryshop.configuration.CustomUserDetails;
+import com.ideas2it.groceryshop.dto.SuccessResponseDto;
+import com.ideas2it.groceryshop.exception.ExistedException;
+import com.ideas2it.groceryshop.filter.CachedBodyFilter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ *     This is IdempotencyInterceptor Test Class used to test replay of
+ *     order responses for retried requests.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class IdempotencyInterceptorTest {
+
+    private IdempotencyInterceptor idempotencyInterceptor;
+    private IdempotentResponseAdvice idempotentResponseAdvice;
+
+    @BeforeEach
+    public void setUp() {
+        IdempotencyStore idempotencyStore = new IdempotencyStore(100, 60,
+                new SimpleMeterRegistry());
+        idempotencyInterceptor = new IdempotencyInterceptor(idempotencyStore, new ObjectMapper());
+        idempotentResponseAdvice = new IdempotentResponseAdvice(idempotencyStore);
+        CustomUserDetails user = new CustomUserDetails(7, "user", "ROLE_USER");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testRetryReplaysStoredResponse() throws Exception {
+        MockHttpServletRequest first = request("key-1");
+        assertTrue(idempotencyInterceptor.preHandle(first, new MockHttpServletResponse(), null));
+        assertThrows(ExistedException.class, () -> idempotencyInterceptor.preHandle(
+                request("key-1"), new MockHttpServletResponse(), null));
+        idempotentResponseAdvice.beforeBodyWrite(new SuccessResponseDto(200,
+                "Order placed successfully"), null, null, null,
+                new ServletServerHttpRequest(first), null);
+        idempotencyInterceptor.afterCompletion(first, new MockHttpServletResponse(), null, null);
+
+        MockHttpServletResponse replayed = new MockHttpServletResponse();
+        assertFalse(idempotencyInterceptor.preHandle(request("key-1"), replayed, null));
+        assertEquals("true", replayed.getHeader(IdempotencyInterceptor.IDEMPOTENT_REPLAYED));
+        assertTrue(replayed.getContentAsString().contains("Order placed successfully"));
+    }
+
+    @Test
+    public void testFailedRequestReleasesKey() throws Exception {
+        MockHttpServletRequest first = request("key-2");
+        assertTrue(idempotencyInterceptor.preHandle(first, new MockHttpServletResponse(), null));
+        idempotencyInterceptor.afterCompletion(first, new MockHttpServletResponse(), null,
+                new IllegalStateException());
+        assertTrue(idempotencyInterceptor.preHandle(request("key-2"),
+                new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    public void testRequestWithoutKeyIsHandled() throws Exception {
+        assertTrue(idempotencyInterceptor.preHandle(new MockHttpServletRequest(),
+                new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    public void testKeyReusedForDifferentRequestIsRefused() throws Exception {
+        HttpServletRequest first = request("key-3", "/api/v1/user/orders/buyNow",
+                "{\"productId\":1}");
+        assertTrue(idempotencyInterceptor.preHandle(first, new MockHttpServletResponse(), null));
+        idempotentResponseAdvice.beforeBodyWrite(new SuccessResponseDto(200,
+                "Order placed successfully"), null, null, null,
+                new ServletServerHttpRequest(first), null);
+
+        MockHttpServletResponse otherProduct = new MockHttpServletResponse();
+        assertFalse(idempotencyInterceptor.preHandle(request("key-3",
+                "/api/v1/user/orders/buyNow", "{\"productId\":2}"), otherProduct, null));
+        assertEquals(422, otherProduct.getStatus());
+        MockHttpServletResponse otherPath = new MockHttpServletResponse();
+        assertFalse(idempotencyInterceptor.preHandle(request("key-3",
+                "/api/v1/user/orders/placeOrder", "{\"productId\":1}"), otherPath, null));
+        assertEquals(422, otherPath.getStatus());
+        MockHttpServletResponse replayed = new MockHttpServletResponse();
+        assertFalse(idempotencyInterceptor.preHandle(request("key-3",
+                "/api/v1/user/orders/buyNow", "{\"productId\":1}"), replayed, null));
+        assertEquals("true", replayed.getHeader(IdempotencyInterceptor.IDEMPOTENT_REPLAYED));
+    }
+
+    private MockHttpServletRequest request(String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST",
+                "/api/v1/user/orders/placeOrder");
+        request.addHeader(IdempotencyInterceptor.IDEMPOTENCY_KEY, key);
+        return request;
+    }
+
+    private HttpServletRequest request(String key, String path, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.addHeader(IdempotencyInterceptor.IDEMPOTENCY_KEY, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return new CachedBodyFilter.CachedBodyRequest(request);
+    }
+}
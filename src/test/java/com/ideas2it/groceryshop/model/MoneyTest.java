@@ -0,0 +1,66 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.model;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import com.ideas2it.groceryshop.dto.ProductRequestDto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>
+ *     This is Money Test Class used to test exact arithmetic of minor
+ *     units, decimal column conversion and JSON form of money.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class MoneyTest {
+
+    @Test
+    public void testArithmeticIsExact() {
+        Money total = Money.ZERO;
+        for (int index = 0; index < 1000; index++) {
+            total = total.plus(Money.of(new BigDecimal("0.10")));
+        }
+        assertEquals(Money.ofMinor(10000), total);
+        assertEquals("100.00", total.toString());
+        assertEquals(Money.ofMinor(3597), Money.ofMinor(1199).times(3));
+        assertEquals(Money.ofMinor(-1), Money.ofMinor(1199).minus(Money.ofMinor(1200)));
+        assertEquals(Money.ofMinor(1235), Money.of(new BigDecimal("12.345")));
+        assertSame(Money.ZERO, Money.ofMinor(0));
+        assertThrows(ArithmeticException.class, () -> Money.multiply(Long.MAX_VALUE / 2, 3));
+    }
+
+    @Test
+    public void testConverterKeepsTwoDecimalPlaces() {
+        MoneyConverter converter = new MoneyConverter();
+        assertEquals(new BigDecimal("19.90"), converter.convertToDatabaseColumn(
+                Money.ofMinor(1990)));
+        assertEquals(Money.ofMinor(1990), converter.convertToEntityAttribute(
+                new BigDecimal("19.9")));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    public void testJsonFormIsPlainNumber() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals("19.90", objectMapper.writeValueAsString(Money.ofMinor(1990)));
+        ProductRequestDto productRequestDto = objectMapper.readValue(
+                "{\"name\":\"Apple\",\"price\":120.5}", ProductRequestDto.class);
+        assertEquals(Money.ofMinor(12050), productRequestDto.getPrice());
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ideas2it.groceryshop.model.OrderEvent;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ *     This is index usage Test Class used to prove that hot repository
+ *     finders are served by indexes declared on entities. Statements run
+ *     by each finder are captured and explained, test fails if a table is
+ *     scanned or an index is used without its leading column.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:index_usage;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ideas2it.groceryshop.repository.IndexUsageTest$CapturedStatements"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class IndexUsageTest {
+
+    private static final Pattern INDEX_USAGE = Pattern.compile(
+            "/\\* PUBLIC\\.([A-Za-z0-9_]+)(\\.tableScan)?(?:: (.*?))? \\*/", Pattern.DOTALL);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CartRepository cartRepository;
+    @Autowired
+    private StockRepository stockRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private AddressRepository addressRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderEventRepository orderEventRepository;
+
+    /**
+     * <p>
+     *     Keeps statements prepared by Hibernate while test runs.
+     * </p>
+     */
+    public static class CapturedStatements implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        CapturedStatements.STATEMENTS.clear();
+    }
+
+    @Test
+    public void testCartAndAddressFindersUseIndexes() {
+        assertIndexed(() -> cartRepository.findByUserIdAndIsActive(1, true));
+        assertIndexed(() -> addressRepository.findByIsActiveAndUserId(true, 1));
+        assertIndexed(() -> addressRepository.findByIsActiveAndIdAndUserId(true, 1, 1));
+    }
+
+    @Test
+    public void testStockAndStoreFindersUseIndexes() {
+        assertIndexed(() -> stockRepository.findByProductIdAndStoreLocationId(1, 1));
+        assertIndexed(() -> stockRepository.findByProductId(1));
+        assertIndexed(() -> stockRepository
+                .existsByStoreLocationIdAndProductIdAndAvailableStockGreaterThan(1, 1, 0));
+        assertIndexed(() -> stockRepository
+                .findProductIdsByLocationAndAvailableStockGreaterThan(1, 0));
+        assertIndexed(() -> stockRepository
+                .findProductIdsByLocationAndProductIdsAndAvailableStockGreaterThan(1,
+                        List.of(1, 2), 0));
+        assertIndexed(() -> storeRepository.findByIsActiveAndPinCode(true, 600001));
+    }
+
+    @Test
+    public void testCatalogFindersUseIndexes() {
+        assertIndexed(() -> productRepository.findProductsBySubCategoryIdAndIsActive(1, true));
+        assertIndexed(() -> productRepository.findByIdAndIsActive(1, true));
+        assertIndexed(() -> productRepository.existsByName("apple"));
+        assertIndexed(() -> categoryRepository.findSubCategoriesByParentIdAndIsActive(1, true));
+        assertIndexed(() -> categoryRepository.findCategoriesByParentIdAndIsActive(true));
+        assertIndexed(() -> categoryRepository.findCategoryByIdAndIsActive(1, true));
+        assertIndexed(() -> categoryRepository.existsByName("fruits"));
+    }
+
+    @Test
+    public void testUserFindersUseIndexes() {
+        assertIndexed(() -> userRepository.findUserByMobileNumberAndIsActive(9876543210L, true));
+        assertIndexed(() -> userRepository.findByUserNameAndIsActive("user", true));
+        assertIndexed(() -> userRepository.findByIsActiveAndId(true, 1));
+        assertIndexed(() -> roleRepository.findByIsActiveAndName(true, "ROLE_CUSTOMER"));
+    }
+
+    @Test
+    public void testOrderFindersUseIndexes() {
+        PageRequest page = PageRequest.of(0, 20);
+        Date now = new Date();
+        assertIndexed(() -> orderRepository.findIdsByIsActive(true, Integer.MAX_VALUE, page));
+        assertIndexed(() -> orderRepository.findIdsByUserId(1, Integer.MAX_VALUE, page));
+        assertIndexed(() -> orderRepository.findIdsByOrderedDate(now, now,
+                Integer.MAX_VALUE, page));
+        assertIndexed(() -> orderRepository.findIdsByOrderedDateAndUserId(now, now, 1,
+                Integer.MAX_VALUE, page));
+        assertIndexed(() -> orderRepository.findWithDetailsByIdIn(List.of(1, 2)));
+        assertIndexed(() -> orderRepository.findByIdAndUserId(1, 1));
+        assertIndexed(() -> orderRepository.findByProductId(1));
+        assertIndexed(() -> orderEventRepository.findDueByStatus(OrderEvent.PENDING, now,
+                page));
+    }
+
+    /**
+     * <p>
+     *     Runs finder and checks plan of every statement it prepared.
+     * </p>
+     */
+    private void assertIndexed(Runnable finder) {
+        CapturedStatements.STATEMENTS.clear();
+        finder.run();
+        assertFalse(CapturedStatements.STATEMENTS.isEmpty());
+        for (String sql : new ArrayList<>(CapturedStatements.STATEMENTS)) {
+            String plan = explain(sql);
+            Matcher matcher = INDEX_USAGE.matcher(plan);
+            boolean hasIndex = false;
+            while (matcher.find()) {
+                hasIndex = true;
+                assertTrue(matcher.group(2) == null, () -> "Full table scan:\n" + plan);
+                String leadingColumn = getLeadingColumn(matcher.group(1));
+                String condition = matcher.group(3) == null ? "" : matcher.group(3);
+                assertTrue(condition.contains(leadingColumn),
+                        () -> "Index used without its leading column " + leadingColumn
+                                + ":\n" + plan);
+            }
+            assertTrue(hasIndex, () -> "No table access found in plan:\n" + plan);
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((java.sql.Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int index = 1; index <= parameters; index++) {
+                    statement.setObject(index, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    private String getLeadingColumn(String indexName) {
+        List<Map<String, Object>> columns = jdbcTemplate.queryForList(
+                "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                        + "WHERE INDEX_NAME = ? AND ORDINAL_POSITION = 1", indexName);
+        assertFalse(columns.isEmpty(), () -> "Unknown index " + indexName);
+        Object columnName = columns.get(0).get("COLUMN_NAME");
+        assertNotNull(columnName);
+        return columnName.toString();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.repository;
+
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ideas2it.groceryshop.configuration.StatementCounter;
+import com.ideas2it.groceryshop.dto.OrderPageResponseDto;
+import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.model.Address;
+import com.ideas2it.groceryshop.model.Category;
+import com.ideas2it.groceryshop.model.Money;
+import com.ideas2it.groceryshop.model.Order;
+import com.ideas2it.groceryshop.model.OrderDelivery;
+import com.ideas2it.groceryshop.model.OrderDetail;
+import com.ideas2it.groceryshop.model.Product;
+import com.ideas2it.groceryshop.model.Role;
+import com.ideas2it.groceryshop.model.User;
+import com.ideas2it.groceryshop.service.impl.OrderServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>
+ *     This is order query count Test Class used to prove that listing a
+ *     page of orders runs the same number of statements whatever the
+ *     number of orders and order details in the page, and that orders
+ *     are found by ordered date ranges.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @since 17-10-2026
+ * @version 1.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order_queries;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class OrderQueryCountTest {
+
+    private static final int PAGE_STATEMENTS = 2;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private OrderServiceImpl orderService;
+    private User user;
+    private Address address;
+    private List<Product> products;
+
+    @BeforeEach
+    public void setUp() {
+        orderService = new OrderServiceImpl(orderRepository, null, null, null, null, null,
+                                            null, null);
+        ReflectionTestUtils.setField(orderService, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(orderService, "maxPageSize", 100);
+        Role role = new Role(null, "ROLE_CUSTOMER", true);
+        user = new User(null, "user", "first", "last", "secret", 9876543210L,
+                        "user@mail.com", true, 0, null, role, null, null, null, null);
+        entityManager.persist(user);
+        address = new Address(null, "street", "area", 600001, "mark", true, true, user);
+        entityManager.persist(address);
+        Category food = new Category(0, "food", null, true);
+        entityManager.persist(food);
+        products = List.of(product("apple", food, "fruits"), product("carrot", food,
+                                                                     "vegetables"));
+    }
+
+    @Test
+    public void testOrderPageStatementsDoNotGrowWithOrders()
+            throws NotFoundException, ParseException {
+        placeOrders(2);
+        assertEquals(PAGE_STATEMENTS, countPageStatements(50));
+        placeOrders(30);
+        assertEquals(PAGE_STATEMENTS, countPageStatements(50));
+    }
+
+    @Test
+    public void testNextCursorReadsRemainingOrders() throws NotFoundException, ParseException {
+        placeOrders(5);
+        OrderPageResponseDto firstPage = orderService.viewAllActiveOrders(null, 3);
+        assertEquals(3, firstPage.getOrders().size());
+        assertNotNull(firstPage.getNextCursor());
+        assertEquals(2, firstPage.getOrders().get(0).getOrderDetails().size());
+        OrderPageResponseDto lastPage = orderService.viewAllActiveOrders(
+                firstPage.getNextCursor(), 3);
+        assertEquals(2, lastPage.getOrders().size());
+        assertNull(lastPage.getNextCursor());
+    }
+
+    @Test
+    public void testOrdersAreFoundByHalfOpenDateRange() throws NotFoundException, ParseException {
+        placeOrders(3);
+        LocalDate today = LocalDate.now();
+        assertEquals(3, orderService.viewOrdersByDate(today, null, 10).getOrders().size());
+        assertEquals(3, orderService.viewOrdersByDateRange(today.minusDays(2), today, null, 10)
+                .getOrders().size());
+        assertThrows(NotFoundException.class,
+                () -> orderService.viewOrdersByDate(today.plusDays(1), null, 10));
+        assertThrows(NotFoundException.class, () -> orderService.viewOrdersByDateRange(
+                today.minusDays(2), today.minusDays(1), null, 10));
+        assertThrows(ParseException.class, () -> orderService.viewOrdersByDateRange(
+                today, today.minusDays(1), null, 10));
+    }
+
+    private int countPageStatements(int size) throws NotFoundException, ParseException {
+        entityManager.clear();
+        StatementCounter.start();
+        OrderPageResponseDto page = orderService.viewAllActiveOrders(null, size);
+        page.getOrders().forEach(order -> order.getOrderDetails().forEach(
+                detail -> assertNotNull(detail.getCategoryName())));
+        return StatementCounter.stop();
+    }
+
+    private Product product(String name, Category category, String subCategoryName) {
+        Category subCategory = new Category(0, subCategoryName, category, true);
+        entityManager.persist(subCategory);
+        Product product = new Product(0, name, Money.ofMinor(1000), true, subCategory, "kg", 1, "pic");
+        entityManager.persist(product);
+        return product;
+    }
+
+    private void placeOrders(int count) {
+        User orderUser = entityManager.find(User.class, user.getId());
+        Address shippingAddress = entityManager.find(Address.class, address.getId());
+        for (int index = 0; index < count; index++) {
+            Order order = new Order();
+            order.setUser(orderUser);
+            order.setTotalPrice(Money.ofMinor(2000));
+            order.setTotalQuantity(2);
+            OrderDelivery orderDelivery = new OrderDelivery();
+            orderDelivery.setExpectedDeliveryDate(new Date());
+            orderDelivery.setShippingAddress(shippingAddress);
+            order.setOrderDelivery(orderDelivery);
+            order.setOrderDetails(List.of(detail(products.get(0).getId()),
+                                          detail(products.get(1).getId())));
+            entityManager.persist(order);
+        }
+        entityManager.flush();
+    }
+
+    private OrderDetail detail(int productId) {
+        OrderDetail orderDetail = new OrderDetail();
+        orderDetail.setProduct(entityManager.find(Product.class, productId));
+        orderDetail.setQuantity(1);
+        orderDetail.setPrice(Money.ofMinor(1000));
+        return orderDetail;
+    }
+}
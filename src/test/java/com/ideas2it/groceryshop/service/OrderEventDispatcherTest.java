@@ -0,0 +1,166 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.ideas2it.groceryshop.exception.NotFoundException;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
+import com.ideas2it.groceryshop.model.Cart;
+import com.ideas2it.groceryshop.model.Order;
+import com.ideas2it.groceryshop.model.OrderEvent;
+import com.ideas2it.groceryshop.repository.OrderEventRepository;
+import com.ideas2it.groceryshop.repository.OrderRepository;
+import com.ideas2it.groceryshop.service.impl.OrderEventDispatcher;
+import com.ideas2it.groceryshop.service.impl.OrderEventServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ *     This is OrderEventDispatcher Test Class used to test draining of
+ *     order outbox events and its metrics.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class OrderEventDispatcherTest {
+
+    private OrderEventService orderEventService;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderEventDispatcher orderEventDispatcher;
+
+    @BeforeEach
+    public void setUp() {
+        orderEventService = mock(OrderEventService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(orderEventService.isEnabled()).thenReturn(true);
+        orderEventDispatcher = new OrderEventDispatcher(orderEventService, 2, 10, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        orderEventDispatcher.shutdown();
+    }
+
+    @Test
+    public void testDrainProcessesAndRejectsEvents()
+            throws OutOfStockException, NotFoundException {
+        OrderEvent placed = event(1, 100);
+        OrderEvent outOfStock = event(2, 101);
+        OrderEvent failing = event(3, 102);
+        OrderEvent noStore = event(4, 103);
+        when(orderEventService.getPendingEvents(10)).thenReturn(List.of(placed, outOfStock,
+                                                                        failing, noStore));
+        when(orderEventService.processEvent(placed)).thenReturn(true);
+        when(orderEventService.processEvent(outOfStock))
+                .thenThrow(new OutOfStockException(List.of(7)));
+        when(orderEventService.processEvent(failing)).thenThrow(new IllegalStateException());
+        when(orderEventService.processEvent(noStore))
+                .thenThrow(new NotFoundException("Store not found"));
+        when(orderEventService.countPendingEvents()).thenReturn(1L);
+        orderEventDispatcher.drain();
+        verify(orderEventService).rejectEvent(outOfStock);
+        verify(orderEventService, never()).rejectEvent(failing);
+        verify(orderEventService).retryOrRejectEvent(failing);
+        verify(orderEventService).retryOrRejectEvent(noStore);
+        assertEquals(1, meterRegistry.get("order.outbox.latency").timer().count());
+        assertEquals(1, meterRegistry.get("order.outbox.drain").timer().count());
+        assertEquals(1.0, meterRegistry.get("order.outbox.backlog").gauge().value());
+    }
+
+    @Test
+    public void testDrainDoesNothingWhenDisabled() {
+        when(orderEventService.isEnabled()).thenReturn(false);
+        orderEventDispatcher.drain();
+        verify(orderEventService, never()).getPendingEvents(anyInt());
+    }
+
+    @Test
+    public void testClaimedEventIsNotAppliedAgain() throws OutOfStockException, NotFoundException {
+        OrderEventRepository orderEventRepository = mock(OrderEventRepository.class);
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        StockService stockService = mock(StockService.class);
+        OrderEventServiceImpl orderEventServiceImpl = new OrderEventServiceImpl(
+                orderEventRepository, orderRepository, stockService, mock(CartService.class),
+                true, 10, 1000L);
+        when(orderEventRepository.claimById(eq(1), eq(OrderEvent.PROCESSED), any(Date.class)))
+                .thenReturn(0);
+        assertFalse(orderEventServiceImpl.processEvent(event(1, 100)));
+        verifyNoInteractions(orderRepository, stockService);
+    }
+
+    @Test
+    public void testFailedEventIsDeferredThenRejected() {
+        OrderEventRepository orderEventRepository = mock(OrderEventRepository.class);
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        OrderEventServiceImpl orderEventServiceImpl = new OrderEventServiceImpl(
+                orderEventRepository, orderRepository, mock(StockService.class),
+                mock(CartService.class), true, 3, 1000L);
+        OrderEvent failed = event(1, 100);
+        failed.setAttempts(1);
+        long before = System.currentTimeMillis();
+        orderEventServiceImpl.retryOrRejectEvent(failed);
+        ArgumentCaptor<Date> nextAttemptAt = ArgumentCaptor.forClass(Date.class);
+        verify(orderEventRepository).deferById(eq(1), nextAttemptAt.capture());
+        assertTrue(nextAttemptAt.getValue().getTime() >= before + 2000);
+        failed.setAttempts(2);
+        when(orderEventRepository.claimById(eq(1), eq(OrderEvent.REJECTED), any(Date.class)))
+                .thenReturn(1);
+        orderEventServiceImpl.retryOrRejectEvent(failed);
+        verify(orderEventRepository, times(1)).deferById(eq(1), any(Date.class));
+        verify(orderRepository).findById(100);
+    }
+
+    @Test
+    public void testRejectedCartOrderIsMarkedAndPutBackInCart() {
+        OrderEventRepository orderEventRepository = mock(OrderEventRepository.class);
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        CartService cartService = mock(CartService.class);
+        OrderEventServiceImpl orderEventServiceImpl = new OrderEventServiceImpl(
+                orderEventRepository, orderRepository, mock(StockService.class), cartService,
+                true, 10, 1000L);
+        Order order = new Order();
+        order.setId(100);
+        order.setCart(new Cart());
+        when(orderRepository.findById(100)).thenReturn(Optional.of(order));
+        when(orderEventRepository.claimById(eq(1), eq(OrderEvent.REJECTED), any(Date.class)))
+                .thenReturn(1);
+        orderEventServiceImpl.rejectEvent(event(1, 100));
+        assertFalse(order.getIsActive());
+        assertTrue(order.getIsRejected());
+        verify(cartService).restoreOrderedCart(order);
+    }
+
+    private OrderEvent event(Integer id, Integer orderId) {
+        OrderEvent event = new OrderEvent(orderId);
+        event.setId(id);
+        event.setCreatedAt(new Date());
+        return event;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.service;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.ideas2it.groceryshop.service.impl.PasswordHashingServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ *     This is PasswordHashingService Test Class used to test hashing,
+ *     rehash detection and rejection when hashing queue is full.
+ * </p>
+ *
+ * @author Rohit A P
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class PasswordHashingServiceTest {
+
+    private PasswordHashingServiceImpl passwordHashingService;
+
+    @BeforeEach
+    public void setUp() {
+        passwordHashingService = new PasswordHashingServiceImpl(6, 2, 10,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    public void testEncodeAndMatches() {
+        String encodedPassword = passwordHashingService.encode("Grocery@123");
+        assertTrue(passwordHashingService.matches("Grocery@123", encodedPassword));
+        assertFalse(passwordHashingService.matches("Grocery@124", encodedPassword));
+    }
+
+    @Test
+    public void testUpgradeEncodingWhenCostIsRaised() {
+        String encodedPassword = passwordHashingService.encode("Grocery@123");
+        assertFalse(passwordHashingService.upgradeEncoding(encodedPassword));
+        PasswordHashingServiceImpl strongerService = new PasswordHashingServiceImpl(
+                8, 1, 1, new SimpleMeterRegistry());
+        assertTrue(strongerService.upgradeEncoding(encodedPassword));
+        assertTrue(strongerService.matches("Grocery@123", encodedPassword));
+        strongerService.shutdown();
+    }
+
+    @Test
+    public void testRejectsWhenHashingIsShutdown() {
+        passwordHashingService.shutdown();
+        assertThrows(RejectedExecutionException.class,
+                () -> passwordHashingService.encode("Grocery@123"));
+    }
+}
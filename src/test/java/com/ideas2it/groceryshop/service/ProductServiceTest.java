@@ -11,6 +11,7 @@ import com.ideas2it.groceryshop.exception.ExistedException;
 import com.ideas2it.groceryshop.exception.NotFoundException;
 import com.ideas2it.groceryshop.mapper.ProductMapper;
 import com.ideas2it.groceryshop.model.Category;
+import com.ideas2it.groceryshop.model.Money;
 import com.ideas2it.groceryshop.model.Product;
 import com.ideas2it.groceryshop.repository.CategoryRepository;
 import com.ideas2it.groceryshop.repository.ProductRepository;
@@ -47,7 +48,7 @@ public class ProductServiceTest {
     public void test_getProducts() throws NotFoundException {
         Category category1 = new Category(1,"fruits & vegetables", null, true);
         Category category = new Category(1,"vegetables", category1, true);
-        Product product = new Product(1,"Tomato", 100, true, category, "kg",
+        Product product = new Product(1,"Tomato", Money.ofMinor(10000), true, category, "kg",
                 1, "pic");
         List<Product> products = new ArrayList<>();
         products.add(product);
@@ -60,7 +61,7 @@ public class ProductServiceTest {
     @Test
     @Order(1)
     public void test_addProduct() throws NotFoundException, ExistedException {
-        ProductRequestDto productRequestDto = new ProductRequestDto(1, "Grapes", 100,
+        ProductRequestDto productRequestDto = new ProductRequestDto(1, "Grapes", Money.ofMinor(10000),
                 "kg",1,1, "pic");
         Product product = ProductMapper.toProduct(productRequestDto);
         Category category = new Category();
@@ -75,8 +76,8 @@ public class ProductServiceTest {
     @Order(4)
     public void test_updateProduct() throws ExistedException, NotFoundException {
         ProductRequestDto productRequestDto = new ProductRequestDto(1, "PineApple",
-                150, "kg", 1, 1, "pic");
-        Product product = new Product(1, "apple", 100, true, null,
+                Money.ofMinor(15000), "kg", 1, 1, "pic");
+        Product product = new Product(1, "apple", Money.ofMinor(10000), true, null,
                 "kg", 1, "pic");
         product.setName(productRequestDto.getName());
         when(productRepo.findByIdAndIsActive(1, true)).thenReturn(product);
@@ -87,7 +88,7 @@ public class ProductServiceTest {
     @Test
     @Order(5)
     public void test_deleteProduct() throws NotFoundException {
-        Product product = new Product(1, "apple", 100, true, null, "kg",
+        Product product = new Product(1, "apple", Money.ofMinor(10000), true, null, "kg",
                 1, "pic");
         product.setActive(false);
         when(productRepo.findByIdAndIsActive(2, true)).thenReturn(product);
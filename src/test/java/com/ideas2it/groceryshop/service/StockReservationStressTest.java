@@ -0,0 +1,145 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ideas2it.groceryshop.cache.StockCounters;
+import com.ideas2it.groceryshop.exception.OutOfStockException;
+import com.ideas2it.groceryshop.repository.StockRepositoryImpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ *     This is stock reservation stress Test Class used to prove that
+ *     concurrent orders never reserve more stock than available, with
+ *     database guarded decrements and with in-memory stock counters.
+ * </p>
+ *
+ * @author Mohammed Ammar
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class StockReservationStressTest {
+
+    private static final int LOCATION_ID = 1;
+    private static final int INITIAL_STOCK = 500;
+    private static final int PRODUCTS = 3;
+    private static final int THREADS = 16;
+    private static final int ORDERS_PER_THREAD = 100;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:stock_stress;MODE=MySQL;"
+                + "LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE stock (id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "available_stock INT NOT NULL, product_id INT, location_id INT)");
+        for (int productId = 1; productId <= PRODUCTS; productId++) {
+            jdbcTemplate.update("INSERT INTO stock (available_stock, product_id, location_id) "
+                    + "VALUES (?, ?, ?)", INITIAL_STOCK, productId, LOCATION_ID);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE stock");
+    }
+
+    @Test
+    public void testGuardedReservationNeverOversells() throws Exception {
+        StockRepositoryImpl stockRepository = new StockRepositoryImpl(jdbcTemplate);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(dataSource));
+        AtomicIntegerArray reserved = new AtomicIntegerArray(PRODUCTS + 1);
+        runConcurrently(order -> transactionTemplate.execute(status -> {
+            try {
+                stockRepository.reserveStocksByLocation(LOCATION_ID, order);
+                return true;
+            } catch (OutOfStockException outOfStockException) {
+                status.setRollbackOnly();
+                return false;
+            }
+        }), reserved);
+        for (int productId = 1; productId <= PRODUCTS; productId++) {
+            Integer available = jdbcTemplate.queryForObject("SELECT available_stock FROM stock "
+                    + "WHERE product_id = ?", Integer.class, productId);
+            assertTrue(available >= 0);
+            assertEquals(INITIAL_STOCK, available + reserved.get(productId));
+        }
+    }
+
+    @Test
+    public void testCountersNeverOversell() throws Exception {
+        StockCounters stockCounters = new StockCounters(true,
+                (locationId, productId) -> INITIAL_STOCK);
+        AtomicIntegerArray reserved = new AtomicIntegerArray(PRODUCTS + 1);
+        runConcurrently(order -> stockCounters.tryReserve(LOCATION_ID, order).isEmpty(),
+                reserved);
+        for (int productId = 1; productId <= PRODUCTS; productId++) {
+            assertTrue(reserved.get(productId) <= INITIAL_STOCK);
+            List<Integer> unavailable = stockCounters.tryReserve(LOCATION_ID,
+                    Map.of(productId, INITIAL_STOCK - reserved.get(productId) + 1));
+            assertEquals(List.of(productId), unavailable);
+        }
+    }
+
+    /**
+     * <p>
+     *     Places random multi line orders from many threads, sums quantity
+     *     of every order which is reserved.
+     * </p>
+     */
+    private void runConcurrently(Reservation reservation, AtomicIntegerArray reserved)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            Callable<Void> task = () -> {
+                for (int count = 0; count < ORDERS_PER_THREAD; count++) {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    Map<Integer, Integer> order = random.nextBoolean()
+                            ? Map.of(1, random.nextInt(1, 5), 2, random.nextInt(1, 5))
+                            : Map.of(3, random.nextInt(1, 5), 1, random.nextInt(1, 5));
+                    if (reservation.reserve(order)) {
+                        order.forEach(reserved::addAndGet);
+                    }
+                }
+                return null;
+            };
+            futures.add(executor.submit(task));
+        }
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+    }
+
+    private interface Reservation {
+        boolean reserve(Map<Integer, Integer> order);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.util;
+
+import java.text.ParseException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * <p>
+ *     This is PageCursor Test Class used to test encoding and
+ *     decoding of page cursor tokens.
+ * </p>
+ *
+ * @author Dhanalakshmi M
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class PageCursorTest {
+
+    @Test
+    public void testCursorRoundTrip() throws ParseException {
+        assertEquals(1234, PageCursor.decode(PageCursor.encode(1234)));
+    }
+
+    @Test
+    public void testFirstPageStartsAfterLargestId() throws ParseException {
+        assertEquals(Integer.MAX_VALUE, PageCursor.decode(null));
+        assertEquals(Integer.MAX_VALUE, PageCursor.decode(""));
+    }
+
+    @Test
+    public void testInvalidCursorIsRejected() {
+        assertThrows(ParseException.class, () -> PageCursor.decode("not a cursor"));
+        assertThrows(ParseException.class, () -> PageCursor.decode("MTIz"));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * <p>
+ *   Copyright (c) All rights reserved Ideas2IT
+ * </p>
+ */
+package com.ideas2it.groceryshop.util;
+
+import java.util.Date;
+import java.util.List;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.ideas2it.groceryshop.cache.TokenRevocationList;
+import com.ideas2it.groceryshop.configuration.CustomUserDetails;
+import com.ideas2it.groceryshop.model.Role;
+import com.ideas2it.groceryshop.model.User;
+import com.ideas2it.groceryshop.repository.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ *     This is SecurityUtil Test Class used to test token
+ *     generation, verification and stateless principal.
+ * </p>
+ *
+ * @author Rohit A P
+ * @since 17-10-2026
+ * @version 1.0
+ */
+public class SecurityUtilTest {
+
+    private UserRepository userRepository;
+    private TokenRevocationList tokenRevocationList;
+    private SecurityUtil securityUtil;
+    private CustomUserDetails userDetails;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository = mock(UserRepository.class);
+        tokenRevocationList = new TokenRevocationList(userRepository, true, 3600, 60000);
+        securityUtil = new SecurityUtil("c2VjcmV0X2tleQ==", 3600, 100,
+                tokenRevocationList, new SimpleMeterRegistry());
+        Role role = new Role();
+        role.setName("ROLE_CUSTOMER");
+        User user = new User();
+        user.setId(7);
+        user.setUserName("rohit");
+        user.setRole(role);
+        userDetails = new CustomUserDetails(user);
+    }
+
+    @Test
+    public void testParseTokenReturnsVerifiedClaims() {
+        String token = securityUtil.generateToken(userDetails);
+        Claims claims = securityUtil.parseToken(token);
+        assertEquals("rohit", claims.getSubject());
+        assertNotNull(claims.getExpiration());
+        assertTrue(securityUtil.validateToken(claims, userDetails));
+        assertSame(claims, securityUtil.parseToken(token));
+    }
+
+    @Test
+    public void testParseTokenRejectsTamperedToken() {
+        String token = securityUtil.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+        assertThrows(SignatureException.class, () -> securityUtil.parseToken(tampered));
+    }
+
+    @Test
+    public void testPrincipalFromClaims() {
+        Claims claims = securityUtil.parseToken(securityUtil.generateToken(userDetails));
+        CustomUserDetails principal = securityUtil.getPrincipalFromClaims(claims);
+        assertEquals(7, principal.getUserId());
+        assertEquals("rohit", principal.getUsername());
+        assertEquals("ROLE_CUSTOMER", principal.getAuthorities().iterator().next().getAuthority());
+        assertNull(principal.getUser());
+    }
+
+    @Test
+    public void testRevokedTokenHasNoPrincipal() {
+        Claims claims = securityUtil.parseToken(securityUtil.generateToken(userDetails));
+        when(userRepository.findTokenVersionById(7)).thenReturn(1);
+        tokenRevocationList.revokeUser(7);
+        verify(userRepository).incrementTokenVersionById(eq(7), any(Date.class));
+        assertNull(securityUtil.getPrincipalFromClaims(claims));
+        Claims newClaims = securityUtil.parseToken(securityUtil.generateToken(userDetails));
+        assertNotNull(securityUtil.getPrincipalFromClaims(newClaims));
+        when(userRepository.findTokenVersionsUpdatedSince(any(Date.class)))
+                .thenReturn(List.<Object[]>of(new Object[] {7, 2, new Date()}));
+        tokenRevocationList.revokeRole(3);
+        verify(userRepository).incrementTokenVersionsByRoleId(eq(3), any(Date.class));
+        assertNull(securityUtil.getPrincipalFromClaims(newClaims));
+    }
+
+    @Test
+    public void testRevocationIsLoadedFromStoredVersions() {
+        Claims claims = securityUtil.parseToken(securityUtil.generateToken(userDetails));
+        when(userRepository.findTokenVersionsUpdatedSince(any(Date.class)))
+                .thenReturn(List.<Object[]>of(new Object[] {7, 1, new Date()}));
+        TokenRevocationList restarted = new TokenRevocationList(userRepository, true, 3600, 60000);
+        SecurityUtil restartedUtil = new SecurityUtil("c2VjcmV0X2tleQ==", 3600, 100,
+                restarted, new SimpleMeterRegistry());
+        assertNull(restartedUtil.getPrincipalFromClaims(claims));
+    }
+
+    @Test
+    public void testRefreshLoadsOnlyRecentRevocations() {
+        long now = System.currentTimeMillis();
+        when(userRepository.findTokenVersionsUpdatedSince(any(Date.class)))
+                .thenReturn(List.<Object[]>of(new Object[] {7, 1, new Date(now - 7200000)}));
+        tokenRevocationList.refresh();
+        ArgumentCaptor<Date> since = ArgumentCaptor.forClass(Date.class);
+        verify(userRepository).findTokenVersionsUpdatedSince(since.capture());
+        assertTrue(since.getValue().getTime() >= now - 3600000);
+        assertEquals(0, tokenRevocationList.getUserVersion(7));
+        tokenRevocationList.refresh();
+        verify(userRepository, times(2)).findTokenVersionsUpdatedSince(since.capture());
+        assertTrue(since.getValue().getTime() >= now - 60000);
+    }
+
+    @Test
+    public void testVersionsAreNotLoadedInStatefulMode() {
+        TokenRevocationList stateful = new TokenRevocationList(userRepository, false, 3600, 60000);
+        stateful.refresh();
+        assertEquals(0, stateful.getUserVersion(7));
+        stateful.revokeUser(7);
+        verify(userRepository).incrementTokenVersionById(eq(7), any(Date.class));
+        verify(userRepository, never()).findTokenVersionById(any());
+        verify(userRepository, never()).findTokenVersionsUpdatedSince(any());
+    }
+}